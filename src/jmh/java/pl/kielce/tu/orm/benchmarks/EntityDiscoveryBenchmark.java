@@ -0,0 +1,36 @@
+package pl.kielce.tu.orm.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.kielce.tu.orm.classloader.EntitiesClassLoader;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup cost of entity discovery, measured cold: the per-package cache is cleared before every scan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityDiscoveryBenchmark {
+    @Param({"pl.kielce.tu.orm.entities", "pl.kielce.tu.orm"})
+    private String packageName;
+
+    @Benchmark
+    public Set<Class<?>> findEntities() {
+        EntitiesClassLoader.clearCache();
+        return new EntitiesClassLoader().findEntities(packageName);
+    }
+}
@@ -0,0 +1,82 @@
+package pl.kielce.tu.orm.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.kielce.tu.orm.connector.DatabaseConnector;
+import pl.kielce.tu.orm.entities.User;
+import pl.kielce.tu.orm.metrics.InstrumentedConnection;
+import pl.kielce.tu.orm.repository.impl.CrudRepositoryImpl;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client side cost of {@code save}: SQL generation, reflective reads and parameter binding. The repository runs
+ * against a stub connection bound to the benchmark thread, so no database time is included. With
+ * {@code instrumented} the connection is wrapped the way pooled connections are when metrics, the query log or
+ * JFR events are on.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParameterBindingBenchmark {
+    @Param({"false", "true"})
+    private boolean instrumented;
+
+    private CrudRepositoryImpl<User, Long> repository;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        ResultSet emptyResultSet = stub(ResultSet.class, (method, args) -> false);
+        PreparedStatement statement = stub(PreparedStatement.class, (method, args) -> switch (method) {
+            case "executeUpdate" -> 1;
+            case "getGeneratedKeys" -> emptyResultSet;
+            default -> null;
+        });
+        Connection connection = stub(Connection.class, (method, args) -> switch (method) {
+            case "prepareStatement" -> statement;
+            case "getAutoCommit" -> true;
+            default -> null;
+        });
+
+        DatabaseConnector.getInstance().bindConnection(instrumented ? InstrumentedConnection.wrap(connection) : connection);
+        repository = new CrudRepositoryImpl<>(User.class);
+        user = new User(null, "John", "john@example.com", "secret");
+    }
+
+    @TearDown
+    public void tearDown() {
+        DatabaseConnector.getInstance().unbindConnection();
+    }
+
+    @Benchmark
+    public User save() {
+        return repository.save(user);
+    }
+
+    private interface StubHandler {
+        Object handle(String method, Object[] args);
+    }
+
+    private static <S> S stub(Class<S> type, StubHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+                (proxy, method, args) -> handler.handle(method.getName(), args)));
+    }
+}
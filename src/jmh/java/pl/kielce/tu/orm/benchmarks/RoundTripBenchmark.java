@@ -0,0 +1,98 @@
+package pl.kielce.tu.orm.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.kielce.tu.orm.benchmarks.entities.BenchmarkItem;
+import pl.kielce.tu.orm.config.ORMConfiguration;
+import pl.kielce.tu.orm.dialects.H2Dialect;
+import pl.kielce.tu.orm.dialects.PostgreSQLDialect;
+import pl.kielce.tu.orm.initializer.DatabaseInitializer;
+import pl.kielce.tu.orm.repository.impl.CrudRepositoryImpl;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository round-trips against a database configured with the {@code orm.benchmark.url},
+ * {@code orm.benchmark.username} and {@code orm.benchmark.password} system properties. By default the benchmark
+ * runs in-process against H2; a {@code jdbc:postgresql:} URL measures a real PostgreSQL server.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoundTripBenchmark {
+    private static final String URL = System.getProperty("orm.benchmark.url",
+            "jdbc:h2:mem:orm_bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+    private static final String USERNAME = System.getProperty("orm.benchmark.username", "sa");
+    private static final String PASSWORD = System.getProperty("orm.benchmark.password", "");
+    private static final boolean POSTGRESQL = URL.startsWith("jdbc:postgresql:");
+
+    @Param({"100", "1000"})
+    private int rows;
+
+    private CrudRepositoryImpl<BenchmarkItem, Long> repository;
+    private List<Long> ids;
+
+    @Setup
+    public void setUp() {
+        try (Connection ignored = DriverManager.getConnection(URL, USERNAME, PASSWORD)) {
+            // fail fast with a readable message instead of the connector's exit on a missing server
+        } catch (SQLException e) {
+            throw new IllegalStateException("Database is not available at " + URL, e);
+        }
+
+        ORMConfiguration.getInstance().addProperty("entitiesPackage", BenchmarkItem.class.getPackageName());
+        DatabaseInitializer.initialize(URL, USERNAME, PASSWORD, POSTGRESQL ? "org.postgresql.Driver" : "org.h2.Driver",
+                POSTGRESQL ? new PostgreSQLDialect() : new H2Dialect());
+
+        repository = new CrudRepositoryImpl<>(BenchmarkItem.class);
+        repository.deleteAll();
+
+        List<BenchmarkItem> items = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            items.add(new BenchmarkItem(null, "item-" + i, i));
+        }
+        ids = repository.saveAll(items).stream()
+                .map(BenchmarkItem::getId)
+                .toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Benchmark
+    public BenchmarkItem save() {
+        return repository.save(new BenchmarkItem(null, "saved", 1));
+    }
+
+    @Benchmark
+    public Optional<BenchmarkItem> findById() {
+        return repository.findById(ids.get(ThreadLocalRandom.current().nextInt(ids.size())));
+    }
+
+    @Benchmark
+    public List<BenchmarkItem> findAll() {
+        return repository.findAll();
+    }
+}
@@ -0,0 +1,84 @@
+package pl.kielce.tu.orm.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.kielce.tu.orm.entities.User;
+import pl.kielce.tu.orm.mapping.EntityMapping;
+import pl.kielce.tu.orm.sql.SQLGenerator;
+import pl.kielce.tu.orm.sql.SQLNamesHelper;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares hydrating a row by column name (driver side name lookup for every field) with the positional
+ * hydration of {@link EntityMapping}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowHydrationBenchmark {
+    private ResultSet resultSet;
+    private EntityMapping<User> entityMapping;
+    private List<Field> fields;
+
+    @Setup
+    public void setUp() {
+        Object[] row = {1L, "John", "john@example.com", "secret"};
+        Map<String, Integer> columnIndexes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        columnIndexes.put("id", 1);
+        columnIndexes.put("name", 2);
+        columnIndexes.put("email", 3);
+        columnIndexes.put("password", 4);
+
+        resultSet = (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("wasNull")) {
+                        return false;
+                    }
+                    int index = args[0] instanceof String columnName ? columnIndexes.get(columnName) : (Integer) args[0];
+                    return row[index - 1];
+                });
+
+        entityMapping = EntityMapping.of(User.class);
+        fields = SQLGenerator.getFields(User.class);
+    }
+
+    @Benchmark
+    public User hydrateByColumnName() throws Exception {
+        User user = new User();
+
+        for (Field field : fields) {
+            field.setAccessible(true);
+            String columnName = new SQLNamesHelper(User.class.getName()).getColumnName(field, "");
+            Object value = resultSet.getObject(columnName);
+
+            if (value != null) {
+                field.set(user, value);
+            }
+        }
+
+        return user;
+    }
+
+    @Benchmark
+    public User hydrateByColumnIndex() throws Exception {
+        return entityMapping.newInstance(resultSet);
+    }
+}
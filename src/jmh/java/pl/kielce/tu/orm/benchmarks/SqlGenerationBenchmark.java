@@ -0,0 +1,88 @@
+package pl.kielce.tu.orm.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import pl.kielce.tu.orm.annotations.Entity;
+import pl.kielce.tu.orm.sql.SQLGenerator;
+import pl.kielce.tu.orm.sql.SQLNamesHelper;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL statements generated per repository call for the sample entities.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SqlGenerationBenchmark {
+    @Param({"User", "Invoice", "Product"})
+    private String entityName;
+
+    private Object entity;
+    private String tableName;
+    private List<Field> fields;
+    private Field idField;
+    private SQLNamesHelper sqlNamesHelper;
+
+    @Setup
+    public void setUp() throws Exception {
+        Class<?> entityClass = Class.forName("pl.kielce.tu.orm.entities." + entityName);
+        Entity entityAnnotation = entityClass.getAnnotation(Entity.class);
+
+        entity = entityClass.getDeclaredConstructor().newInstance();
+        tableName = new SQLNamesHelper(entityClass.getName()).getTableName(entityClass, entityAnnotation.name());
+        fields = SQLGenerator.getFields(entityClass);
+        idField = SQLGenerator.getIdField(entityClass);
+        sqlNamesHelper = new SQLNamesHelper(entityClass.getName());
+
+        for (Field field : fields) {
+            field.setAccessible(true);
+            if (field.getType() == String.class) {
+                field.set(entity, "value");
+            } else if (field.getType() == Integer.class) {
+                field.set(entity, 1);
+            }
+        }
+    }
+
+    @Benchmark
+    public String insertSQL() {
+        return SQLGenerator.generateInsertSQL(entity, tableName, fields);
+    }
+
+    @Benchmark
+    public String updateSQL() {
+        return SQLGenerator.generateUpdateSQL(tableName, fields, idField);
+    }
+
+    @Benchmark
+    public String selectByIdSQL() {
+        return SQLGenerator.generateSelectByIdSQL(tableName, fields, idField);
+    }
+
+    /**
+     * Name resolution runs per field for every generated statement; run with {@code -prof gc} to see its
+     * allocation rate.
+     */
+    @Benchmark
+    public void columnNames(Blackhole blackhole) {
+        for (Field field : fields) {
+            blackhole.consume(sqlNamesHelper.getColumnName(field, ""));
+        }
+    }
+}
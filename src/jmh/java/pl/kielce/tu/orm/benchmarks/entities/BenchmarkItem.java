@@ -0,0 +1,36 @@
+package pl.kielce.tu.orm.benchmarks.entities;
+
+import pl.kielce.tu.orm.annotations.Entity;
+import pl.kielce.tu.orm.annotations.Id;
+
+@Entity
+public class BenchmarkItem {
+    @Id
+    private Long id;
+    private String name;
+    private Integer quantity;
+
+    public BenchmarkItem() {}
+
+    public BenchmarkItem(Long id, String name, Integer quantity) {
+        this.id = id;
+        this.name = name;
+        this.quantity = quantity;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+}
@@ -11,4 +11,10 @@ public @interface Column {
     String name() default "";
     boolean unique() default false;
     boolean nullable() default false;
+
+    /**
+     * SQL expression used as the column default, e.g. {@code "0"} or {@code "'active'"}. A default lets a
+     * {@code NOT NULL} column be added to a table that already has rows.
+     */
+    String defaultValue() default "";
 }
@@ -0,0 +1,12 @@
+package pl.kielce.tu.orm.annotations;
+
+public enum EnumType {
+    /**
+     * The constant's ordinal in a smallint column.
+     */
+    ORDINAL,
+    /**
+     * The constant's name in a text column, which survives reordering of the constants.
+     */
+    STRING
+}
@@ -0,0 +1,15 @@
+package pl.kielce.tu.orm.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Chooses how an enum field is stored. Enums without this annotation are stored by ordinal.
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Enumerated {
+    EnumType value() default EnumType.ORDINAL;
+}
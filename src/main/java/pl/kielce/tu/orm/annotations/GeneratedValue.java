@@ -0,0 +1,18 @@
+package pl.kielce.tu.orm.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface GeneratedValue {
+    Strategy strategy() default Strategy.IDENTITY;
+    String sequenceName() default "";
+    int allocationSize() default 50;
+
+    enum Strategy {
+        IDENTITY, SEQUENCE
+    }
+}
@@ -0,0 +1,22 @@
+package pl.kielce.tu.orm.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Repeatable(Indexes.class)
+public @interface Index {
+    String name() default "";
+    String[] columns();
+    boolean unique() default false;
+    String where() default "";
+    Method method() default Method.BTREE;
+
+    enum Method {
+        BTREE, HASH, BRIN, GIN
+    }
+}
@@ -0,0 +1,15 @@
+package pl.kielce.tu.orm.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Stores a {@link pl.kielce.tu.orm.json.JsonDocument} or a String holding JSON in the dialect's JSON column type,
+ * {@code jsonb} on PostgreSQL. Documents can be queried with {@code CrudRepository.findAllByJsonPath}.
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Json {
+}
@@ -0,0 +1,16 @@
+package pl.kielce.tu.orm.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Large binary ({@code InputStream}) or character ({@code Reader}) column. It is left out of entity queries and
+ * streamed from the database on first read, and it is written with the JDBC stream setters. On PostgreSQL a binary
+ * value is stored as {@code bytea}, which the driver materializes in memory when it is read.
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Lob {
+}
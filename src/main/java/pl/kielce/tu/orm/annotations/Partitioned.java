@@ -0,0 +1,32 @@
+package pl.kielce.tu.orm.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The partition key becomes part of the primary key, so other entities cannot reference a partitioned entity
+ * through {@code @OneToOne}, {@code @ManyToOne} or {@code @ManyToMany}.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Partitioned {
+    Strategy by() default Strategy.RANGE;
+
+    /**
+     * Name of the entity property holding the partition key, the same name {@code findAllInRange} takes.
+     */
+    String property();
+    Interval interval() default Interval.MONTH;
+    int partitions() default 4;
+    int premake() default 3;
+
+    enum Strategy {
+        RANGE, LIST, HASH
+    }
+
+    enum Interval {
+        DAY, WEEK, MONTH, YEAR
+    }
+}
@@ -4,14 +4,26 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pl.kielce.tu.orm.annotations.Column;
 import pl.kielce.tu.orm.annotations.ManyToMany;
+import pl.kielce.tu.orm.annotations.ManyToOne;
+import pl.kielce.tu.orm.annotations.OneToOne;
+import pl.kielce.tu.orm.annotations.Partitioned;
 import pl.kielce.tu.orm.cache.EntitiesWithFK;
 import pl.kielce.tu.orm.cache.ManyToManyTables;
+import pl.kielce.tu.orm.definitions.ColumnDefinition;
 import pl.kielce.tu.orm.dialects.SQLDialect;
 import pl.kielce.tu.orm.exceptions.UnknownTypeException;
+import pl.kielce.tu.orm.id.IdGenerators;
+import pl.kielce.tu.orm.mapping.IdMapping;
 import pl.kielce.tu.orm.sql.SQLAnnotationsHelper;
+import pl.kielce.tu.orm.sql.SQLGenerator;
 import pl.kielce.tu.orm.sql.SQLNamesHelper;
+import pl.kielce.tu.orm.types.TypeHandlers;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.StringJoiner;
 
 public class DatabaseColumnCreator {
     private static final Logger log = LoggerFactory.getLogger(DatabaseColumnCreator.class);
@@ -30,70 +42,113 @@ public class DatabaseColumnCreator {
     }
 
     public String getSQLStatement() throws ClassNotFoundException {
+        StringBuilder query = new StringBuilder();
+
+        for (ColumnDefinition column : getColumnDefinitions()) {
+            query.append("\t")
+                    .append(column.name())
+                    .append(" ")
+                    .append(column.definition())
+                    .append(",\n");
+        }
+
+        return query.toString();
+    }
+
+    public List<ColumnDefinition> getColumnDefinitions() throws ClassNotFoundException {
         Class<?> entityClass = Class.forName(className);
         Field[] fields = entityClass.getDeclaredFields();
 
-        StringBuilder query = new StringBuilder();
-
+        List<ColumnDefinition> columns = new ArrayList<>();
         for (Field field : fields) {
-            query.append(getColumnDeclaration(field));
+            getColumnDefinition(field).ifPresent(columns::add);
         }
 
-        return query.toString();
+        return columns;
     }
 
-    private String getColumnDeclaration(Field field) {
+    private Optional<ColumnDefinition> getColumnDefinition(Field field) {
         Column columnAnnotation = field.getAnnotation(Column.class);
 
         if (columnAnnotation == null) {
-            log.info("No @Column annotation found for field: {}. Use default values", field.getName());
+            log.debug("No @Column annotation found for field: {}. Use default values", field.getName());
         }
 
         String columnName = sqlNamesHelper.getColumnName(field, columnAnnotation != null ? columnAnnotation.name() :
                 "");
 
-        StringBuilder column = new StringBuilder();
         try {
             if (SQLAnnotationsHelper.hasIdAnnotation(field)) {
-                column.append("\t")
-                        .append(columnName);
-                addIdColumn(column);
+                return Optional.of(new ColumnDefinition(columnName, getIdDefinition(field)));
             } else if (SQLAnnotationsHelper.hasForeignTableAnnotation(field)) {
-                addColumnWithForeignKey(field, column, columnName);
+                return getColumnWithForeignKey(field, columnName);
+            } else if (SQLAnnotationsHelper.hasOneToManyAnnotation(field)) {
+                return Optional.empty();
             } else {
-                column.append("\t")
-                        .append(columnName);
-                addColumnSQLDefinition(field, column, columnAnnotation);
+                return Optional.of(new ColumnDefinition(columnName, getColumnSQLDefinition(field, columnAnnotation)));
             }
         } catch (UnknownTypeException e) {
-            log.info("Unknown type for field: {}. Start custom data type processing", field.getName());
-            return "";
+            throw new IllegalStateException("No column type for field " + field.getName() + " of " + className +
+                    ", register a TypeHandler for " + field.getType().getName(), e);
         }
-
-        return column.toString();
     }
 
-    private void addIdColumn(StringBuilder column) {
-        column.append(" ")
-                .append(dialect.identity())
-                .append(",\n");
+    /**
+     * Composite and partitioned tables declare the primary key as a separate table constraint.
+     */
+    private String getIdDefinition(Field field) throws UnknownTypeException {
+        Class<?> entityClass = field.getDeclaringClass();
+        boolean tablePrimaryKey = IdMapping.isComposite(entityClass) || entityClass.isAnnotationPresent(Partitioned.class);
+
+        if (tablePrimaryKey) {
+            String type = IdMapping.isComposite(entityClass) || IdGenerators.isAssigned(field)
+                    ? dialect.dataType(field.getType())
+                    : dialect.identityType();
+            return type + " " + dialect.notNull();
+        }
+
+        return IdGenerators.isAssigned(field) ? dialect.assignedIdentity(field.getType()) : dialect.identity();
     }
 
-    private void addColumnWithForeignKey(Field field, StringBuilder column, String columnName) throws UnknownTypeException {
+    private Optional<ColumnDefinition> getColumnWithForeignKey(Field field, String columnName) throws UnknownTypeException {
         ManyToMany manyToManyAnnotation = field.getAnnotation(ManyToMany.class);
         if (manyToManyAnnotation != null) {
+            rejectPartitionedReference(field, field.getDeclaringClass());
+            rejectPartitionedReference(field, manyToManyAnnotation.entity());
             addManyToManyTableToCache(manyToManyAnnotation);
-            return;
+            return Optional.empty();
         }
 
+        rejectPartitionedReference(field, getReferencedEntity(field));
         entitiesWithFK.addEntity(className);
-        column.append("\t")
-                .append(columnName)
-                .append(" ")
-                .append(dialect.dataType(Long.class))
-                .append(SQLAnnotationsHelper.hasOneToOneAnnotation(field) ? " " + dialect.uniqueConstraint() : "")
-                .append(SQLAnnotationsHelper.hasOneToOneAnnotation(field) ? "" : " " + dialect.notNull())
-                .append(",\n");
+        String definition = dialect.dataType(getReferencedIdType(field)) + " " +
+                (SQLAnnotationsHelper.hasOneToOneAnnotation(field) ? dialect.uniqueConstraint() : dialect.notNull());
+
+        return Optional.of(new ColumnDefinition(columnName, definition));
+    }
+
+    private Class<?> getReferencedIdType(Field field) {
+        Class<?> referencedEntity = getReferencedEntity(field);
+
+        return referencedEntity == Void.class ? Long.class : SQLGenerator.getIdField(referencedEntity).getType();
+    }
+
+    private Class<?> getReferencedEntity(Field field) {
+        OneToOne oneToOneAnnotation = field.getAnnotation(OneToOne.class);
+        ManyToOne manyToOneAnnotation = field.getAnnotation(ManyToOne.class);
+
+        return oneToOneAnnotation != null ? oneToOneAnnotation.entity() : manyToOneAnnotation.entity();
+    }
+
+    /**
+     * A partitioned table's primary key includes the partition key, so a foreign key to its id alone is rejected by
+     * the database.
+     */
+    private void rejectPartitionedReference(Field field, Class<?> entityClass) {
+        if (entityClass.isAnnotationPresent(Partitioned.class)) {
+            throw new IllegalStateException("Field " + field.getName() + " of " + className + " references partitioned entity " +
+                    entityClass.getName() + ", relationships to @Partitioned entities are not supported");
+        }
     }
 
     private void addManyToManyTableToCache(ManyToMany manyToManyAnnotation) {
@@ -104,12 +159,20 @@ public class DatabaseColumnCreator {
         }
     }
 
-    private void addColumnSQLDefinition(Field field, StringBuilder column, Column columnAnnotation) throws UnknownTypeException {
-        column.append(" ")
-                .append(dialect.dataType(field.getType()))
-                .append(" ")
-                .append(columnAnnotation != null && columnAnnotation.nullable() ? "" : dialect.notNull())
-                .append(columnAnnotation != null && columnAnnotation.unique() ? dialect.uniqueConstraint() : "")
-                .append(",\n");
+    private String getColumnSQLDefinition(Field field, Column columnAnnotation) throws UnknownTypeException {
+        StringJoiner definition = new StringJoiner(" ");
+        definition.add(TypeHandlers.forField(field).columnType(dialect));
+
+        if (columnAnnotation != null && !columnAnnotation.defaultValue().isEmpty()) {
+            definition.add("DEFAULT " + columnAnnotation.defaultValue());
+        }
+        if (columnAnnotation == null || !columnAnnotation.nullable()) {
+            definition.add(dialect.notNull());
+        }
+        if (columnAnnotation != null && columnAnnotation.unique()) {
+            definition.add(dialect.uniqueConstraint());
+        }
+
+        return definition.toString();
     }
 }
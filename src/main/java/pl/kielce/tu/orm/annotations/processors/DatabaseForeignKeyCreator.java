@@ -3,12 +3,15 @@ package pl.kielce.tu.orm.annotations.processors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pl.kielce.tu.orm.annotations.*;
+import pl.kielce.tu.orm.definitions.ConstraintDefinition;
 import pl.kielce.tu.orm.dialects.PostgreSQLDialect;
 import pl.kielce.tu.orm.dialects.SQLDialect;
 import pl.kielce.tu.orm.sql.SQLAnnotationsHelper;
 import pl.kielce.tu.orm.sql.SQLNamesHelper;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 public class DatabaseForeignKeyCreator {
@@ -28,6 +31,23 @@ public class DatabaseForeignKeyCreator {
     }
 
     public String getSQLStatement() throws ClassNotFoundException {
+        return String.join("\n", getSQLStatements());
+    }
+
+    public List<String> getSQLStatements() throws ClassNotFoundException {
+        return getConstraintDefinitions().stream()
+                .map(ConstraintDefinition::statement)
+                .toList();
+    }
+
+    /**
+     * Empty when the dialect cannot add foreign key constraints.
+     */
+    public List<ConstraintDefinition> getConstraintDefinitions() throws ClassNotFoundException {
+        if (!dialect.supportsForeignKeyConstraints()) {
+            return List.of();
+        }
+
         Class<?> entityClass = Class.forName(className);
         Entity entityAnnotation = entityClass.getAnnotation(Entity.class);
 
@@ -36,25 +56,24 @@ public class DatabaseForeignKeyCreator {
             throw new IllegalStateException("No @Entity annotation found for class: " + className);
         }
 
-        StringBuilder statement = new StringBuilder();
+        List<ConstraintDefinition> constraints = new ArrayList<>();
         String tableName = sqlNamesHelper.getTableName(entityClass, entityAnnotation.name());
         Field[] fields = entityClass.getDeclaredFields();
 
         for (Field field : fields) {
-            if (SQLAnnotationsHelper.hasForeignTableAnnotation(field)) {
-                statement.append(getForeignKeyConstraint(field, tableName))
-                         .append("\n");
+            if (SQLAnnotationsHelper.hasForeignTableAnnotation(field) && !SQLAnnotationsHelper.hasManyToManyAnnotation(field)) {
+                constraints.add(getForeignKeyConstraint(field, tableName));
             }
         }
 
-        return statement.substring(0, statement.length() - 1);
+        return constraints;
     }
 
-    private String getForeignKeyConstraint(Field field, String tableName) {
+    private ConstraintDefinition getForeignKeyConstraint(Field field, String tableName) {
         Column columnAnnotation = field.getAnnotation(Column.class);
 
         if (columnAnnotation == null) {
-            log.info("No @Column annotation found for field: {}. Use default values", field.getName());
+            log.debug("No @Column annotation found for field: {}. Use default values", field.getName());
         }
 
         Class<?> childEntityClass = getChildEntityClass(field);
@@ -69,7 +88,8 @@ public class DatabaseForeignKeyCreator {
         String foreignTableName = sqlNamesHelper.getTableName(childEntityClass, childEntityAnnotation.name());
         String constraintName = "fk_" + tableName.toLowerCase() + "_" + columnName.toLowerCase();
 
-        return dialect.addConstraint(tableName, constraintName, columnName, foreignTableName, "id");
+        return new ConstraintDefinition(tableName, constraintName,
+                dialect.addConstraint(tableName, constraintName, columnName, foreignTableName, "id"));
     }
 
     private Class<?> getChildEntityClass(Field field) {
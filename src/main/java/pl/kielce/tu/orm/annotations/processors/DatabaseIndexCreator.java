@@ -0,0 +1,98 @@
+package pl.kielce.tu.orm.annotations.processors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pl.kielce.tu.orm.annotations.Column;
+import pl.kielce.tu.orm.annotations.Entity;
+import pl.kielce.tu.orm.annotations.Index;
+import pl.kielce.tu.orm.definitions.IndexDefinition;
+import pl.kielce.tu.orm.dialects.PostgreSQLDialect;
+import pl.kielce.tu.orm.dialects.SQLDialect;
+import pl.kielce.tu.orm.sql.SQLAnnotationsHelper;
+import pl.kielce.tu.orm.sql.SQLNamesHelper;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Generates CREATE INDEX statements for {@link Index} declarations of an entity.
+ * Columns of {@code @ManyToOne} relationships are indexed automatically, {@code @OneToOne} columns are
+ * already covered by their UNIQUE constraint.
+ */
+public class DatabaseIndexCreator {
+    private static final Logger log = LoggerFactory.getLogger(DatabaseIndexCreator.class);
+    private final String className;
+    private final SQLDialect dialect;
+    private final SQLNamesHelper sqlNamesHelper;
+
+    public DatabaseIndexCreator(String className) {
+        this(className, new PostgreSQLDialect());
+    }
+
+    public DatabaseIndexCreator(String className, SQLDialect dialect) {
+        this.className = className;
+        this.dialect = dialect;
+        this.sqlNamesHelper = new SQLNamesHelper(className);
+    }
+
+    public List<String> getSQLStatements(boolean concurrently) throws ClassNotFoundException {
+        return getIndexDefinitions().stream()
+                .map(index -> dialect.createIndex(index, concurrently))
+                .toList();
+    }
+
+    public List<IndexDefinition> getIndexDefinitions() throws ClassNotFoundException {
+        Class<?> entityClass = Class.forName(className);
+        Entity entityAnnotation = entityClass.getAnnotation(Entity.class);
+
+        if (entityAnnotation == null) {
+            log.error("No @Entity annotation found for class: {}", className);
+            throw new IllegalStateException("No @Entity annotation found for class: " + className);
+        }
+
+        String tableName = sqlNamesHelper.getTableName(entityClass, entityAnnotation.name());
+        List<IndexDefinition> indexes = new ArrayList<>();
+
+        for (Index index : entityClass.getAnnotationsByType(Index.class)) {
+            indexes.add(toIndexDefinition(tableName, index));
+        }
+
+        for (Field field : entityClass.getDeclaredFields()) {
+            if (SQLAnnotationsHelper.hasManyToOneAnnotation(field)) {
+                Column columnAnnotation = field.getAnnotation(Column.class);
+                String columnName = sqlNamesHelper.getColumnName(field, columnAnnotation != null ? columnAnnotation.name() : "");
+                indexes.add(foreignKeyIndex(tableName, columnName));
+            }
+        }
+
+        return indexes;
+    }
+
+    public static IndexDefinition foreignKeyIndex(String tableName, String columnName) {
+        return compositeIndex(tableName, List.of(columnName));
+    }
+
+    public static IndexDefinition compositeIndex(String tableName, List<String> columns) {
+        return new IndexDefinition(tableName, getIndexName(tableName, columns), columns,
+                false, "", Index.Method.BTREE.name().toLowerCase(Locale.ROOT));
+    }
+
+    private IndexDefinition toIndexDefinition(String tableName, Index index) {
+        if (index.columns().length == 0) {
+            throw new IllegalArgumentException("@Index on class " + className + " has no columns");
+        }
+
+        List<String> columns = Arrays.asList(index.columns());
+        String name = index.name().isBlank() ? getIndexName(tableName, columns) : index.name();
+
+        return new IndexDefinition(tableName, name, columns, index.unique(), index.where(),
+                index.method().name().toLowerCase(Locale.ROOT));
+    }
+
+    private static String getIndexName(String tableName, List<String> columns) {
+        return "idx_" + tableName.toLowerCase(Locale.ROOT) + "_" + String.join("_", columns).toLowerCase(Locale.ROOT);
+    }
+}
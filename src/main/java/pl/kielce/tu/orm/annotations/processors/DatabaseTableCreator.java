@@ -2,11 +2,19 @@ package pl.kielce.tu.orm.annotations.processors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import pl.kielce.tu.orm.annotations.Column;
 import pl.kielce.tu.orm.annotations.Entity;
+import pl.kielce.tu.orm.annotations.Partitioned;
 import pl.kielce.tu.orm.dialects.PostgreSQLDialect;
 import pl.kielce.tu.orm.dialects.SQLDialect;
+import pl.kielce.tu.orm.mapping.IdMapping;
+import pl.kielce.tu.orm.sql.SQLAnnotationsHelper;
 import pl.kielce.tu.orm.sql.SQLNamesHelper;
 
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
 public class DatabaseTableCreator {
     private static final Logger log = LoggerFactory.getLogger(DatabaseTableCreator.class);
     private final String className;
@@ -34,15 +42,50 @@ public class DatabaseTableCreator {
         String tableName = sqlNamesHelper.getTableName(entityClass, entityAnnotation.name());
 
         DatabaseColumnCreator columnCreator = new DatabaseColumnCreator(className, dialect);
+        Partitioned partitioned = dialect.supportsPartitioning() ? entityClass.getAnnotation(Partitioned.class) : null;
 
         StringBuilder query = new StringBuilder(dialect.createTable());
         query.append(" ");
         query.append(tableName);
         query.append(" (\n");
         query.append(columnCreator.getSQLStatement());
+        String partitionColumn = partitioned != null ? getPartitionColumn(entityClass, partitioned) : null;
+        if (IdMapping.isComposite(entityClass) || partitioned != null) {
+            query.append("\t")
+                    .append(dialect.primaryKey(getPrimaryKeyColumns(entityClass, partitionColumn)))
+                    .append(",\n");
+        }
         query.replace(query.length() - 2, query.length() - 1, "");
-        query.append(");");
+        query.append(")");
+        if (partitioned != null) {
+            query.append(" ").append(dialect.partitionBy(partitioned.by().name(), partitionColumn));
+        }
+        query.append(";");
 
         return query.toString();
     }
+
+    /**
+     * PostgreSQL requires the partition key to be part of the primary key of a partitioned table.
+     */
+    private List<String> getPrimaryKeyColumns(Class<?> entityClass, String partitionColumn) {
+        List<String> columns = new ArrayList<>(IdMapping.of(entityClass).getColumnNames());
+        if (partitionColumn != null && !columns.contains(partitionColumn)) {
+            columns.add(partitionColumn);
+        }
+
+        return columns;
+    }
+
+    private String getPartitionColumn(Class<?> entityClass, Partitioned partitioned) {
+        for (Field field : entityClass.getDeclaredFields()) {
+            if (field.getName().equals(partitioned.property()) && !SQLAnnotationsHelper.hasForeignTableAnnotation(field)
+                    && !SQLAnnotationsHelper.hasOneToManyAnnotation(field)) {
+                Column columnAnnotation = field.getAnnotation(Column.class);
+                return sqlNamesHelper.getColumnName(field, columnAnnotation != null ? columnAnnotation.name() : "");
+            }
+        }
+
+        throw new IllegalStateException("Partition property " + partitioned.property() + " is not a mapped column of " + className);
+    }
 }
@@ -3,9 +3,13 @@ package pl.kielce.tu.orm.annotations.processors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pl.kielce.tu.orm.annotations.Entity;
+import pl.kielce.tu.orm.definitions.ConstraintDefinition;
+import pl.kielce.tu.orm.definitions.IndexDefinition;
 import pl.kielce.tu.orm.definitions.ManyToManyColumnDefinition;
 import pl.kielce.tu.orm.dialects.PostgreSQLDialect;
 import pl.kielce.tu.orm.dialects.SQLDialect;
+import pl.kielce.tu.orm.exceptions.UnknownTypeException;
+import pl.kielce.tu.orm.sql.SQLGenerator;
 import pl.kielce.tu.orm.sql.SQLNamesHelper;
 
 import java.util.*;
@@ -26,16 +30,77 @@ public class ManyToManyCreator {
     }
 
     public String getSQLStatement() {
-        List<Class<?>> sortedEntities = sortEntitiesByName(manyToManyColumn.firstTable(), manyToManyColumn.secondTable());
-        Class<?> firstEntityClass = sortedEntities.get(0);
-        Class<?> secondEntityClass = sortedEntities.get(1);
-
-        return new StringBuilder(generateSQLForNewTable(firstEntityClass, secondEntityClass))
+        return new StringBuilder(getCreateTableStatement())
                 .append("\n")
-                .append(generateForeignKeyDefinitions(firstEntityClass, secondEntityClass))
+                .append(String.join("\n", getForeignKeyStatements()))
                 .toString();
     }
 
+    public String getTableName() {
+        List<Class<?>> sortedEntities = getSortedEntities();
+
+        return getTableName(sortedEntities.get(0)) + "_" + getTableName(sortedEntities.get(1));
+    }
+
+    public List<String> getReferencedTableNames() {
+        return getSortedEntities().stream()
+                .map(this::getTableName)
+                .toList();
+    }
+
+    public String getCreateTableStatement() {
+        List<Class<?>> sortedEntities = getSortedEntities();
+
+        return generateSQLForNewTable(sortedEntities.get(0), sortedEntities.get(1));
+    }
+
+    public List<String> getForeignKeyStatements() {
+        return getConstraintDefinitions().stream()
+                .map(ConstraintDefinition::statement)
+                .toList();
+    }
+
+    /**
+     * Empty when the dialect cannot add foreign key constraints.
+     */
+    public List<ConstraintDefinition> getConstraintDefinitions() {
+        if (!dialect.supportsForeignKeyConstraints()) {
+            return List.of();
+        }
+
+        List<Class<?>> sortedEntities = getSortedEntities();
+
+        return generateForeignKeyDefinitions(sortedEntities.get(0), sortedEntities.get(1));
+    }
+
+    /**
+     * The composite primary key covers lookups by the first column, the reverse index covers the second one.
+     */
+    public List<IndexDefinition> getIndexDefinitions() {
+        List<String> referencedTableNames = getReferencedTableNames();
+
+        return List.of(DatabaseIndexCreator.compositeIndex(getTableName(), List.of(
+                getJoinColumnName(referencedTableNames.get(1)),
+                getJoinColumnName(referencedTableNames.get(0)))));
+    }
+
+    /**
+     * Unique index over both join columns, which stands in for the primary key of a junction table created
+     * without one.
+     */
+    public IndexDefinition getKeyIndexDefinition() {
+        List<String> referencedTableNames = getReferencedTableNames();
+        String tableName = getTableName();
+
+        return new IndexDefinition(tableName, "uq_" + tableName.toLowerCase(), List.of(
+                getJoinColumnName(referencedTableNames.get(0)),
+                getJoinColumnName(referencedTableNames.get(1))), true, "", "btree");
+    }
+
+    private List<Class<?>> getSortedEntities() {
+        return sortEntitiesByName(manyToManyColumn.firstTable(), manyToManyColumn.secondTable());
+    }
+
     private String generateSQLForNewTable(Class<?> firstEntityClass, Class<?> secondEntityClass) {
         String firstTableName = getTableName(firstEntityClass);
         String secondTableName = getTableName(secondEntityClass);
@@ -45,25 +110,29 @@ public class ManyToManyCreator {
                 .append(" ")
                 .append(tableName)
                 .append(" (\n")
-                .append(getColumnDefinition(firstTableName))
+                .append(getColumnDefinition(firstEntityClass, firstTableName))
+                .append(",\n")
+                .append(getColumnDefinition(secondEntityClass, secondTableName))
                 .append(",\n")
-                .append(getColumnDefinition(secondTableName))
+                .append(dialect.primaryKey(List.of(getJoinColumnName(firstTableName), getJoinColumnName(secondTableName))))
                 .append("\n);");
 
         return query.toString();
     }
 
-    private String generateForeignKeyDefinitions(Class<?> firstEntityClass, Class<?> secondEntityClass) {
+    private List<ConstraintDefinition> generateForeignKeyDefinitions(Class<?> firstEntityClass, Class<?> secondEntityClass) {
         String firstTableName = getTableName(firstEntityClass);
         String secondTableName = getTableName(secondEntityClass);
         String tableName = firstTableName + "_" + secondTableName;
         String firstConstraintName = "fk_" + tableName.toLowerCase() + "_" + firstTableName.toLowerCase();
         String secondConstraintName = "fk_" + tableName.toLowerCase() + "_" + secondTableName.toLowerCase();
 
-        return new StringBuilder(dialect.addConstraint(tableName, firstConstraintName, firstTableName.toLowerCase() + "_id", firstTableName, "id"))
-                .append("\n")
-                .append(dialect.addConstraint(tableName, secondConstraintName, secondTableName.toLowerCase() + "_id", secondTableName, "id"))
-                .toString();
+        return List.of(
+                new ConstraintDefinition(tableName, firstConstraintName,
+                        dialect.addConstraint(tableName, firstConstraintName, getJoinColumnName(firstTableName), firstTableName, "id")),
+                new ConstraintDefinition(tableName, secondConstraintName,
+                        dialect.addConstraint(tableName, secondConstraintName, getJoinColumnName(secondTableName), secondTableName, "id"))
+        );
     }
 
     private String getTableName(Class<?> entityClass) {
@@ -84,13 +153,19 @@ public class ManyToManyCreator {
                 .toList();
     }
 
-    private String getColumnDefinition(String tableName) {
-        return new StringBuilder(tableName.toLowerCase())
-                .append("_id")
-                .append(" ")
-                .append(dialect.identityType())
-                .append(" ")
-                .append(dialect.notNull())
-                .toString();
+    /**
+     * Join columns take the type of the referenced entity's id.
+     */
+    private String getColumnDefinition(Class<?> entityClass, String tableName) {
+        try {
+            Class<?> idType = SQLGenerator.getIdField(entityClass).getType();
+            return getJoinColumnName(tableName) + " " + dialect.dataType(idType) + " " + dialect.notNull();
+        } catch (UnknownTypeException e) {
+            throw new IllegalStateException("Dialect does not support join column type", e);
+        }
+    }
+
+    private String getJoinColumnName(String tableName) {
+        return tableName.toLowerCase() + "_id";
     }
 }
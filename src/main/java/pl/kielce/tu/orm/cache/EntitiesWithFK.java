@@ -1,14 +1,14 @@
 package pl.kielce.tu.orm.cache;
 
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class EntitiesWithFK {
     private static final EntitiesWithFK INSTANCE = new EntitiesWithFK();
     private final Set<String> entities;
 
     private EntitiesWithFK() {
-        this.entities = new HashSet<>();
+        this.entities = ConcurrentHashMap.newKeySet();
     }
 
     public static EntitiesWithFK getInstance() {
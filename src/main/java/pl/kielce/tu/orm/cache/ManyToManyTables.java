@@ -2,15 +2,15 @@ package pl.kielce.tu.orm.cache;
 
 import pl.kielce.tu.orm.definitions.ManyToManyColumnDefinition;
 
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ManyToManyTables {
     private static final ManyToManyTables INSTANCE = new ManyToManyTables();
     private final Set<ManyToManyColumnDefinition> columnDefinitions;
 
     private ManyToManyTables() {
-        columnDefinitions = new HashSet<>();
+        columnDefinitions = ConcurrentHashMap.newKeySet();
     }
 
     public static ManyToManyTables getInstance() {
@@ -25,7 +25,7 @@ public class ManyToManyTables {
         addColumnDefinition(new ManyToManyColumnDefinition(firstTable, secondTable));
     }
 
-    public void addColumnDefinition(ManyToManyColumnDefinition columnDefinition) {
+    public synchronized void addColumnDefinition(ManyToManyColumnDefinition columnDefinition) {
         if (!containsColumnDefinition(columnDefinition.firstTable(), columnDefinition.secondTable())) {
             columnDefinitions.add(columnDefinition);
         }
@@ -0,0 +1,131 @@
+package pl.kielce.tu.orm.classloader;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Checks class-level runtime annotations straight from class file bytes, without loading the class.
+ */
+final class ClassFileAnnotationReader {
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private ClassFileAnnotationReader() {}
+
+    static boolean hasClassAnnotation(byte[] classBytes, String annotationDescriptor) throws IOException {
+        if (!containsUtf8(classBytes, annotationDescriptor)) {
+            return false;
+        }
+
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(classBytes));
+        if (input.readInt() != MAGIC) {
+            return false;
+        }
+        input.skipBytes(4);
+
+        String[] utf8Constants = readConstantPool(input);
+
+        input.skipBytes(6);
+        input.skipBytes(2 * input.readUnsignedShort());
+        skipMembers(input);
+        skipMembers(input);
+
+        int attributesCount = input.readUnsignedShort();
+        for (int i = 0; i < attributesCount; i++) {
+            String attributeName = utf8Constants[input.readUnsignedShort()];
+            int length = input.readInt();
+
+            if ("RuntimeVisibleAnnotations".equals(attributeName)) {
+                int annotationsCount = input.readUnsignedShort();
+                for (int j = 0; j < annotationsCount; j++) {
+                    if (annotationDescriptor.equals(utf8Constants[input.readUnsignedShort()])) {
+                        return true;
+                    }
+                    skipElementValuePairs(input);
+                }
+            } else {
+                input.skipBytes(length);
+            }
+        }
+
+        return false;
+    }
+
+    private static String[] readConstantPool(DataInputStream input) throws IOException {
+        int constantPoolCount = input.readUnsignedShort();
+        String[] utf8Constants = new String[constantPoolCount];
+
+        for (int i = 1; i < constantPoolCount; i++) {
+            int tag = input.readUnsignedByte();
+            switch (tag) {
+                case 1 -> utf8Constants[i] = input.readUTF();
+                case 7, 8, 16, 19, 20 -> input.skipBytes(2);
+                case 15 -> input.skipBytes(3);
+                case 3, 4, 9, 10, 11, 12, 17, 18 -> input.skipBytes(4);
+                case 5, 6 -> {
+                    input.skipBytes(8);
+                    i++;
+                }
+                default -> throw new IOException("Unknown constant pool tag " + tag);
+            }
+        }
+
+        return utf8Constants;
+    }
+
+    private static void skipMembers(DataInputStream input) throws IOException {
+        int membersCount = input.readUnsignedShort();
+        for (int i = 0; i < membersCount; i++) {
+            input.skipBytes(6);
+            int attributesCount = input.readUnsignedShort();
+            for (int j = 0; j < attributesCount; j++) {
+                input.skipBytes(2);
+                input.skipBytes(input.readInt());
+            }
+        }
+    }
+
+    private static void skipElementValuePairs(DataInputStream input) throws IOException {
+        int pairsCount = input.readUnsignedShort();
+        for (int i = 0; i < pairsCount; i++) {
+            input.skipBytes(2);
+            skipElementValue(input);
+        }
+    }
+
+    private static void skipElementValue(DataInputStream input) throws IOException {
+        int tag = input.readUnsignedByte();
+        switch (tag) {
+            case 'e' -> input.skipBytes(4);
+            case '@' -> {
+                input.skipBytes(2);
+                skipElementValuePairs(input);
+            }
+            case '[' -> {
+                int valuesCount = input.readUnsignedShort();
+                for (int i = 0; i < valuesCount; i++) {
+                    skipElementValue(input);
+                }
+            }
+            default -> input.skipBytes(2);
+        }
+    }
+
+    private static boolean containsUtf8(byte[] classBytes, String value) {
+        byte[] needle = value.getBytes(StandardCharsets.UTF_8);
+        int last = classBytes.length - needle.length;
+
+        outer:
+        for (int i = 0; i <= last; i++) {
+            for (int j = 0; j < needle.length; j++) {
+                if (classBytes[i + j] != needle[j]) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+
+        return false;
+    }
+}
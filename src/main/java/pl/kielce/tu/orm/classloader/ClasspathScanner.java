@@ -0,0 +1,172 @@
+package pl.kielce.tu.orm.classloader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Lists class names of a package from directories and JAR files in parallel. When an annotation descriptor is
+ * given only classes annotated with it are returned; the check reads class file bytes and never loads a class.
+ * Classpath roots passed as {@code skippedRoots} are left out.
+ */
+final class ClasspathScanner {
+    private static final Logger log = LoggerFactory.getLogger(ClasspathScanner.class);
+    private static final String CLASS_SUFFIX = ".class";
+
+    private final ClassLoader classLoader;
+
+    ClasspathScanner(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    Set<String> findClassNames(String packageName, String annotationDescriptor) {
+        return findClassNames(packageName, annotationDescriptor, Set.of());
+    }
+
+    Set<String> findClassNames(String packageName, String annotationDescriptor, Set<Path> skippedRoots) {
+        String packagePath = packageName.replace('.', '/');
+        Set<ScanRoot> roots = getRoots(packagePath);
+
+        if (roots.isEmpty()) {
+            throw new IllegalArgumentException("Package not found: " + packageName);
+        }
+
+        return roots.parallelStream()
+                .filter(root -> !skippedRoots.contains(getClasspathRoot(root, packagePath)))
+                .flatMap(root -> root.jar() ? scanJar(root.path(), packagePath, annotationDescriptor)
+                        : scanDirectory(root.path(), packageName, annotationDescriptor))
+                .collect(Collectors.toSet());
+    }
+
+    private Set<ScanRoot> getRoots(String packagePath) {
+        Set<ScanRoot> roots = new HashSet<>();
+
+        try {
+            for (URL url : Collections.list(classLoader.getResources(packagePath))) {
+                if ("file".equals(url.getProtocol())) {
+                    roots.add(new ScanRoot(Paths.get(url.toURI()), false));
+                } else if ("jar".equals(url.getProtocol())) {
+                    JarURLConnection connection = (JarURLConnection) url.openConnection();
+                    roots.add(new ScanRoot(Paths.get(connection.getJarFileURL().toURI()), true));
+                }
+            }
+        } catch (IOException | URISyntaxException e) {
+            log.error("Cannot read classpath resources for package path {}", packagePath, e);
+        }
+
+        if (packagePath.isEmpty()) {
+            String classPath = System.getProperty("java.class.path", "");
+            for (String entry : classPath.split(File.pathSeparator)) {
+                Path path = Paths.get(entry);
+                if (entry.endsWith(".jar") && Files.isRegularFile(path)) {
+                    roots.add(new ScanRoot(path, true));
+                } else if (Files.isDirectory(path)) {
+                    roots.add(new ScanRoot(path, false));
+                }
+            }
+        }
+
+        return roots;
+    }
+
+    private Stream<String> scanDirectory(Path packageDirectory, String packageName, String annotationDescriptor) {
+        List<Path> classFiles;
+        try (Stream<Path> files = Files.walk(packageDirectory)) {
+            classFiles = files.filter(file -> file.toString().endsWith(CLASS_SUFFIX)).toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot scan directory " + packageDirectory, e);
+        }
+
+        return classFiles.parallelStream()
+                .filter(file -> !isMetadataClass(file.getFileName().toString()))
+                .filter(file -> annotationDescriptor == null || hasAnnotation(file, annotationDescriptor))
+                .map(file -> toClassName(packageName, packageDirectory.relativize(file).toString()));
+    }
+
+    private Stream<String> scanJar(Path jarPath, String packagePath, String annotationDescriptor) {
+        Set<String> classNames = new HashSet<>();
+        String prefix = packagePath.isEmpty() ? "" : packagePath + "/";
+
+        try (JarFile jarFile = new JarFile(jarPath.toFile())) {
+            for (JarEntry entry : Collections.list(jarFile.entries())) {
+                String entryName = entry.getName();
+                if (entry.isDirectory() || !entryName.startsWith(prefix) || !entryName.endsWith(CLASS_SUFFIX)
+                        || entryName.startsWith("META-INF/") || isMetadataClass(entryName)) {
+                    continue;
+                }
+
+                if (annotationDescriptor == null || hasAnnotation(jarFile, entry, annotationDescriptor)) {
+                    classNames.add(toClassName("", entryName));
+                }
+            }
+        } catch (IOException e) {
+            log.error("Cannot scan JAR file {}", jarPath, e);
+        }
+
+        return classNames.stream();
+    }
+
+    private static Path getClasspathRoot(ScanRoot root, String packagePath) {
+        if (root.jar() || packagePath.isEmpty()) {
+            return root.path();
+        }
+
+        Path classpathRoot = root.path();
+        for (int i = 0; i < packagePath.split("/").length && classpathRoot != null; i++) {
+            classpathRoot = classpathRoot.getParent();
+        }
+
+        return classpathRoot;
+    }
+
+    private boolean hasAnnotation(Path classFile, String annotationDescriptor) {
+        try {
+            return ClassFileAnnotationReader.hasClassAnnotation(Files.readAllBytes(classFile), annotationDescriptor);
+        } catch (IOException e) {
+            log.warn("Cannot read class file {}", classFile, e);
+            return false;
+        }
+    }
+
+    private boolean hasAnnotation(JarFile jarFile, JarEntry entry, String annotationDescriptor) {
+        try (InputStream input = jarFile.getInputStream(entry)) {
+            return ClassFileAnnotationReader.hasClassAnnotation(input.readAllBytes(), annotationDescriptor);
+        } catch (IOException e) {
+            log.warn("Cannot read class file {} from {}", entry.getName(), jarFile.getName(), e);
+            return false;
+        }
+    }
+
+    private static boolean isMetadataClass(String fileName) {
+        return fileName.endsWith("module-info.class") || fileName.endsWith("package-info.class");
+    }
+
+    private static String toClassName(String packageName, String relativePath) {
+        String className = relativePath.substring(0, relativePath.length() - CLASS_SUFFIX.length())
+                .replace(File.separatorChar, '.')
+                .replace('/', '.');
+
+        return packageName.isEmpty() ? className : packageName + "." + className;
+    }
+
+    private record ScanRoot(Path path, boolean jar) {
+    }
+}
@@ -4,65 +4,91 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pl.kielce.tu.orm.annotations.Entity;
 
-import java.io.BufferedReader;
-import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 public class EntitiesClassLoader {
     private static final Logger log = LoggerFactory.getLogger(EntitiesClassLoader.class.getName());
+    private static final String ENTITY_DESCRIPTOR = Entity.class.descriptorString();
+    // Entity names per class loader and package, weakly keyed so that discarded class loaders can be unloaded
+    private static final Map<ClassLoader, Map<String, Set<String>>> ENTITY_NAMES =
+            Collections.synchronizedMap(new WeakHashMap<>());
 
+    private final ClassLoader classLoader;
+    private final ClasspathScanner scanner;
+
+    public EntitiesClassLoader() {
+        this(EntitiesClassLoader.class.getClassLoader());
+    }
+
+    EntitiesClassLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+        this.scanner = new ClasspathScanner(classLoader);
+    }
+
+    /**
+     * Index entries are checked for the {@code @Entity} annotation, so a stale index cannot add other classes.
+     */
     public Set<Class<?>> findEntities(String packageName) {
-        Set<Class<?>> classes = findClasses(packageName);
+        Set<String> entityNames = ENTITY_NAMES.computeIfAbsent(classLoader, loader -> new ConcurrentHashMap<>())
+                .computeIfAbsent(packageName, this::findEntityNames);
 
-        return classes
-                .stream()
-                .filter(entityClass -> entityClass.getAnnotation(Entity.class) != null)
+        return loadClasses(entityNames).stream()
+                .filter(this::isEntity)
                 .collect(Collectors.toSet());
     }
 
-    public Set<Class<?>> findClasses(String packageName) {
-        return getClasses(packageName)
-                .stream()
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toSet());
+    public static void clearCache() {
+        ENTITY_NAMES.clear();
     }
 
-    private Set<Optional<Class<?>>> getClasses(String packageName) {
-        Set<Optional<Class<?>>> result = new HashSet<>();
+    public Set<Class<?>> findClasses(String packageName) {
+        return loadClasses(scanner.findClassNames(packageName, null));
+    }
 
-        InputStream stream = getClass().getClassLoader()
-                .getResourceAsStream(packageName.replaceAll("[.]", "/"));
-        if (stream == null) {
-            throw new IllegalArgumentException("Package not found: " + packageName);
+    /**
+     * Classpath roots with an entity index are read from the index, all other roots are scanned.
+     */
+    private Set<String> findEntityNames(String packageName) {
+        EntityIndex index = EntityIndex.load(classLoader);
+        if (!index.getRoots().isEmpty()) {
+            log.debug("Using entity index {} of {} for package '{}'", EntityIndex.LOCATION, index.getRoots(), packageName);
         }
 
-        BufferedReader reader = new BufferedReader(new InputStreamReader(stream));
+        Set<String> entityNames = new HashSet<>(index.getEntityNames(packageName));
+        entityNames.addAll(scanner.findClassNames(packageName, ENTITY_DESCRIPTOR, index.getRoots()));
 
-        List<String> lines = reader.lines().toList();
-        for (String line : lines) {
-            if (!line.contains(".")) {
-                String newPackageName = !packageName.isEmpty() ? packageName + "." + line : line;
-                result.addAll(getClasses(newPackageName));
-            } else if (line.endsWith(".class")) {
-                result.add(getClass(line, packageName));
-            }
+        return entityNames;
+    }
+
+    private boolean isEntity(Class<?> entityClass) {
+        if (!entityClass.isAnnotationPresent(Entity.class)) {
+            log.warn("Ignoring {} from entity index {}, it is not annotated with @Entity", entityClass.getName(),
+                    EntityIndex.LOCATION);
+            return false;
         }
 
-        return result;
+        return true;
+    }
+
+    private Set<Class<?>> loadClasses(Set<String> classNames) {
+        return classNames.stream()
+                .map(this::getClass)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toSet());
     }
 
-    private Optional<Class<?>> getClass(String className, String packageName) {
+    private Optional<Class<?>> getClass(String className) {
         try {
-            return Optional.of(
-                    Class.forName(packageName + "." + className.substring(0, className.lastIndexOf('.')))
-            );
-        } catch (ClassNotFoundException e) {
+            return Optional.of(Class.forName(className, false, classLoader));
+        } catch (ClassNotFoundException | LinkageError e) {
             log.warn("Class not found: {}", className);
         }
 
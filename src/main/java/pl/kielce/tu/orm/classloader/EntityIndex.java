@@ -0,0 +1,92 @@
+package pl.kielce.tu.orm.classloader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Entity class names generated at build time by {@link EntityIndexProcessor}. Each index covers only the directory
+ * or JAR file it was found in, other classpath roots still have to be scanned.
+ */
+final class EntityIndex {
+    static final String LOCATION = "META-INF/orm-entities.idx";
+    private static final Logger log = LoggerFactory.getLogger(EntityIndex.class);
+
+    private final Map<Path, Set<String>> entityNamesByRoot;
+
+    private EntityIndex(Map<Path, Set<String>> entityNamesByRoot) {
+        this.entityNamesByRoot = Map.copyOf(entityNamesByRoot);
+    }
+
+    static EntityIndex load(ClassLoader classLoader) {
+        try {
+            Map<Path, Set<String>> entityNamesByRoot = new HashMap<>();
+            for (URL resource : Collections.list(classLoader.getResources(LOCATION))) {
+                Path root = getRoot(resource);
+                if (root == null) {
+                    log.warn("Ignoring entity index {}, its classpath root cannot be scanned", resource);
+                    continue;
+                }
+
+                try (BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+                    entityNamesByRoot.put(root, reader.lines()
+                            .map(String::trim)
+                            .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                            .collect(Collectors.toUnmodifiableSet()));
+                }
+            }
+
+            return new EntityIndex(entityNamesByRoot);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read entity index " + LOCATION, e);
+        }
+    }
+
+    /**
+     * Directories and JAR files that carry an index and do not need to be scanned.
+     */
+    Set<Path> getRoots() {
+        return entityNamesByRoot.keySet();
+    }
+
+    Set<String> getEntityNames(String packageName) {
+        String prefix = packageName.isEmpty() ? "" : packageName + ".";
+
+        return entityNamesByRoot.values().stream()
+                .flatMap(Set::stream)
+                .filter(entityName -> entityName.startsWith(prefix))
+                .collect(Collectors.toSet());
+    }
+
+    private static Path getRoot(URL resource) throws IOException {
+        try {
+            if ("jar".equals(resource.getProtocol())) {
+                JarURLConnection connection = (JarURLConnection) resource.openConnection();
+                return Paths.get(connection.getJarFileURL().toURI());
+            }
+            if ("file".equals(resource.getProtocol())) {
+                return Paths.get(resource.toURI()).getParent().getParent();
+            }
+        } catch (URISyntaxException e) {
+            log.warn("Cannot resolve location of entity index {}", resource, e);
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,60 @@
+package pl.kielce.tu.orm.classloader;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Writes the names of all {@code @Entity} classes of a compilation to {@code META-INF/orm-entities.idx}.
+ */
+@SupportedAnnotationTypes("pl.kielce.tu.orm.annotations.Entity")
+public class EntityIndexProcessor extends AbstractProcessor {
+    private final Set<String> entityNames = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element instanceof TypeElement typeElement) {
+                    entityNames.add(processingEnv.getElementUtils().getBinaryName(typeElement).toString());
+                }
+            }
+        }
+
+        if (roundEnv.processingOver() && !entityNames.isEmpty()) {
+            writeIndex();
+        }
+
+        return false;
+    }
+
+    private void writeIndex() {
+        try {
+            FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    EntityIndex.LOCATION);
+            try (Writer writer = index.openWriter()) {
+                for (String entityName : entityNames) {
+                    writer.write(entityName);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot write entity index: " + e.getMessage());
+        }
+    }
+}
@@ -1,11 +1,20 @@
 package pl.kielce.tu.orm.config;
 
+import pl.kielce.tu.orm.dialects.PostgreSQLDialect;
+import pl.kielce.tu.orm.dialects.SQLDialect;
+import pl.kielce.tu.orm.metrics.NoOpOrmMetrics;
+import pl.kielce.tu.orm.metrics.OrmMetrics;
+
 import java.util.HashMap;
 import java.util.Map;
+import java.util.ServiceLoader;
 
 public class ORMConfiguration {
     private static final Map<String, String> CONFIG = new HashMap<>();
     private static final ORMConfiguration INSTANCE = new ORMConfiguration();
+    private static volatile SQLDialect dialect = new PostgreSQLDialect();
+    private static volatile OrmMetrics metrics = ServiceLoader.load(OrmMetrics.class).findFirst()
+            .orElse(NoOpOrmMetrics.getInstance());
 
     public static ORMConfiguration getInstance() {
         return INSTANCE;
@@ -22,4 +31,24 @@ public class ORMConfiguration {
     public void addProperty(String key, String value) {
         CONFIG.put(key, value);
     }
+
+    public SQLDialect getDialect() {
+        return dialect;
+    }
+
+    public void setDialect(SQLDialect sqlDialect) {
+        dialect = sqlDialect;
+    }
+
+    /**
+     * Metrics come from the first {@link OrmMetrics} registered with {@link ServiceLoader}, or are discarded when
+     * none is registered.
+     */
+    public OrmMetrics getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(OrmMetrics ormMetrics) {
+        metrics = ormMetrics != null ? ormMetrics : NoOpOrmMetrics.getInstance();
+    }
 }
@@ -3,41 +3,74 @@ package pl.kielce.tu.orm.connector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pl.kielce.tu.orm.config.ORMConfiguration;
+import pl.kielce.tu.orm.jfr.OrmPoolAcquireEvent;
+import pl.kielce.tu.orm.metrics.InstrumentedConnection;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
 
 public final class DatabaseConnector {
     private static final Logger log = LoggerFactory.getLogger(DatabaseConnector.class);
-    private static final DatabaseConnector instance = new DatabaseConnector();
+    private static final int DEFAULT_POOL_SIZE = 10;
     private final String connectionString;
     private final String username;
     private final String password;
     private final String dbDriver;
+    private final int poolSize;
+    private final Semaphore poolPermits;
+    private final ConcurrentLinkedQueue<Connection> idleConnections;
+    private final ThreadLocal<Connection> boundConnection;
+    private final ReplicaRouter replicaRouter;
+    private final ThreadLocal<DatabaseConnector> readReplica;
     private Connection connection;
 
-    private DatabaseConnector() {
+    private static DatabaseConnector fromConfiguration() {
         ORMConfiguration config = ORMConfiguration.getInstance();
+        String username = config.getProperty("username");
+        String password = config.getProperty("password");
+        String dbDriver = config.getProperty("dbDriver");
+        int poolSize = config.hasProperty("poolSize") ? Integer.parseInt(config.getProperty("poolSize")) : DEFAULT_POOL_SIZE;
 
-        this.connectionString = config.getProperty("connectionString");
-        this.username = config.getProperty("username");
-        this.password = config.getProperty("password");
-        this.dbDriver = config.getProperty("dbDriver");
+        return new DatabaseConnector(config.getProperty("connectionString"), username, password, dbDriver, poolSize,
+                ReplicaRouter.fromConfiguration(config, username, password, dbDriver, poolSize));
     }
 
+    DatabaseConnector(String connectionString, String username, String password, String dbDriver, int poolSize,
+                      ReplicaRouter replicaRouter) {
+        this.connectionString = connectionString;
+        this.username = username;
+        this.password = password;
+        this.dbDriver = dbDriver;
+        this.poolSize = poolSize;
+        this.poolPermits = new Semaphore(poolSize, true);
+        this.idleConnections = new ConcurrentLinkedQueue<>();
+        this.boundConnection = new ThreadLocal<>();
+        this.replicaRouter = replicaRouter;
+        this.readReplica = new ThreadLocal<>();
+    }
+
+    /**
+     * The connector is created from {@link ORMConfiguration} on first use, so the connection properties have to be
+     * set before.
+     */
     public static DatabaseConnector getInstance() {
-        return instance;
+        return Holder.INSTANCE;
     }
 
     public Connection getConnection() {
-        if (connection == null || isConnectionClosed()) {
+        Connection threadConnection = boundConnection.get();
+        if (threadConnection != null) {
+            return threadConnection;
+        }
+
+        if (connection == null || isConnectionClosed(connection)) {
             try {
-                Constructor<?> connectionConstructor = Class.forName(dbDriver).getConstructor();
-                connectionConstructor.newInstance();
-                connection = DriverManager.getConnection(connectionString, username, password);
+                connection = openConnection();
             } catch (ClassNotFoundException | NoSuchMethodException | InvocationTargetException |
                      InstantiationException | IllegalAccessException e) {
                 log.error("Could not find JDBC driver. Make sure it is in the classpath", e);
@@ -51,7 +84,137 @@ public final class DatabaseConnector {
         return connection;
     }
 
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * Pooled connections that can be acquired without waiting.
+     */
+    public int getAvailableConnections() {
+        return poolPermits.availablePermits();
+    }
+
+    String getConnectionString() {
+        return connectionString;
+    }
+
+    /**
+     * Binds a replica connection to the current thread for a read-only call. Returns {@code false}, leaving reads
+     * on the primary, when no replicas are configured, the thread already has a bound connection (a transaction or
+     * an enclosing read), it wrote recently, or no replica is within the lag tolerance. A {@code true} result must
+     * be matched by {@link #endReplicaRead()}.
+     */
+    public boolean beginReplicaRead() {
+        if (replicaRouter == null || boundConnection.get() != null) {
+            return false;
+        }
+
+        DatabaseConnector replica = replicaRouter.selectReplica();
+        if (replica == null) {
+            return false;
+        }
+
+        try {
+            boundConnection.set(replica.acquireConnection());
+            readReplica.set(replica);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a replica connection", e);
+        }
+    }
+
+    public void endReplicaRead() {
+        DatabaseConnector replica = readReplica.get();
+        Connection replicaConnection = boundConnection.get();
+        readReplica.remove();
+        boundConnection.remove();
+
+        if (replica != null && replicaConnection != null) {
+            replica.releaseConnection(replicaConnection);
+        }
+    }
+
+    /**
+     * Keeps the following reads of the current thread on the primary for the read-your-writes window.
+     */
+    public void recordWrite() {
+        if (replicaRouter != null) {
+            replicaRouter.recordWrite();
+        }
+    }
+
+    public Connection acquireConnection() throws InterruptedException {
+        OrmPoolAcquireEvent event = new OrmPoolAcquireEvent();
+        event.begin();
+        long start = System.nanoTime();
+        poolPermits.acquire();
+        ORMConfiguration.getInstance().getMetrics().recordPoolWait(System.nanoTime() - start);
+
+        try {
+            Connection pooledConnection = idleConnections.poll();
+            while (pooledConnection != null && isConnectionClosed(pooledConnection)) {
+                pooledConnection = idleConnections.poll();
+            }
+
+            boolean newConnection = pooledConnection == null;
+            Connection acquiredConnection = newConnection ? openConnection() : pooledConnection;
+            event.complete(poolSize, newConnection);
+            return acquiredConnection;
+        } catch (ReflectiveOperationException | SQLException e) {
+            poolPermits.release();
+            throw new IllegalStateException("Could not open pooled database connection", e);
+        }
+    }
+
+    public void releaseConnection(Connection pooledConnection) {
+        try {
+            if (!isConnectionClosed(pooledConnection)) {
+                if (!pooledConnection.getAutoCommit()) {
+                    pooledConnection.rollback();
+                    pooledConnection.setAutoCommit(true);
+                }
+                idleConnections.offer(pooledConnection);
+            }
+        } catch (SQLException e) {
+            log.error("Could not return connection to the pool", e);
+        } finally {
+            poolPermits.release();
+        }
+    }
+
+    public void bindConnection(Connection threadConnection) {
+        boundConnection.set(threadConnection);
+    }
+
+    public void unbindConnection() {
+        boundConnection.remove();
+    }
+
+    public Connection getBoundConnection() {
+        return boundConnection.get();
+    }
+
+    public boolean isInTransaction() {
+        Connection threadConnection = boundConnection.get();
+        if (threadConnection == null) {
+            return false;
+        }
+
+        try {
+            return !threadConnection.getAutoCommit();
+        } catch (SQLException e) {
+            log.error("Error checking transaction state of bound connection", e);
+            return false;
+        }
+    }
+
     public void closeConnection() {
+        if (replicaRouter != null) {
+            replicaRouter.close();
+        }
+
         if (connection != null) {
             try {
                 connection.close();
@@ -59,9 +222,25 @@ public final class DatabaseConnector {
                 log.error("Could not close database connection", e);
             }
         }
+
+        Connection pooledConnection;
+        while ((pooledConnection = idleConnections.poll()) != null) {
+            try {
+                pooledConnection.close();
+            } catch (SQLException e) {
+                log.error("Could not close pooled database connection", e);
+            }
+        }
     }
 
-    private boolean isConnectionClosed() {
+    private Connection openConnection() throws ClassNotFoundException, NoSuchMethodException, InvocationTargetException,
+            InstantiationException, IllegalAccessException, SQLException {
+        Constructor<?> connectionConstructor = Class.forName(dbDriver).getConstructor();
+        connectionConstructor.newInstance();
+        return InstrumentedConnection.wrapIfInstrumented(DriverManager.getConnection(connectionString, username, password));
+    }
+
+    private boolean isConnectionClosed(Connection connection) {
         if (connection == null) {
             return true;
         }
@@ -72,4 +251,8 @@ public final class DatabaseConnector {
             return true;
         }
     }
+
+    private static final class Holder {
+        private static final DatabaseConnector INSTANCE = fromConfiguration();
+    }
 }
@@ -0,0 +1,166 @@
+package pl.kielce.tu.orm.connector;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pl.kielce.tu.orm.config.ORMConfiguration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Chooses the replica that serves a read-only repository call. Replicas are taken in turn, skipping those whose
+ * replication lag, checked at most every {@code replicas.lagCheckMillis}, exceeds {@code replicas.maxLagMillis}.
+ * After a write, reads on the same thread stay on the primary for {@code replicas.readYourWritesMillis}, so a
+ * session sees its own changes. When no replica qualifies the read goes to the primary.
+ */
+public final class ReplicaRouter {
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRouter.class);
+    private static final long DEFAULT_MAX_LAG_MILLIS = 1000;
+    private static final long DEFAULT_LAG_CHECK_MILLIS = 1000;
+    private static final long UNAVAILABLE = Long.MAX_VALUE;
+
+    private final List<DatabaseConnector> replicas;
+    private final long maxLagMillis;
+    private final long lagCheckNanos;
+    private final long readYourWritesNanos;
+    private final AtomicLongArray lagMillis;
+    private final AtomicLongArray lagCheckedAt;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final ThreadLocal<Long> lastWrite = new ThreadLocal<>();
+
+    ReplicaRouter(List<DatabaseConnector> replicas, long maxLagMillis, long lagCheckMillis, long readYourWritesMillis) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("At least one replica is required");
+        }
+
+        this.replicas = List.copyOf(replicas);
+        this.maxLagMillis = maxLagMillis;
+        this.lagCheckNanos = TimeUnit.MILLISECONDS.toNanos(lagCheckMillis);
+        this.readYourWritesNanos = TimeUnit.MILLISECONDS.toNanos(readYourWritesMillis);
+        this.lagMillis = new AtomicLongArray(replicas.size());
+        this.lagCheckedAt = new AtomicLongArray(replicas.size());
+
+        long neverChecked = System.nanoTime() - lagCheckNanos - 1;
+        for (int i = 0; i < replicas.size(); i++) {
+            lagCheckedAt.set(i, neverChecked);
+        }
+    }
+
+    /**
+     * Returns {@code null} when {@code replicas.connectionStrings} is not set. Replicas use the primary's driver
+     * and credentials unless {@code replicas.username} and {@code replicas.password} are set.
+     */
+    static ReplicaRouter fromConfiguration(ORMConfiguration config, String username, String password, String dbDriver,
+                                           int poolSize) {
+        if (!config.hasProperty("replicas.connectionStrings")) {
+            return null;
+        }
+
+        String replicaUsername = config.hasProperty("replicas.username") ? config.getProperty("replicas.username") : username;
+        String replicaPassword = config.hasProperty("replicas.password") ? config.getProperty("replicas.password") : password;
+        int replicaPoolSize = config.hasProperty("replicas.poolSize")
+                ? Integer.parseInt(config.getProperty("replicas.poolSize")) : poolSize;
+
+        List<DatabaseConnector> replicas = new ArrayList<>();
+        for (String connectionString : config.getProperty("replicas.connectionStrings").split(",")) {
+            if (!connectionString.isBlank()) {
+                replicas.add(new DatabaseConnector(connectionString.trim(), replicaUsername, replicaPassword, dbDriver,
+                        replicaPoolSize, null));
+            }
+        }
+
+        long maxLag = config.hasProperty("replicas.maxLagMillis")
+                ? Long.parseLong(config.getProperty("replicas.maxLagMillis")) : DEFAULT_MAX_LAG_MILLIS;
+        long lagCheck = config.hasProperty("replicas.lagCheckMillis")
+                ? Long.parseLong(config.getProperty("replicas.lagCheckMillis")) : DEFAULT_LAG_CHECK_MILLIS;
+        long readYourWrites = config.hasProperty("replicas.readYourWritesMillis")
+                ? Long.parseLong(config.getProperty("replicas.readYourWritesMillis")) : maxLag;
+
+        return new ReplicaRouter(replicas, maxLag, lagCheck, readYourWrites);
+    }
+
+    /**
+     * Returns the replica for the next read on this thread, or {@code null} when it has to go to the primary.
+     */
+    DatabaseConnector selectReplica() {
+        Long writtenAt = lastWrite.get();
+        if (writtenAt != null) {
+            if (System.nanoTime() - writtenAt < readYourWritesNanos) {
+                return null;
+            }
+            lastWrite.remove();
+        }
+
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            int index = (start + i) % replicas.size();
+            if (currentLag(index) <= maxLagMillis) {
+                return replicas.get(index);
+            }
+        }
+
+        log.debug("No replica within {} ms of the primary, reading from the primary", maxLagMillis);
+        return null;
+    }
+
+    void recordWrite() {
+        lastWrite.set(System.nanoTime());
+    }
+
+    int getReplicaCount() {
+        return replicas.size();
+    }
+
+    void close() {
+        for (DatabaseConnector replica : replicas) {
+            replica.closeConnection();
+        }
+    }
+
+    /**
+     * One thread refreshes a stale measurement while the others keep using the previous one.
+     */
+    private long currentLag(int index) {
+        long checkedAt = lagCheckedAt.get(index);
+        long now = System.nanoTime();
+
+        if (now - checkedAt > lagCheckNanos && lagCheckedAt.compareAndSet(index, checkedAt, now)) {
+            lagMillis.set(index, measureLag(replicas.get(index)));
+        }
+
+        return lagMillis.get(index);
+    }
+
+    private long measureLag(DatabaseConnector replica) {
+        String sql = ORMConfiguration.getInstance().getDialect().replicationLagQuery();
+        if (sql == null) {
+            return 0;
+        }
+
+        Connection connection = null;
+        try {
+            connection = replica.acquireConnection();
+            try (PreparedStatement statement = connection.prepareStatement(sql);
+                 ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getLong(1) : 0;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return UNAVAILABLE;
+        } catch (SQLException | IllegalStateException e) {
+            log.warn("Could not check replication lag of {}, reading from other replicas", replica.getConnectionString(), e);
+            return UNAVAILABLE;
+        } finally {
+            if (connection != null) {
+                replica.releaseConnection(connection);
+            }
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package pl.kielce.tu.orm.definitions;
+
+public record ColumnDefinition(String name, String definition) {
+}
@@ -0,0 +1,4 @@
+package pl.kielce.tu.orm.definitions;
+
+public record ConstraintDefinition(String tableName, String name, String statement) {
+}
@@ -0,0 +1,7 @@
+package pl.kielce.tu.orm.definitions;
+
+import java.util.List;
+
+public record IndexDefinition(String tableName, String name, List<String> columns, boolean unique, String where,
+                              String method) {
+}
@@ -0,0 +1,152 @@
+package pl.kielce.tu.orm.dialects;
+
+import pl.kielce.tu.orm.definitions.IndexDefinition;
+import pl.kielce.tu.orm.exceptions.UnknownTypeException;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * H2 in PostgreSQL compatibility mode ({@code jdbc:h2:mem:test;MODE=PostgreSQL}), for running the ORM in-process.
+ * Only the statements H2 does not accept in that mode differ from {@link PostgreSQLDialect}.
+ */
+public class H2Dialect extends PostgreSQLDialect {
+    private static final int LOCK_TIMEOUT_ERROR_CODE = 50200;
+
+    @Override
+    public String identity() {
+        return "bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY NOT NULL";
+    }
+
+    @Override
+    public String identityType() {
+        return "bigint";
+    }
+
+    @Override
+    public String nextSequenceValue(String sequenceName) {
+        return "SELECT NEXT VALUE FOR " + sequenceName;
+    }
+
+    /**
+     * H2 has neither index methods nor concurrent builds. Partial indexes are not supported either, so they are
+     * created as plain indexes over all rows and lose a UNIQUE constraint, which would otherwise reject valid rows.
+     */
+    @Override
+    public String createIndex(IndexDefinition index, boolean concurrently) {
+        boolean partial = !index.where().isBlank();
+
+        return "CREATE " + (index.unique() && !partial ? "UNIQUE " : "") + "INDEX IF NOT EXISTS " + index.name() +
+                " ON " + index.tableName() + " (" + String.join(", ", index.columns()) + ");";
+    }
+
+    @Override
+    public String partitionBy(String strategy, String columnName) {
+        throw new UnsupportedOperationException("Table partitioning is not supported by H2");
+    }
+
+    @Override
+    public String createRangePartition(String tableName, String partitionName, String from, String to) {
+        throw new UnsupportedOperationException("Table partitioning is not supported by H2");
+    }
+
+    @Override
+    public String createHashPartition(String tableName, String partitionName, int modulus, int remainder) {
+        throw new UnsupportedOperationException("Table partitioning is not supported by H2");
+    }
+
+    @Override
+    public String createDefaultPartition(String tableName, String partitionName) {
+        throw new UnsupportedOperationException("Table partitioning is not supported by H2");
+    }
+
+    @Override
+    public String detachPartition(String tableName, String partitionName) {
+        throw new UnsupportedOperationException("Table partitioning is not supported by H2");
+    }
+
+    @Override
+    public String selectPartitionNames() {
+        throw new UnsupportedOperationException("Table partitioning is not supported by H2");
+    }
+
+    @Override
+    public boolean isLockNotAvailable(SQLException exception) {
+        return exception.getErrorCode() == LOCK_TIMEOUT_ERROR_CODE;
+    }
+
+    @Override
+    public String selectTableColumns() {
+        return "SELECT table_name, column_name FROM information_schema.columns WHERE table_schema = SCHEMA()";
+    }
+
+    @Override
+    public String selectConstraintNames() {
+        return "SELECT constraint_name FROM information_schema.table_constraints WHERE table_schema = SCHEMA()";
+    }
+
+    @Override
+    public String upsert(String tableName, List<String> columnNames, List<String> keyColumnNames) {
+        return "MERGE INTO " + tableName + " (" + String.join(", ", columnNames) + ") KEY (" +
+                String.join(", ", keyColumnNames) + ") VALUES (" +
+                String.join(", ", Collections.nCopies(columnNames.size(), "?")) + ")";
+    }
+
+    @Override
+    public String dataType(Class<?> type) throws UnknownTypeException {
+        return byte[].class.equals(type) ? "varbinary" : super.dataType(type);
+    }
+
+    @Override
+    public String binaryLobType() {
+        return "binary large object";
+    }
+
+    @Override
+    public String characterLobType() {
+        return "character large object";
+    }
+
+    /**
+     * H2 would store text bound to a JSON column as a JSON string, so documents are kept as plain text.
+     */
+    @Override
+    public String jsonType() {
+        return "varchar";
+    }
+
+    @Override
+    public int jsonParameterType() {
+        return Types.VARCHAR;
+    }
+
+    /**
+     * JSON is stored as text, which H2 cannot query by path.
+     */
+    @Override
+    public boolean supportsJsonPathQueries() {
+        return false;
+    }
+
+    @Override
+    public String jsonPathCondition(String columnName, int depth) {
+        throw new UnsupportedOperationException("JSON path queries are not supported by H2");
+    }
+
+    @Override
+    public List<String> jsonPathParameters(List<String> keys) {
+        throw new UnsupportedOperationException("JSON path queries are not supported by H2");
+    }
+
+    @Override
+    public String replicationLagQuery() {
+        return null;
+    }
+
+    @Override
+    public boolean supportsPartitioning() {
+        return false;
+    }
+}
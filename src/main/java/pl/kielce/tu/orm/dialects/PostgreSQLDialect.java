@@ -1,8 +1,18 @@
 package pl.kielce.tu.orm.dialects;
 
+import pl.kielce.tu.orm.definitions.IndexDefinition;
 import pl.kielce.tu.orm.exceptions.UnknownTypeException;
+import pl.kielce.tu.orm.repository.LockMode;
 
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Types;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.StringJoiner;
 import java.util.UUID;
 
 public class PostgreSQLDialect implements SQLDialect {
@@ -15,16 +25,28 @@ public class PostgreSQLDialect implements SQLDialect {
     public String dataType(Class<?> type) throws UnknownTypeException {
         if (String.class.equals(type)) {
             return "varchar(255)";
-        } else if (Integer.class.equals(type)) {
+        } else if (Integer.class.equals(type) || int.class.equals(type)) {
             return "integer";
-        } else if (Long.class.equals(type)) {
+        } else if (Long.class.equals(type) || long.class.equals(type)) {
             return "bigint";
-        } else if (Boolean.class.equals(type)) {
+        } else if (Short.class.equals(type) || short.class.equals(type)) {
+            return "smallint";
+        } else if (Boolean.class.equals(type) || boolean.class.equals(type)) {
             return "boolean";
-        } else if (Float.class.equals(type) || Double.class.equals(type)) {
+        } else if (Float.class.equals(type) || float.class.equals(type)) {
             return "real";
+        } else if (Double.class.equals(type) || double.class.equals(type)) {
+            return "double precision";
+        } else if (BigDecimal.class.equals(type)) {
+            return "numeric";
+        } else if (byte[].class.equals(type)) {
+            return "bytea";
         } else if (Instant.class.equals(type)) {
             return "timestamp";
+        } else if (LocalDate.class.equals(type)) {
+            return "date";
+        } else if (OffsetDateTime.class.equals(type)) {
+            return "timestamp with time zone";
         } else if (UUID.class.equals(type)) {
             return "uuid";
         } else {
@@ -52,6 +74,31 @@ public class PostgreSQLDialect implements SQLDialect {
         return "bigserial";
     }
 
+    @Override
+    public String primaryKey(List<String> columnNames) {
+        return "PRIMARY KEY (" + String.join(", ", columnNames) + ")";
+    }
+
+    @Override
+    public String assignedIdentity(Class<?> type) throws UnknownTypeException {
+        return dataType(type) + " PRIMARY KEY NOT NULL";
+    }
+
+    @Override
+    public boolean supportsSequences() {
+        return true;
+    }
+
+    @Override
+    public String createSequence(String sequenceName, int allocationSize) {
+        return "CREATE SEQUENCE IF NOT EXISTS " + sequenceName + " START WITH 1 INCREMENT BY " + allocationSize + ";";
+    }
+
+    @Override
+    public String nextSequenceValue(String sequenceName) {
+        return "SELECT nextval('" + sequenceName + "')";
+    }
+
     @Override
     public String addConstraint(String tableName, String constraintName, String foreignKeyName,
                                 String referencedTableName, String referencedColumnName) {
@@ -66,4 +113,228 @@ public class PostgreSQLDialect implements SQLDialect {
                 referencedColumnName +
                 ");";
     }
+
+    @Override
+    public String createIndex(IndexDefinition index, boolean concurrently) {
+        StringBuilder query = new StringBuilder("CREATE ");
+        if (index.unique()) {
+            query.append("UNIQUE ");
+        }
+        query.append("INDEX ");
+        if (concurrently) {
+            query.append("CONCURRENTLY ");
+        }
+        query.append("IF NOT EXISTS ")
+                .append(index.name())
+                .append(" ON ")
+                .append(index.tableName())
+                .append(" USING ")
+                .append(index.method())
+                .append(" (")
+                .append(String.join(", ", index.columns()))
+                .append(")");
+        if (!index.where().isBlank()) {
+            query.append(" WHERE ").append(index.where());
+        }
+
+        return query.append(";").toString();
+    }
+
+    @Override
+    public String partitionBy(String strategy, String columnName) {
+        return "PARTITION BY " + strategy + " (" + columnName + ")";
+    }
+
+    @Override
+    public String createRangePartition(String tableName, String partitionName, String from, String to) {
+        return "CREATE TABLE IF NOT EXISTS " + partitionName + " PARTITION OF " + tableName +
+                " FOR VALUES FROM ('" + from + "') TO ('" + to + "');";
+    }
+
+    @Override
+    public String createHashPartition(String tableName, String partitionName, int modulus, int remainder) {
+        return "CREATE TABLE IF NOT EXISTS " + partitionName + " PARTITION OF " + tableName +
+                " FOR VALUES WITH (MODULUS " + modulus + ", REMAINDER " + remainder + ");";
+    }
+
+    @Override
+    public String createDefaultPartition(String tableName, String partitionName) {
+        return "CREATE TABLE IF NOT EXISTS " + partitionName + " PARTITION OF " + tableName + " DEFAULT;";
+    }
+
+    @Override
+    public String detachPartition(String tableName, String partitionName) {
+        return "ALTER TABLE " + tableName + " DETACH PARTITION " + partitionName + ";";
+    }
+
+    @Override
+    public String selectPartitionNames() {
+        return "SELECT child.relname FROM pg_catalog.pg_inherits i " +
+                "JOIN pg_catalog.pg_class parent ON parent.oid = i.inhparent " +
+                "JOIN pg_catalog.pg_class child ON child.oid = i.inhrelid " +
+                "WHERE parent.relname = lower(?)";
+    }
+
+    @Override
+    public String forUpdate(LockMode lockMode) {
+        return switch (lockMode) {
+            case WAIT -> "FOR UPDATE";
+            case NOWAIT -> "FOR UPDATE NOWAIT";
+            case SKIP_LOCKED -> "FOR UPDATE SKIP LOCKED";
+        };
+    }
+
+    @Override
+    public boolean isLockNotAvailable(SQLException exception) {
+        return "55P03".equals(exception.getSQLState());
+    }
+
+    @Override
+    public String addColumn(String tableName, String columnName, String columnDefinition) {
+        return "ALTER TABLE " + tableName + " ADD COLUMN " + columnName + " " + columnDefinition + ";";
+    }
+
+    @Override
+    public String selectTableColumns() {
+        return "SELECT table_name, column_name FROM information_schema.columns WHERE table_schema = current_schema()";
+    }
+
+    @Override
+    public String selectConstraintNames() {
+        return "SELECT c.conname FROM pg_catalog.pg_constraint c " +
+                "JOIN pg_catalog.pg_namespace n ON n.oid = c.connamespace WHERE n.nspname = current_schema()";
+    }
+
+    @Override
+    public String upsert(String tableName, List<String> columnNames, List<String> keyColumnNames) {
+        return insertOnConflict(tableName, columnNames, keyColumnNames);
+    }
+
+    @Override
+    public String limit() {
+        return "LIMIT ?";
+    }
+
+    @Override
+    public String limitOffset() {
+        return "LIMIT ? OFFSET ?";
+    }
+
+    @Override
+    public String[] generatedKeyColumns(String idColumnName) {
+        return new String[] {idColumnName};
+    }
+
+    @Override
+    public String inCondition(String columnName, int size) {
+        return columnName + " = ANY (?)";
+    }
+
+    @Override
+    public boolean supportsArrayParameters() {
+        return true;
+    }
+
+    @Override
+    public String arrayElementType(Class<?> type) throws UnknownTypeException {
+        return String.class.equals(type) ? "varchar" : dataType(type);
+    }
+
+    /**
+     * pgjdbc reads a whole {@code bytea} value into memory, so binary LOBs are loaded lazily but not streamed.
+     * Values that do not fit in memory need the Large Object API, which is not supported.
+     */
+    @Override
+    public String binaryLobType() {
+        return "bytea";
+    }
+
+    @Override
+    public String characterLobType() {
+        return "text";
+    }
+
+    @Override
+    public String jsonType() {
+        return "jsonb";
+    }
+
+    /**
+     * Binding as {@link Types#OTHER} lets the server cast the text to jsonb.
+     */
+    @Override
+    public int jsonParameterType() {
+        return Types.OTHER;
+    }
+
+    @Override
+    public boolean supportsJsonPathQueries() {
+        return true;
+    }
+
+    /**
+     * The path is bound as one {@code text[]} parameter, {@code #>>} then reads a numeric key of an array as an
+     * index, like {@link pl.kielce.tu.orm.json.JsonDocument} does.
+     */
+    @Override
+    public String jsonPathCondition(String columnName, int depth) {
+        return columnName + " #>> ?::text[] = ?";
+    }
+
+    /**
+     * The keys form a single array literal such as {@code {"address","city"}}.
+     */
+    @Override
+    public List<String> jsonPathParameters(List<String> keys) {
+        StringJoiner path = new StringJoiner(",", "{", "}");
+        for (String key : keys) {
+            path.add('"' + key.replace("\\", "\\\\").replace("\"", "\\\"") + '"');
+        }
+
+        return List.of(path.toString());
+    }
+
+    /**
+     * A replica that has replayed everything it received is current, even when the primary has been idle since the
+     * last replayed transaction.
+     */
+    @Override
+    public String replicationLagQuery() {
+        return "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+                "ELSE CAST(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 AS bigint) END";
+    }
+
+    @Override
+    public boolean supportsPartitioning() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsForeignKeyConstraints() {
+        return true;
+    }
+
+    static String insertOnConflict(String tableName, List<String> columnNames, List<String> keyColumnNames) {
+        String placeholders = String.join(", ", Collections.nCopies(columnNames.size(), "?"));
+        StringBuilder query = new StringBuilder("INSERT INTO ")
+                .append(tableName)
+                .append(" (")
+                .append(String.join(", ", columnNames))
+                .append(") VALUES (")
+                .append(placeholders)
+                .append(") ON CONFLICT (")
+                .append(String.join(", ", keyColumnNames))
+                .append(")");
+
+        List<String> updates = columnNames.stream()
+                .filter(column -> !keyColumnNames.contains(column))
+                .map(column -> column + " = excluded." + column)
+                .toList();
+
+        if (updates.isEmpty()) {
+            return query.append(" DO NOTHING").toString();
+        }
+
+        return query.append(" DO UPDATE SET ").append(String.join(", ", updates)).toString();
+    }
 }
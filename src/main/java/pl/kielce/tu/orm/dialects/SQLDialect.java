@@ -1,6 +1,11 @@
 package pl.kielce.tu.orm.dialects;
 
+import pl.kielce.tu.orm.definitions.IndexDefinition;
 import pl.kielce.tu.orm.exceptions.UnknownTypeException;
+import pl.kielce.tu.orm.repository.LockMode;
+
+import java.sql.SQLException;
+import java.util.List;
 
 public interface SQLDialect {
     String createTable();
@@ -15,6 +20,108 @@ public interface SQLDialect {
 
     String identityType();
 
+    String primaryKey(List<String> columnNames);
+
+    String assignedIdentity(Class<?> type) throws UnknownTypeException;
+
+    boolean supportsSequences();
+
+    String createSequence(String sequenceName, int allocationSize);
+
+    String nextSequenceValue(String sequenceName);
+
     String addConstraint(String tableName, String constraintName, String foreignKeyName, String referencedTableName,
                          String referencedColumnName);
+
+    String createIndex(IndexDefinition index, boolean concurrently);
+
+    String partitionBy(String strategy, String columnName);
+
+    String createRangePartition(String tableName, String partitionName, String from, String to);
+
+    String createHashPartition(String tableName, String partitionName, int modulus, int remainder);
+
+    String createDefaultPartition(String tableName, String partitionName);
+
+    String detachPartition(String tableName, String partitionName);
+
+    String selectPartitionNames();
+
+    String forUpdate(LockMode lockMode);
+
+    boolean isLockNotAvailable(SQLException exception);
+
+    String addColumn(String tableName, String columnName, String columnDefinition);
+
+    String selectTableColumns();
+
+    String selectConstraintNames();
+
+    /**
+     * Inserts a row or, when a row with the same key columns exists, updates its remaining columns. When all columns
+     * are key columns an existing row is left unchanged.
+     */
+    String upsert(String tableName, List<String> columnNames, List<String> keyColumnNames);
+
+    /**
+     * Row limit with one parameter, appended after ORDER BY.
+     */
+    String limit();
+
+    /**
+     * Row limit and offset with two parameters, bound in that order.
+     */
+    String limitOffset();
+
+    String[] generatedKeyColumns(String idColumnName);
+
+    /**
+     * Condition matching {@code columnName} against {@code size} values. When {@link #supportsArrayParameters()}
+     * is true the values are bound as a single array parameter, otherwise as one parameter each.
+     */
+    String inCondition(String columnName, int size);
+
+    boolean supportsArrayParameters();
+
+    /**
+     * Only called when {@link #supportsArrayParameters()} is true.
+     */
+    String arrayElementType(Class<?> type) throws UnknownTypeException;
+
+    String binaryLobType();
+
+    String characterLobType();
+
+    String jsonType();
+
+    /**
+     * {@link java.sql.Types} constant that JSON text is bound with.
+     */
+    int jsonParameterType();
+
+    boolean supportsJsonPathQueries();
+
+    /**
+     * Condition comparing the text at a path of {@code depth} keys inside a JSON column with the last parameter.
+     * The parameters before it are the ones returned by {@link #jsonPathParameters(List)}.
+     */
+    String jsonPathCondition(String columnName, int depth);
+
+    List<String> jsonPathParameters(List<String> keys);
+
+    /**
+     * Query returning how many milliseconds a replica is behind its primary, or {@code null} when replication lag
+     * cannot be measured and replicas are assumed to be current.
+     */
+    String replicationLagQuery();
+
+    /**
+     * Whether the partition statements are available. {@code @Partitioned} is ignored by dialects without it.
+     */
+    boolean supportsPartitioning();
+
+    /**
+     * Whether {@link #addConstraint} is available. Dialects without it get no foreign key constraints.
+     */
+    boolean supportsForeignKeyConstraints();
 }
@@ -0,0 +1,286 @@
+package pl.kielce.tu.orm.dialects;
+
+import pl.kielce.tu.orm.definitions.IndexDefinition;
+import pl.kielce.tu.orm.exceptions.UnknownTypeException;
+import pl.kielce.tu.orm.repository.LockMode;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * SQLite, e.g. {@code jdbc:sqlite::memory:}. SQLite has no sequences, partitions, row locks or array parameters,
+ * and foreign keys can only be declared inside CREATE TABLE, so constraints are not added afterwards.
+ */
+public class SQLiteDialect implements SQLDialect {
+    private static final int SQLITE_BUSY = 5;
+
+    @Override
+    public String createTable() {
+        return "CREATE TABLE IF NOT EXISTS";
+    }
+
+    @Override
+    public String dataType(Class<?> type) throws UnknownTypeException {
+        if (String.class.equals(type) || UUID.class.equals(type)) {
+            return "text";
+        } else if (Integer.class.equals(type) || int.class.equals(type) || Long.class.equals(type) ||
+                long.class.equals(type) || Short.class.equals(type) || short.class.equals(type)) {
+            return "integer";
+        } else if (Boolean.class.equals(type) || boolean.class.equals(type)) {
+            return "boolean";
+        } else if (Float.class.equals(type) || float.class.equals(type) || Double.class.equals(type) ||
+                double.class.equals(type)) {
+            return "real";
+        } else if (BigDecimal.class.equals(type)) {
+            return "numeric";
+        } else if (byte[].class.equals(type)) {
+            return "blob";
+        } else if (Instant.class.equals(type) || OffsetDateTime.class.equals(type)) {
+            return "timestamp";
+        } else if (LocalDate.class.equals(type)) {
+            return "date";
+        } else {
+            throw new UnknownTypeException("Unknown type: " + type);
+        }
+    }
+
+    @Override
+    public String uniqueConstraint() {
+        return "UNIQUE";
+    }
+
+    @Override
+    public String notNull() {
+        return "NOT NULL";
+    }
+
+    @Override
+    public String identity() {
+        return "integer PRIMARY KEY AUTOINCREMENT NOT NULL";
+    }
+
+    @Override
+    public String identityType() {
+        return "integer";
+    }
+
+    @Override
+    public String primaryKey(List<String> columnNames) {
+        return "PRIMARY KEY (" + String.join(", ", columnNames) + ")";
+    }
+
+    @Override
+    public String assignedIdentity(Class<?> type) throws UnknownTypeException {
+        return dataType(type) + " PRIMARY KEY NOT NULL";
+    }
+
+    @Override
+    public boolean supportsSequences() {
+        return false;
+    }
+
+    @Override
+    public String createSequence(String sequenceName, int allocationSize) {
+        throw new UnsupportedOperationException("Sequences are not supported by SQLite, use identity ids instead");
+    }
+
+    @Override
+    public String nextSequenceValue(String sequenceName) {
+        throw new UnsupportedOperationException("Sequences are not supported by SQLite, use identity ids instead");
+    }
+
+    @Override
+    public String addConstraint(String tableName, String constraintName, String foreignKeyName,
+                                String referencedTableName, String referencedColumnName) {
+        throw new UnsupportedOperationException("SQLite cannot add foreign key constraints to existing tables");
+    }
+
+    @Override
+    public String createIndex(IndexDefinition index, boolean concurrently) {
+        StringBuilder query = new StringBuilder("CREATE ");
+        if (index.unique()) {
+            query.append("UNIQUE ");
+        }
+        query.append("INDEX IF NOT EXISTS ")
+                .append(index.name())
+                .append(" ON ")
+                .append(index.tableName())
+                .append(" (")
+                .append(String.join(", ", index.columns()))
+                .append(")");
+        if (!index.where().isBlank()) {
+            query.append(" WHERE ").append(index.where());
+        }
+
+        return query.append(";").toString();
+    }
+
+    @Override
+    public String partitionBy(String strategy, String columnName) {
+        throw new UnsupportedOperationException("Table partitioning is not supported by SQLite");
+    }
+
+    @Override
+    public String createRangePartition(String tableName, String partitionName, String from, String to) {
+        throw new UnsupportedOperationException("Table partitioning is not supported by SQLite");
+    }
+
+    @Override
+    public String createHashPartition(String tableName, String partitionName, int modulus, int remainder) {
+        throw new UnsupportedOperationException("Table partitioning is not supported by SQLite");
+    }
+
+    @Override
+    public String createDefaultPartition(String tableName, String partitionName) {
+        throw new UnsupportedOperationException("Table partitioning is not supported by SQLite");
+    }
+
+    @Override
+    public String detachPartition(String tableName, String partitionName) {
+        throw new UnsupportedOperationException("Table partitioning is not supported by SQLite");
+    }
+
+    @Override
+    public String selectPartitionNames() {
+        throw new UnsupportedOperationException("Table partitioning is not supported by SQLite");
+    }
+
+    /**
+     * SQLite locks the whole database for writing, so rows are not locked individually.
+     */
+    @Override
+    public String forUpdate(LockMode lockMode) {
+        return "";
+    }
+
+    @Override
+    public boolean isLockNotAvailable(SQLException exception) {
+        return exception.getErrorCode() == SQLITE_BUSY;
+    }
+
+    @Override
+    public String addColumn(String tableName, String columnName, String columnDefinition) {
+        return "ALTER TABLE " + tableName + " ADD COLUMN " + columnName + " " + columnDefinition + ";";
+    }
+
+    @Override
+    public String selectTableColumns() {
+        return "SELECT m.name, p.name FROM sqlite_master m JOIN pragma_table_info(m.name) p WHERE m.type = 'table'";
+    }
+
+    /**
+     * SQLite keeps no catalog of named constraints.
+     */
+    @Override
+    public String selectConstraintNames() {
+        return "SELECT name FROM sqlite_master WHERE 1 = 0";
+    }
+
+    @Override
+    public String upsert(String tableName, List<String> columnNames, List<String> keyColumnNames) {
+        return PostgreSQLDialect.insertOnConflict(tableName, columnNames, keyColumnNames);
+    }
+
+    @Override
+    public String limit() {
+        return "LIMIT ?";
+    }
+
+    @Override
+    public String limitOffset() {
+        return "LIMIT ? OFFSET ?";
+    }
+
+    @Override
+    public String[] generatedKeyColumns(String idColumnName) {
+        return new String[] {idColumnName};
+    }
+
+    @Override
+    public String inCondition(String columnName, int size) {
+        return columnName + " IN (" + String.join(", ", Collections.nCopies(size, "?")) + ")";
+    }
+
+    @Override
+    public boolean supportsArrayParameters() {
+        return false;
+    }
+
+    @Override
+    public String arrayElementType(Class<?> type) {
+        throw new UnsupportedOperationException("Array parameters are not supported by SQLite");
+    }
+
+    @Override
+    public String binaryLobType() {
+        return "blob";
+    }
+
+    @Override
+    public String characterLobType() {
+        return "text";
+    }
+
+    @Override
+    public String jsonType() {
+        return "text";
+    }
+
+    @Override
+    public int jsonParameterType() {
+        return Types.VARCHAR;
+    }
+
+    @Override
+    public boolean supportsJsonPathQueries() {
+        return true;
+    }
+
+    /**
+     * json_extract returns numbers as numbers, which never equal the text value, so the result is compared as text
+     * like PostgreSQL's {@code #>>} does.
+     */
+    @Override
+    public String jsonPathCondition(String columnName, int depth) {
+        return "CAST(json_extract(" + columnName + ", ?) AS TEXT) = ?";
+    }
+
+    /**
+     * The keys form a single quoted path such as {@code $."tags"[0]}, numeric keys index arrays.
+     */
+    @Override
+    public List<String> jsonPathParameters(List<String> keys) {
+        StringBuilder path = new StringBuilder("$");
+        for (String key : keys) {
+            if (!key.isEmpty() && key.chars().allMatch(Character::isDigit)) {
+                path.append('[').append(key).append(']');
+            } else {
+                path.append(".\"").append(key.replace("\"", "\\\"")).append('"');
+            }
+        }
+
+        return List.of(path.toString());
+    }
+
+    @Override
+    public String replicationLagQuery() {
+        return null;
+    }
+
+    @Override
+    public boolean supportsPartitioning() {
+        return false;
+    }
+
+    @Override
+    public boolean supportsForeignKeyConstraints() {
+        return false;
+    }
+}
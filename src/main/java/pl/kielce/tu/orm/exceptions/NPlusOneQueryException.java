@@ -0,0 +1,7 @@
+package pl.kielce.tu.orm.exceptions;
+
+public class NPlusOneQueryException extends RuntimeException {
+    public NPlusOneQueryException(String message) {
+        super(message);
+    }
+}
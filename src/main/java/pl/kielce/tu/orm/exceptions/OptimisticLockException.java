@@ -0,0 +1,11 @@
+package pl.kielce.tu.orm.exceptions;
+
+public class OptimisticLockException extends RuntimeException {
+    public OptimisticLockException(String message) {
+        super(message);
+    }
+
+    public OptimisticLockException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package pl.kielce.tu.orm.exceptions;
+
+public class PessimisticLockException extends RuntimeException {
+    public PessimisticLockException(String message) {
+        super(message);
+    }
+
+    public PessimisticLockException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
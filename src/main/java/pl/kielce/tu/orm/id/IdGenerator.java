@@ -0,0 +1,8 @@
+package pl.kielce.tu.orm.id;
+
+/**
+ * Produces identifiers on the client, so they are known before the row is inserted.
+ */
+public interface IdGenerator {
+    Object nextId();
+}
@@ -0,0 +1,69 @@
+package pl.kielce.tu.orm.id;
+
+import pl.kielce.tu.orm.annotations.Entity;
+import pl.kielce.tu.orm.annotations.GeneratedValue;
+import pl.kielce.tu.orm.config.ORMConfiguration;
+import pl.kielce.tu.orm.dialects.SQLDialect;
+import pl.kielce.tu.orm.sql.SQLGenerator;
+import pl.kielce.tu.orm.sql.SQLNamesHelper;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the client-side id generator of an entity. Entities without one keep database generated ids.
+ */
+public final class IdGenerators {
+    private static final Map<Class<?>, Optional<IdGenerator>> CACHE = new ConcurrentHashMap<>();
+
+    private IdGenerators() {}
+
+    public static Optional<IdGenerator> forEntity(Class<?> entityClass) {
+        return CACHE.computeIfAbsent(entityClass, IdGenerators::createGenerator);
+    }
+
+    public static boolean usesSequence(Field idField) {
+        GeneratedValue generatedValue = idField.getAnnotation(GeneratedValue.class);
+
+        return generatedValue != null && generatedValue.strategy() == GeneratedValue.Strategy.SEQUENCE;
+    }
+
+    public static boolean isAssigned(Field idField) {
+        return usesSequence(idField) || idField.getType() == UUID.class;
+    }
+
+    public static String getSequenceName(Class<?> entityClass, Field idField) {
+        GeneratedValue generatedValue = idField.getAnnotation(GeneratedValue.class);
+        if (generatedValue != null && !generatedValue.sequenceName().isBlank()) {
+            return generatedValue.sequenceName();
+        }
+
+        Entity entityAnnotation = entityClass.getAnnotation(Entity.class);
+        String tableName = new SQLNamesHelper(entityClass.getName()).getTableName(entityClass, entityAnnotation.name());
+
+        return tableName.toLowerCase() + "_seq";
+    }
+
+    private static Optional<IdGenerator> createGenerator(Class<?> entityClass) {
+        Field idField = SQLGenerator.getIdField(entityClass);
+
+        if (usesSequence(idField)) {
+            SQLDialect dialect = ORMConfiguration.getInstance().getDialect();
+            if (!dialect.supportsSequences()) {
+                throw new IllegalStateException("Entity " + entityClass.getName() + " uses sequence ids, which " +
+                        dialect.getClass().getSimpleName() + " does not support");
+            }
+
+            GeneratedValue generatedValue = idField.getAnnotation(GeneratedValue.class);
+            return Optional.of(new SequenceIdGenerator(getSequenceName(entityClass, idField), generatedValue.allocationSize()));
+        }
+        if (idField.getType() == UUID.class) {
+            return Optional.of(UuidV7Generator.getInstance());
+        }
+
+        return Optional.empty();
+    }
+}
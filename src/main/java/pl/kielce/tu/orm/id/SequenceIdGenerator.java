@@ -0,0 +1,74 @@
+package pl.kielce.tu.orm.id;
+
+import pl.kielce.tu.orm.config.ORMConfiguration;
+import pl.kielce.tu.orm.connector.DatabaseConnector;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Pooled sequence generator. The sequence is created with {@code INCREMENT BY allocationSize}, so every
+ * {@code nextval} reserves a whole block of ids which is then handed out locally with an atomic counter.
+ * When a block runs out, threads race to install a new one; the losers' blocks are simply dropped, leaving gaps.
+ */
+public class SequenceIdGenerator implements IdGenerator {
+    private final int allocationSize;
+    private final LongSupplier blockSupplier;
+    private final AtomicReference<Block> currentBlock = new AtomicReference<>(new Block(0, 0));
+
+    public SequenceIdGenerator(String sequenceName, int allocationSize) {
+        this(allocationSize, () -> fetchNextValue(sequenceName));
+    }
+
+    SequenceIdGenerator(int allocationSize, LongSupplier blockSupplier) {
+        if (allocationSize < 1) {
+            throw new IllegalArgumentException("Allocation size must be positive: " + allocationSize);
+        }
+        this.allocationSize = allocationSize;
+        this.blockSupplier = blockSupplier;
+    }
+
+    @Override
+    public Long nextId() {
+        while (true) {
+            Block block = currentBlock.get();
+            long id = block.next.getAndIncrement();
+            if (id < block.end) {
+                return id;
+            }
+
+            long start = blockSupplier.getAsLong();
+            currentBlock.compareAndSet(block, new Block(start, start + allocationSize));
+        }
+    }
+
+    private static long fetchNextValue(String sequenceName) {
+        Connection connection = DatabaseConnector.getInstance().getConnection();
+        String sql = ORMConfiguration.getInstance().getDialect().nextSequenceValue(sequenceName);
+
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            if (!resultSet.next()) {
+                throw new IllegalStateException("Sequence " + sequenceName + " returned no value");
+            }
+            return resultSet.getLong(1);
+        } catch (SQLException e) {
+            throw new RuntimeException("Error fetching next value of sequence " + sequenceName, e);
+        }
+    }
+
+    private static final class Block {
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
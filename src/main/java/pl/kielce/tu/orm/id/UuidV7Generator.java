@@ -0,0 +1,37 @@
+package pl.kielce.tu.orm.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered UUID version 7 (RFC 9562). The 48-bit millisecond timestamp and the 12-bit {@code rand_a} counter
+ * share one atomic state, so ids from this generator are strictly increasing even within the same millisecond;
+ * the remaining 62 bits are random. Above 4096 ids per millisecond the counter carries into the timestamp,
+ * which runs slightly ahead of the clock until the load drops.
+ */
+public final class UuidV7Generator implements IdGenerator {
+    private static final UuidV7Generator INSTANCE = new UuidV7Generator();
+    private static final int COUNTER_BITS = 12;
+
+    private final AtomicLong lastState = new AtomicLong();
+
+    UuidV7Generator() {}
+
+    public static UuidV7Generator getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public UUID nextId() {
+        long now = System.currentTimeMillis() << COUNTER_BITS;
+        long state = lastState.accumulateAndGet(now, (previous, current) -> Math.max(previous + 1, current));
+
+        long timestamp = state >>> COUNTER_BITS;
+        long counter = state & ((1L << COUNTER_BITS) - 1);
+        long mostSigBits = (timestamp << 16) | 0x7000L | counter;
+        long leastSigBits = 0x8000000000000000L | (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL);
+
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -2,7 +2,12 @@ package pl.kielce.tu.orm.initializer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import pl.kielce.tu.orm.annotations.Entity;
+import pl.kielce.tu.orm.annotations.GeneratedValue;
+import pl.kielce.tu.orm.annotations.Partitioned;
+import pl.kielce.tu.orm.annotations.processors.DatabaseColumnCreator;
 import pl.kielce.tu.orm.annotations.processors.DatabaseForeignKeyCreator;
+import pl.kielce.tu.orm.annotations.processors.DatabaseIndexCreator;
 import pl.kielce.tu.orm.annotations.processors.DatabaseTableCreator;
 import pl.kielce.tu.orm.annotations.processors.ManyToManyCreator;
 import pl.kielce.tu.orm.cache.EntitiesWithFK;
@@ -10,12 +15,35 @@ import pl.kielce.tu.orm.cache.ManyToManyTables;
 import pl.kielce.tu.orm.classloader.EntitiesClassLoader;
 import pl.kielce.tu.orm.config.ORMConfiguration;
 import pl.kielce.tu.orm.connector.DatabaseConnector;
+import pl.kielce.tu.orm.definitions.ConstraintDefinition;
 import pl.kielce.tu.orm.definitions.ManyToManyColumnDefinition;
 import pl.kielce.tu.orm.dialects.SQLDialect;
+import pl.kielce.tu.orm.id.IdGenerators;
+import pl.kielce.tu.orm.jfr.OrmFlushEvent;
+import pl.kielce.tu.orm.schema.DatabaseSchema;
+import pl.kielce.tu.orm.schema.PartitionManager;
+import pl.kielce.tu.orm.schema.SchemaDiff;
+import pl.kielce.tu.orm.sql.SQLGenerator;
+import pl.kielce.tu.orm.sql.SQLNamesHelper;
 
+import java.lang.reflect.Field;
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
+import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class DatabaseInitializer {
     private static final Logger log = LoggerFactory.getLogger(DatabaseInitializer.class);
@@ -28,14 +56,28 @@ public class DatabaseInitializer {
         if (!isInitialized) {
             log.info("Initializing Database...");
             sqlDialect = sqlDialectParam;
+            ORMConfiguration.getInstance().setDialect(sqlDialectParam);
 
             setConfigProperties(connectionString, username, password, dbDriver);
             DatabaseConnector connector = DatabaseConnector.getInstance();
-            Connection dbConnection = connector.getConnection();
 
-            createTables(dbConnection);
-            createForeignKeys(dbConnection);
-            createManyToManyReferences(dbConnection);
+            SchemaDiff schemaDiff = new SchemaDiff(DatabaseSchema.read(connector.getConnection(), sqlDialect), sqlDialect);
+            SchemaGraph schemaGraph = new SchemaGraph();
+            Set<Class<?>> entities = findEntities();
+            createTables(entities, schemaGraph, schemaDiff);
+            createSequences(entities, schemaGraph, sqlDialect);
+            createPartitions(entities, schemaGraph);
+            createManyToManyReferences(schemaGraph, schemaDiff);
+            List<String> constraints = getForeignKeys(schemaDiff);
+            List<String> indexes = getIndexes(entities);
+
+            if (isDryRun()) {
+                logMigrationPlan(schemaGraph, constraints, indexes);
+            } else {
+                executeSchemaGraph(connector, schemaGraph);
+                executeConstraints(connector, constraints);
+                executeIndexes(connector, indexes);
+            }
 
             isInitialized = true;
             log.info("Database is successfully initialized.");
@@ -44,58 +86,263 @@ public class DatabaseInitializer {
         }
     }
 
-    private static void createTables(Connection dbConnection) {
+    private static Set<Class<?>> findEntities() {
         EntitiesClassLoader entitiesClassLoader = new EntitiesClassLoader();
-        Set<Class<?>> entities = entitiesClassLoader.findEntities("");
+        ORMConfiguration config = ORMConfiguration.getInstance();
+        String entitiesPackage = config.hasProperty("entitiesPackage") ? config.getProperty("entitiesPackage") : "";
 
-        entities.forEach(entity -> {
-            DatabaseTableCreator tableCreator = new DatabaseTableCreator(entity.getName(), sqlDialect);
-            try {
-                String query = tableCreator.getSQLStatement();
-                Statement statement = dbConnection.createStatement();
-                statement.executeUpdate(query);
+        return entitiesClassLoader.findEntities(entitiesPackage);
+    }
 
-                statement.close();
+    private static void createTables(Set<Class<?>> entities, SchemaGraph schemaGraph, SchemaDiff schemaDiff) {
+        Map<String, String> tableStatements = new ConcurrentHashMap<>();
+        entities.parallelStream().forEach(entity -> {
+            String tableName = getTableName(entity);
+            try {
+                getTableStatement(entity, tableName, schemaDiff)
+                        .ifPresent(statement -> tableStatements.put(tableName, statement));
             } catch (Exception e) {
-                log.error("Cannot execute create table SQL statement for class {}", entity.getName(), e);
+                log.error("Cannot generate create table SQL statement for class {}", entity.getName(), e);
             }
         });
+
+        tableStatements.forEach((tableName, statement) -> schemaGraph.addNode(tableName, statement, Set.of()));
     }
 
-    private static void createForeignKeys(Connection dbConnection) {
-        EntitiesWithFK fkCache = EntitiesWithFK.getInstance();
-        Set<String> entities = fkCache.getEntities();
+    /**
+     * Fails at startup when an entity draws ids from a sequence the dialect cannot create.
+     */
+    static void createSequences(Set<Class<?>> entities, SchemaGraph schemaGraph, SQLDialect dialect) {
+        for (Class<?> entity : entities) {
+            Field idField = SQLGenerator.getIdField(entity);
+            if (IdGenerators.usesSequence(idField)) {
+                if (!dialect.supportsSequences()) {
+                    throw new IllegalStateException("Entity " + entity.getName() + " uses @GeneratedValue(strategy = SEQUENCE), " +
+                            "which " + dialect.getClass().getSimpleName() + " does not support. Use IDENTITY instead");
+                }
 
-        entities.forEach(entity -> {
-            DatabaseForeignKeyCreator foreignKeyCreator = new DatabaseForeignKeyCreator(entity, sqlDialect);
-            try {
-                String query = foreignKeyCreator.getSQLStatement();
-                Statement statement = dbConnection.createStatement();
-                statement.executeUpdate(query);
+                String sequenceName = IdGenerators.getSequenceName(entity, idField);
+                int allocationSize = idField.getAnnotation(GeneratedValue.class).allocationSize();
+                schemaGraph.addNode(sequenceName, dialect.createSequence(sequenceName, allocationSize), Set.of());
+            }
+        }
+    }
 
-                statement.close();
-            } catch (Exception e) {
-                log.error("Cannot execute add foreign key SQL statement for class {}", entity, e);
+    private static void createPartitions(Set<Class<?>> entities, SchemaGraph schemaGraph) {
+        if (!sqlDialect.supportsPartitioning()) {
+            return;
+        }
+
+        PartitionManager partitionManager = new PartitionManager(sqlDialect);
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+
+        for (Class<?> entity : entities) {
+            if (entity.isAnnotationPresent(Partitioned.class)) {
+                String tableName = getTableName(entity);
+                schemaGraph.addNode(tableName + "_partitions",
+                        String.join("\n", partitionManager.getCreateStatements(entity, today)), Set.of(tableName));
             }
-        });
+        }
     }
 
-    private static void createManyToManyReferences(Connection dbConnection) {
+    private static Optional<String> getTableStatement(Class<?> entity, String tableName, SchemaDiff schemaDiff)
+            throws ClassNotFoundException {
+        if (!schemaDiff.hasTable(tableName)) {
+            return Optional.of(new DatabaseTableCreator(entity.getName(), sqlDialect).getSQLStatement());
+        }
+
+        DatabaseColumnCreator columnCreator = new DatabaseColumnCreator(entity.getName(), sqlDialect);
+        List<String> missingColumns = schemaDiff.getMissingColumnStatements(tableName, columnCreator.getColumnDefinitions());
+        if (missingColumns.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(String.join("\n", missingColumns));
+    }
+
+    private static void createManyToManyReferences(SchemaGraph schemaGraph, SchemaDiff schemaDiff) {
         ManyToManyTables manyToManyTables = ManyToManyTables.getInstance();
         Set<ManyToManyColumnDefinition> tables = manyToManyTables.getColumnDefinitions();
 
         tables.forEach(table -> {
             ManyToManyCreator manyToManyCreator = new ManyToManyCreator(table, sqlDialect);
             try {
-                String query = manyToManyCreator.getSQLStatement();
-                Statement statement = dbConnection.createStatement();
-                statement.executeUpdate(query);
+                if (schemaDiff.hasTable(manyToManyCreator.getTableName())) {
+                    schemaDiff.getMissingKeyStatement(manyToManyCreator.getKeyIndexDefinition()).ifPresent(statement ->
+                            schemaGraph.addNode(manyToManyCreator.getTableName() + "_key", statement, Set.of()));
+                    return;
+                }
+                schemaGraph.addNode(manyToManyCreator.getTableName(), manyToManyCreator.getCreateTableStatement(),
+                        Set.copyOf(manyToManyCreator.getReferencedTableNames()));
+            } catch (Exception e) {
+                log.error("Cannot generate create table for many to many references for classes: {} and {}", table.firstTable(), table.secondTable(), e);
+            }
+        });
+    }
+
+    /**
+     * Dialects that cannot add foreign keys to existing tables get none.
+     */
+    private static List<String> getForeignKeys(SchemaDiff schemaDiff) {
+        if (!sqlDialect.supportsForeignKeyConstraints()) {
+            return List.of();
+        }
+
+        EntitiesWithFK fkCache = EntitiesWithFK.getInstance();
+        List<ConstraintDefinition> constraints = new ArrayList<>();
+
+        fkCache.getEntities().forEach(entity -> {
+            DatabaseForeignKeyCreator foreignKeyCreator = new DatabaseForeignKeyCreator(entity, sqlDialect);
+            try {
+                constraints.addAll(foreignKeyCreator.getConstraintDefinitions());
+            } catch (Exception e) {
+                log.error("Cannot generate add foreign key SQL statement for class {}", entity, e);
+            }
+        });
+
+        ManyToManyTables.getInstance().getColumnDefinitions().forEach(table ->
+                constraints.addAll(new ManyToManyCreator(table, sqlDialect).getConstraintDefinitions()));
+
+        return schemaDiff.getMissingConstraints(constraints).stream()
+                .map(ConstraintDefinition::statement)
+                .toList();
+    }
+
+    private static List<String> getIndexes(Set<Class<?>> entities) {
+        boolean concurrently = isEnabled("schema.createIndexesConcurrently");
+        List<String> indexes = new ArrayList<>();
 
-                statement.close();
+        entities.forEach(entity -> {
+            DatabaseIndexCreator indexCreator = new DatabaseIndexCreator(entity.getName(), sqlDialect);
+            try {
+                indexes.addAll(indexCreator.getSQLStatements(concurrently));
             } catch (Exception e) {
-                log.error("Cannot execute create table for many to many references for classes: {} and {}", table.firstTable(), table.secondTable());
+                log.error("Cannot generate create index SQL statement for class {}", entity.getName(), e);
             }
         });
+
+        ManyToManyTables.getInstance().getColumnDefinitions().forEach(table ->
+                new ManyToManyCreator(table, sqlDialect).getIndexDefinitions()
+                        .forEach(index -> indexes.add(sqlDialect.createIndex(index, concurrently))));
+
+        return indexes;
+    }
+
+    private static boolean isDryRun() {
+        return isEnabled("schema.dryRun");
+    }
+
+    private static boolean isEnabled(String property) {
+        ORMConfiguration config = ORMConfiguration.getInstance();
+        return config.hasProperty(property) && Boolean.parseBoolean(config.getProperty(property));
+    }
+
+    private static void logMigrationPlan(SchemaGraph schemaGraph, List<String> constraints, List<String> indexes) {
+        List<String> statements = new ArrayList<>();
+        schemaGraph.getLevels().forEach(level -> level.forEach(node -> statements.add(node.statement())));
+        statements.addAll(constraints);
+        statements.addAll(indexes);
+
+        if (statements.isEmpty()) {
+            log.info("Schema dry run: database is up to date");
+            return;
+        }
+
+        log.info("Schema dry run, {} statements would be executed:\n{}", statements.size(), String.join("\n", statements));
+    }
+
+    private static void executeSchemaGraph(DatabaseConnector connector, SchemaGraph schemaGraph) {
+        OrmFlushEvent flushEvent = new OrmFlushEvent();
+        flushEvent.begin();
+        int statements = 0;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (List<SchemaGraph.Node> level : schemaGraph.getLevels()) {
+                List<Callable<Void>> tasks = level.stream()
+                        .map(node -> (Callable<Void>) () -> executeNode(connector, node))
+                        .toList();
+
+                for (Future<Void> result : executor.invokeAll(tasks)) {
+                    result.get();
+                }
+                statements += tasks.size();
+            }
+            flushEvent.complete(null, "createTables", statements);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while creating tables", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Cannot create tables", e.getCause());
+        }
+    }
+
+    private static Void executeNode(DatabaseConnector connector, SchemaGraph.Node node) throws InterruptedException {
+        Connection dbConnection = connector.acquireConnection();
+
+        try (Statement statement = dbConnection.createStatement()) {
+            statement.executeUpdate(node.statement());
+        } catch (SQLException e) {
+            log.error("Cannot execute create table SQL statement for table {}", node.name(), e);
+        } finally {
+            connector.releaseConnection(dbConnection);
+        }
+
+        return null;
+    }
+
+    private static void executeConstraints(DatabaseConnector connector, List<String> constraints) {
+        if (constraints.isEmpty()) {
+            return;
+        }
+
+        OrmFlushEvent flushEvent = new OrmFlushEvent();
+        flushEvent.begin();
+        Connection dbConnection = connector.getConnection();
+        try (Statement statement = dbConnection.createStatement()) {
+            for (String constraint : constraints) {
+                statement.addBatch(constraint);
+            }
+            statement.executeBatch();
+            flushEvent.complete(null, "addConstraints", constraints.size());
+        } catch (BatchUpdateException e) {
+            log.warn("Batch of foreign key constraints failed, adding constraints one by one", e);
+            executeConstraintsOneByOne(dbConnection, constraints);
+        } catch (SQLException e) {
+            log.error("Cannot execute add foreign key SQL statements", e);
+        }
+    }
+
+    private static void executeConstraintsOneByOne(Connection dbConnection, List<String> constraints) {
+        for (String constraint : constraints) {
+            try (Statement statement = dbConnection.createStatement()) {
+                statement.executeUpdate(constraint);
+            } catch (SQLException e) {
+                log.error("Cannot execute add foreign key SQL statement {}", constraint, e);
+            }
+        }
+    }
+
+    /**
+     * Indexes run one by one in auto-commit mode because CREATE INDEX CONCURRENTLY cannot run inside
+     * a transaction block.
+     */
+    private static void executeIndexes(DatabaseConnector connector, List<String> indexes) {
+        OrmFlushEvent flushEvent = new OrmFlushEvent();
+        flushEvent.begin();
+        Connection dbConnection = connector.getConnection();
+        for (String index : indexes) {
+            try (Statement statement = dbConnection.createStatement()) {
+                statement.executeUpdate(index);
+            } catch (SQLException e) {
+                log.error("Cannot execute create index SQL statement {}", index, e);
+            }
+        }
+        flushEvent.complete(null, "createIndexes", indexes.size());
+    }
+
+    private static String getTableName(Class<?> entity) {
+        Entity entityAnnotation = entity.getAnnotation(Entity.class);
+        return new SQLNamesHelper(entity.getName()).getTableName(entity, entityAnnotation.name());
     }
 
     private static void setConfigProperties(String connectionString, String username, String password, String dbDriver) {
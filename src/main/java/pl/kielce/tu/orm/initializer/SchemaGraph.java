@@ -0,0 +1,56 @@
+package pl.kielce.tu.orm.initializer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dependency graph of DDL statements. {@link #getLevels()} groups the nodes so that every node only depends on
+ * nodes of earlier levels, the nodes of one level can be executed concurrently.
+ */
+public class SchemaGraph {
+    private final Map<String, Node> nodes = new LinkedHashMap<>();
+
+    public void addNode(String name, String statement, Set<String> dependencies) {
+        if (nodes.containsKey(name)) {
+            throw new IllegalArgumentException("Schema graph already contains node: " + name);
+        }
+
+        nodes.put(name, new Node(name, statement, Set.copyOf(dependencies)));
+    }
+
+    public List<List<Node>> getLevels() {
+        Map<String, Integer> levelByName = new LinkedHashMap<>();
+        List<List<Node>> levels = new ArrayList<>();
+
+        while (levelByName.size() < nodes.size()) {
+            List<Node> level = new ArrayList<>();
+
+            for (Node node : nodes.values()) {
+                if (!levelByName.containsKey(node.name()) && isReady(node, levelByName)) {
+                    level.add(node);
+                }
+            }
+
+            if (level.isEmpty()) {
+                throw new IllegalStateException("Schema graph contains a dependency cycle");
+            }
+
+            level.forEach(node -> levelByName.put(node.name(), levels.size()));
+            levels.add(level);
+        }
+
+        return levels;
+    }
+
+    private boolean isReady(Node node, Map<String, Integer> levelByName) {
+        return node.dependencies().stream()
+                .filter(dependency -> !dependency.equals(node.name()) && nodes.containsKey(dependency))
+                .allMatch(levelByName::containsKey);
+    }
+
+    public record Node(String name, String statement, Set<String> dependencies) {
+    }
+}
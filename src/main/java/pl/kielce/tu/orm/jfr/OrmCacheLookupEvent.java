@@ -0,0 +1,30 @@
+package pl.kielce.tu.orm.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("pl.kielce.tu.orm.OrmCacheLookup")
+@Label("ORM Cache Lookup")
+@Category("ORM")
+@Description("Lookup in one of the ORM mapping caches")
+@StackTrace(false)
+public final class OrmCacheLookupEvent extends Event {
+    @Label("Cache")
+    private String cache;
+
+    @Label("Hit")
+    private boolean hit;
+
+    public void complete(String cache, boolean hit) {
+        end();
+        if (shouldCommit()) {
+            this.cache = cache;
+            this.hit = hit;
+            commit();
+        }
+    }
+}
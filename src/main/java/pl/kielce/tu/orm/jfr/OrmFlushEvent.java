@@ -0,0 +1,38 @@
+package pl.kielce.tu.orm.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Changes written to the database, either entity rows by a repository or schema statements by the initializer.
+ * The entity is {@code null} for schema changes.
+ */
+@Name("pl.kielce.tu.orm.OrmFlush")
+@Label("ORM Flush")
+@Category("ORM")
+@Description("Rows or schema changes written by the ORM")
+@StackTrace(true)
+public final class OrmFlushEvent extends Event {
+    @Label("Entity")
+    private String entity;
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Rows")
+    private long rows;
+
+    public void complete(Class<?> entityClass, String operation, long rows) {
+        end();
+        if (shouldCommit()) {
+            this.entity = entityClass != null ? entityClass.getName() : null;
+            this.operation = operation;
+            this.rows = rows;
+            commit();
+        }
+    }
+}
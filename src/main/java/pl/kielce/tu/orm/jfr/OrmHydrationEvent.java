@@ -0,0 +1,26 @@
+package pl.kielce.tu.orm.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("pl.kielce.tu.orm.OrmHydration")
+@Label("ORM Hydration")
+@Category("ORM")
+@Description("Entity built from a result set row")
+@StackTrace(false)
+public final class OrmHydrationEvent extends Event {
+    @Label("Entity")
+    private String entity;
+
+    public void complete(Class<?> entityClass) {
+        end();
+        if (shouldCommit()) {
+            this.entity = entityClass.getName();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package pl.kielce.tu.orm.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("pl.kielce.tu.orm.OrmPoolAcquire")
+@Label("ORM Pool Acquire")
+@Category({"ORM", "JDBC"})
+@Description("Wait for a pooled database connection")
+@StackTrace(true)
+public final class OrmPoolAcquireEvent extends Event {
+    @Label("Pool Size")
+    private int poolSize;
+
+    @Label("New Connection")
+    @Description("Whether a new connection had to be opened because no idle connection was available")
+    private boolean newConnection;
+
+    public void complete(int poolSize, boolean newConnection) {
+        end();
+        if (shouldCommit()) {
+            this.poolSize = poolSize;
+            this.newConnection = newConnection;
+            commit();
+        }
+    }
+}
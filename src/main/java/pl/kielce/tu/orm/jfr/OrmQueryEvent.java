@@ -0,0 +1,38 @@
+package pl.kielce.tu.orm.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A SQL statement, from execution until its result set is consumed. The statement is recorded by shape, so
+ * literal values do not end up in recordings.
+ */
+@Name("pl.kielce.tu.orm.OrmQuery")
+@Label("ORM Query")
+@Category({"ORM", "JDBC"})
+@Description("SQL statement executed by the ORM")
+@StackTrace(true)
+public final class OrmQueryEvent extends Event {
+    @Label("SQL Shape")
+    private String shape;
+
+    @Label("Entity")
+    private String entity;
+
+    @Label("Rows")
+    private long rows;
+
+    public void complete(String shape, Class<?> entityClass, long rows) {
+        end();
+        if (shouldCommit()) {
+            this.shape = shape;
+            this.entity = entityClass != null ? entityClass.getName() : null;
+            this.rows = rows;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package pl.kielce.tu.orm.json;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON column value of an {@code @Json} field. The text read from the database is kept as is and parsed only when
+ * a property is first accessed; {@link #toJson()} returns that text unchanged unless the document was modified.
+ * <p>
+ * Paths are property names separated by dots, a numeric segment indexes into an array. Values are maps, lists,
+ * strings, numbers ({@code Long} or {@code BigDecimal}), booleans and {@code null}.
+ */
+public final class JsonDocument {
+    private String json;
+    private Object root;
+    private boolean parsed;
+    private boolean modified;
+
+    private JsonDocument(String json, Object root, boolean parsed) {
+        this.json = json;
+        this.root = root;
+        this.parsed = parsed;
+    }
+
+    public static JsonDocument of(String json) {
+        if (json == null) {
+            throw new IllegalArgumentException("JSON must not be null");
+        }
+
+        return new JsonDocument(json, null, false);
+    }
+
+    public static JsonDocument empty() {
+        return new JsonDocument("{}", new LinkedHashMap<String, Object>(), true);
+    }
+
+    public boolean isParsed() {
+        return parsed;
+    }
+
+    /**
+     * Whether the document changed since it was read or last serialized.
+     */
+    public boolean isModified() {
+        return modified;
+    }
+
+    /**
+     * Returns the value at {@code path}, or {@code null} when there is none. Objects and arrays are returned as
+     * read-only views.
+     */
+    public Object get(String path) {
+        Object value = root();
+        for (String key : splitPath(path)) {
+            value = child(value, key);
+            if (value == null) {
+                return null;
+            }
+        }
+
+        if (value instanceof Map<?, ?> map) {
+            return Collections.unmodifiableMap(map);
+        } else if (value instanceof List<?> list) {
+            return Collections.unmodifiableList(list);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the value at {@code path} as text, like the {@code ->>} operator: strings unquoted, other values as
+     * JSON.
+     */
+    public String getString(String path) {
+        Object value = get(path);
+        if (value == null || value instanceof String) {
+            return (String) value;
+        }
+
+        return JsonWriter.write(value);
+    }
+
+    /**
+     * Sets the value at {@code path}, creating missing objects on the way.
+     */
+    public JsonDocument set(String path, Object value) {
+        List<String> keys = splitPath(path);
+        Object parent = root();
+
+        for (int i = 0; i < keys.size() - 1; i++) {
+            Object child = child(parent, keys.get(i));
+            if (child == null) {
+                child = new LinkedHashMap<String, Object>();
+                put(parent, keys.get(i), child);
+            }
+            parent = child;
+        }
+        put(parent, keys.getLast(), value);
+        modified = true;
+
+        return this;
+    }
+
+    public JsonDocument remove(String path) {
+        List<String> keys = splitPath(path);
+        Object parent = root();
+        for (int i = 0; i < keys.size() - 1 && parent != null; i++) {
+            parent = child(parent, keys.get(i));
+        }
+
+        if (parent instanceof Map<?, ?> map && map.containsKey(keys.getLast())) {
+            map.remove(keys.getLast());
+            modified = true;
+        }
+
+        return this;
+    }
+
+    public String toJson() {
+        if (modified) {
+            json = JsonWriter.write(root);
+            modified = false;
+        }
+
+        return json;
+    }
+
+    private Object root() {
+        if (!parsed) {
+            root = JsonParser.parse(json);
+            parsed = true;
+        }
+
+        return root;
+    }
+
+    private static Object child(Object parent, String key) {
+        if (parent instanceof Map<?, ?> map) {
+            return map.get(key);
+        } else if (parent instanceof List<?> list) {
+            int index = parseIndex(key);
+            return index >= 0 && index < list.size() ? list.get(index) : null;
+        }
+
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void put(Object parent, String key, Object value) {
+        if (parent instanceof Map<?, ?> map) {
+            ((Map<String, Object>) map).put(key, value);
+        } else if (parent instanceof List<?> list) {
+            int index = parseIndex(key);
+            if (index < 0 || index > list.size()) {
+                throw new IllegalArgumentException("Array index " + key + " is out of bounds");
+            }
+            if (index == list.size()) {
+                ((List<Object>) list).add(value);
+            } else {
+                ((List<Object>) list).set(index, value);
+            }
+        } else {
+            throw new IllegalArgumentException("Cannot set property " + key + " of a JSON scalar");
+        }
+    }
+
+    private static int parseIndex(String key) {
+        try {
+            return Integer.parseInt(key);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Splits a dot-separated path into its keys.
+     */
+    public static List<String> splitPath(String path) {
+        if (path == null || path.isEmpty()) {
+            throw new IllegalArgumentException("JSON path must not be empty");
+        }
+
+        List<String> keys = List.of(path.split("\\.", -1));
+        if (keys.contains("")) {
+            throw new IllegalArgumentException("Invalid JSON path: " + path);
+        }
+
+        return keys;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof JsonDocument document && toJson().equals(document.toJson());
+    }
+
+    @Override
+    public int hashCode() {
+        return toJson().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toJson();
+    }
+}
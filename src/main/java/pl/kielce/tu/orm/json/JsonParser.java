@@ -0,0 +1,223 @@
+package pl.kielce.tu.orm.json;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parses JSON text into maps, lists, strings, numbers, booleans and nulls.
+ */
+final class JsonParser {
+    private final String json;
+    private int position;
+
+    private JsonParser(String json) {
+        this.json = json;
+    }
+
+    static Object parse(String json) {
+        JsonParser parser = new JsonParser(json);
+        Object value = parser.readValue();
+        parser.skipWhitespace();
+        if (parser.position != json.length()) {
+            throw parser.error("Unexpected trailing characters");
+        }
+
+        return value;
+    }
+
+    private Object readValue() {
+        skipWhitespace();
+        if (position >= json.length()) {
+            throw error("Unexpected end of document");
+        }
+
+        char current = json.charAt(position);
+        return switch (current) {
+            case '{' -> readObject();
+            case '[' -> readArray();
+            case '"' -> readString();
+            case 't' -> readLiteral("true", Boolean.TRUE);
+            case 'f' -> readLiteral("false", Boolean.FALSE);
+            case 'n' -> readLiteral("null", null);
+            default -> {
+                if (current == '-' || Character.isDigit(current)) {
+                    yield readNumber();
+                }
+                throw error("Unexpected character '" + current + "'");
+            }
+        };
+    }
+
+    private Map<String, Object> readObject() {
+        Map<String, Object> object = new LinkedHashMap<>();
+        position++;
+        skipWhitespace();
+        if (peek() == '}') {
+            position++;
+            return object;
+        }
+
+        while (true) {
+            skipWhitespace();
+            if (peek() != '"') {
+                throw error("Expected a property name");
+            }
+            String key = readString();
+            skipWhitespace();
+            expect(':');
+            object.put(key, readValue());
+            skipWhitespace();
+            if (peek() == ',') {
+                position++;
+            } else {
+                expect('}');
+                return object;
+            }
+        }
+    }
+
+    private List<Object> readArray() {
+        List<Object> array = new ArrayList<>();
+        position++;
+        skipWhitespace();
+        if (peek() == ']') {
+            position++;
+            return array;
+        }
+
+        while (true) {
+            array.add(readValue());
+            skipWhitespace();
+            if (peek() == ',') {
+                position++;
+            } else {
+                expect(']');
+                return array;
+            }
+        }
+    }
+
+    private String readString() {
+        position++;
+        StringBuilder value = null;
+        int start = position;
+
+        while (position < json.length()) {
+            char current = json.charAt(position);
+            if (current == '"') {
+                String result = value == null ? json.substring(start, position)
+                        : value.append(json, start, position).toString();
+                position++;
+                return result;
+            }
+            if (current == '\\') {
+                if (value == null) {
+                    value = new StringBuilder();
+                }
+                value.append(json, start, position);
+                value.append(readEscape());
+                start = position;
+            } else {
+                position++;
+            }
+        }
+
+        throw error("Unterminated string");
+    }
+
+    private char readEscape() {
+        if (position + 1 >= json.length()) {
+            throw error("Unterminated escape sequence");
+        }
+
+        char escaped = json.charAt(position + 1);
+        position += 2;
+        return switch (escaped) {
+            case '"', '\\', '/' -> escaped;
+            case 'b' -> '\b';
+            case 'f' -> '\f';
+            case 'n' -> '\n';
+            case 'r' -> '\r';
+            case 't' -> '\t';
+            case 'u' -> {
+                if (position + 4 > json.length()) {
+                    throw error("Invalid unicode escape");
+                }
+                try {
+                    char character = (char) Integer.parseInt(json.substring(position, position + 4), 16);
+                    position += 4;
+                    yield character;
+                } catch (NumberFormatException e) {
+                    throw error("Invalid unicode escape");
+                }
+            }
+            default -> throw error("Invalid escape sequence \\" + escaped);
+        };
+    }
+
+    private Object readNumber() {
+        int start = position;
+        boolean decimal = false;
+
+        while (position < json.length()) {
+            char current = json.charAt(position);
+            if (current == '.' || current == 'e' || current == 'E') {
+                decimal = true;
+            } else if (!Character.isDigit(current) && current != '-' && current != '+') {
+                break;
+            }
+            position++;
+        }
+
+        String number = json.substring(start, position);
+        try {
+            if (!decimal) {
+                try {
+                    return Long.parseLong(number);
+                } catch (NumberFormatException e) {
+                    return new BigDecimal(number);
+                }
+            }
+            return new BigDecimal(number);
+        } catch (NumberFormatException e) {
+            throw error("Invalid number " + number);
+        }
+    }
+
+    private Object readLiteral(String literal, Object value) {
+        if (!json.startsWith(literal, position)) {
+            throw error("Unexpected token");
+        }
+        position += literal.length();
+
+        return value;
+    }
+
+    private void expect(char expected) {
+        if (peek() != expected) {
+            throw error("Expected '" + expected + "'");
+        }
+        position++;
+    }
+
+    private char peek() {
+        if (position >= json.length()) {
+            throw error("Unexpected end of document");
+        }
+
+        return json.charAt(position);
+    }
+
+    private void skipWhitespace() {
+        while (position < json.length() && Character.isWhitespace(json.charAt(position))) {
+            position++;
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at position " + position + " of JSON document");
+    }
+}
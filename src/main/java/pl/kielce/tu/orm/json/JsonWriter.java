@@ -0,0 +1,86 @@
+package pl.kielce.tu.orm.json;
+
+import java.util.Collection;
+import java.util.Map;
+
+final class JsonWriter {
+    private JsonWriter() {
+    }
+
+    static String write(Object value) {
+        StringBuilder json = new StringBuilder();
+        write(json, value);
+
+        return json.toString();
+    }
+
+    private static void write(StringBuilder json, Object value) {
+        if (value == null) {
+            json.append("null");
+        } else if (value instanceof String string) {
+            writeString(json, string);
+        } else if (value instanceof Boolean) {
+            json.append(value);
+        } else if (value instanceof Double || value instanceof Float) {
+            double number = ((Number) value).doubleValue();
+            if (Double.isNaN(number) || Double.isInfinite(number)) {
+                throw new IllegalArgumentException("JSON cannot represent " + number);
+            }
+            json.append(value);
+        } else if (value instanceof Number) {
+            json.append(value);
+        } else if (value instanceof JsonDocument document) {
+            json.append(document.toJson());
+        } else if (value instanceof Map<?, ?> map) {
+            json.append('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!first) {
+                    json.append(',');
+                }
+                first = false;
+                writeString(json, String.valueOf(entry.getKey()));
+                json.append(':');
+                write(json, entry.getValue());
+            }
+            json.append('}');
+        } else if (value instanceof Collection<?> collection) {
+            json.append('[');
+            boolean first = true;
+            for (Object element : collection) {
+                if (!first) {
+                    json.append(',');
+                }
+                first = false;
+                write(json, element);
+            }
+            json.append(']');
+        } else {
+            throw new IllegalArgumentException("Cannot write " + value.getClass().getName() + " as JSON");
+        }
+    }
+
+    private static void writeString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char current = value.charAt(i);
+            switch (current) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                case '\b' -> json.append("\\b");
+                case '\f' -> json.append("\\f");
+                default -> {
+                    if (current < 0x20) {
+                        json.append(String.format("\\u%04x", (int) current));
+                    } else {
+                        json.append(current);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+}
@@ -0,0 +1,78 @@
+package pl.kielce.tu.orm.lob;
+
+import pl.kielce.tu.orm.mapping.IdMapping;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Binary {@code @Lob} value of a loaded entity. The column is queried on the first read and streamed from the
+ * driver; closing the stream releases the statement and connection.
+ */
+public final class LazyBinaryStream extends InputStream {
+    private final LobCursor cursor;
+    private InputStream delegate;
+    private boolean opened;
+
+    public LazyBinaryStream(String sql, IdMapping idMapping, Object id) {
+        this.cursor = new LobCursor(sql, idMapping, id);
+    }
+
+    /**
+     * Whether the value was read, an unread value is left unchanged when its entity is updated.
+     */
+    public boolean isOpened() {
+        return opened;
+    }
+
+    private InputStream delegate() throws IOException {
+        if (delegate == null) {
+            opened = true;
+            ResultSet resultSet = cursor.open();
+            try {
+                delegate = resultSet != null ? resultSet.getBinaryStream(1) : null;
+            } catch (SQLException e) {
+                cursor.close();
+                throw new IOException("Error reading LOB column", e);
+            }
+            if (delegate == null) {
+                delegate = InputStream.nullInputStream();
+            }
+        }
+
+        return delegate;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return delegate().read();
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        return delegate().read(buffer, offset, length);
+    }
+
+    @Override
+    public long skip(long count) throws IOException {
+        return delegate().skip(count);
+    }
+
+    @Override
+    public int available() throws IOException {
+        return delegate != null ? delegate.available() : 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (delegate != null) {
+                delegate.close();
+            }
+        } finally {
+            cursor.close();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package pl.kielce.tu.orm.lob;
+
+import pl.kielce.tu.orm.mapping.IdMapping;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Character {@code @Lob} value of a loaded entity, the counterpart of {@link LazyBinaryStream}.
+ */
+public final class LazyCharacterStream extends Reader {
+    private final LobCursor cursor;
+    private Reader delegate;
+    private boolean opened;
+
+    public LazyCharacterStream(String sql, IdMapping idMapping, Object id) {
+        this.cursor = new LobCursor(sql, idMapping, id);
+    }
+
+    public boolean isOpened() {
+        return opened;
+    }
+
+    private Reader delegate() throws IOException {
+        if (delegate == null) {
+            opened = true;
+            ResultSet resultSet = cursor.open();
+            try {
+                delegate = resultSet != null ? resultSet.getCharacterStream(1) : null;
+            } catch (SQLException e) {
+                cursor.close();
+                throw new IOException("Error reading LOB column", e);
+            }
+            if (delegate == null) {
+                delegate = Reader.nullReader();
+            }
+        }
+
+        return delegate;
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) throws IOException {
+        return delegate().read(buffer, offset, length);
+    }
+
+    @Override
+    public long skip(long count) throws IOException {
+        return delegate().skip(count);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (delegate != null) {
+                delegate.close();
+            }
+        } finally {
+            cursor.close();
+        }
+    }
+}
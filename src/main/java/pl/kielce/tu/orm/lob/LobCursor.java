@@ -0,0 +1,78 @@
+package pl.kielce.tu.orm.lob;
+
+import pl.kielce.tu.orm.connector.DatabaseConnector;
+import pl.kielce.tu.orm.mapping.IdMapping;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Selects a single LOB column of one row. Inside a transaction the bound connection is used, otherwise a pooled
+ * connection is held until the cursor is closed.
+ */
+final class LobCursor {
+    private final String sql;
+    private final IdMapping idMapping;
+    private final Object id;
+    private Connection pooledConnection;
+    private PreparedStatement statement;
+    private ResultSet resultSet;
+
+    LobCursor(String sql, IdMapping idMapping, Object id) {
+        this.sql = sql;
+        this.idMapping = idMapping;
+        this.id = id;
+    }
+
+    /**
+     * Returns the result set positioned on the row, or {@code null} when the row no longer exists.
+     */
+    ResultSet open() throws IOException {
+        DatabaseConnector connector = DatabaseConnector.getInstance();
+
+        try {
+            Connection connection = connector.getBoundConnection();
+            if (connection == null) {
+                pooledConnection = connector.acquireConnection();
+                connection = pooledConnection;
+            }
+
+            statement = connection.prepareStatement(sql);
+            idMapping.bind(statement, 1, id);
+            resultSet = statement.executeQuery();
+
+            return resultSet.next() ? resultSet : null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new InterruptedIOException("Interrupted while waiting for a connection");
+        } catch (SQLException e) {
+            close();
+            throw new IOException("Error loading LOB column", e);
+        }
+    }
+
+    void close() throws IOException {
+        try {
+            if (resultSet != null) {
+                resultSet.close();
+            }
+            if (statement != null) {
+                statement.close();
+            }
+        } catch (SQLException e) {
+            throw new IOException("Error closing LOB column", e);
+        } finally {
+            resultSet = null;
+            statement = null;
+            if (pooledConnection != null) {
+                DatabaseConnector.getInstance().releaseConnection(pooledConnection);
+                pooledConnection = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package pl.kielce.tu.orm.mapping;
+
+import pl.kielce.tu.orm.annotations.Entity;
+import pl.kielce.tu.orm.config.ORMConfiguration;
+import pl.kielce.tu.orm.jfr.OrmCacheLookupEvent;
+import pl.kielce.tu.orm.lob.LazyBinaryStream;
+import pl.kielce.tu.orm.lob.LazyCharacterStream;
+import pl.kielce.tu.orm.sql.SQLGenerator;
+import pl.kielce.tu.orm.sql.SQLNamesHelper;
+import pl.kielce.tu.orm.types.TypeHandler;
+import pl.kielce.tu.orm.types.TypeHandlers;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Column layout of an entity table. The order of the columns is computed once per entity and SELECT statements
+ * list the columns in this order, so rows are hydrated positionally through each column's {@link TypeHandler}.
+ */
+public final class EntityMapping<T> {
+    private static final Map<Class<?>, EntityMapping<?>> CACHE = new ConcurrentHashMap<>();
+
+    private final Constructor<T> constructor;
+    private final List<Field> columnFields;
+    private final List<String> columnNames;
+    private final TypeHandler[] handlers;
+    private final Field[] lobFields;
+    private final String[] lobSQL;
+    private final IdMapping idMapping;
+
+    private EntityMapping(Class<T> entityClass) {
+        try {
+            this.constructor = entityClass.getDeclaredConstructor();
+            this.constructor.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("No default constructor found for entity: " + entityClass.getName(), e);
+        }
+
+        SQLNamesHelper sqlNamesHelper = new SQLNamesHelper(entityClass.getName());
+        List<String> names = new ArrayList<>();
+
+        this.columnFields = SQLGenerator.getColumnFields(entityClass);
+        this.handlers = new TypeHandler[columnFields.size()];
+
+        for (int i = 0; i < columnFields.size(); i++) {
+            Field field = columnFields.get(i);
+            field.setAccessible(true);
+            names.add(sqlNamesHelper.getColumnName(field, ""));
+            handlers[i] = TypeHandlers.forField(field);
+        }
+
+        this.columnNames = List.copyOf(names);
+
+        List<Field> lobs = SQLGenerator.getLobFields(entityClass);
+        this.lobFields = lobs.toArray(new Field[0]);
+        this.lobSQL = new String[lobFields.length];
+        this.idMapping = lobFields.length > 0 ? IdMapping.of(entityClass) : null;
+        if (lobFields.length > 0) {
+            String tableName = sqlNamesHelper.getTableName(entityClass, entityClass.getAnnotation(Entity.class).name());
+            for (int i = 0; i < lobFields.length; i++) {
+                Class<?> type = lobFields[i].getType();
+                if (type != InputStream.class && type != Reader.class) {
+                    throw new IllegalArgumentException("@Lob field " + lobFields[i].getName() +
+                            " must be an InputStream or a Reader");
+                }
+                lobFields[i].setAccessible(true);
+                lobSQL[i] = SQLGenerator.generateSelectLobSQL(tableName, lobFields[i], idMapping.getIdFields());
+            }
+        }
+    }
+
+    /**
+     * {@code @Lob} fields get a stream that selects the column by id when it is first read.
+     */
+    private void setLazyLobs(T entity) throws ReflectiveOperationException {
+        Object id = idMapping.getId(entity);
+        for (int i = 0; i < lobFields.length; i++) {
+            Object stream = lobFields[i].getType() == InputStream.class
+                    ? new LazyBinaryStream(lobSQL[i], idMapping, id)
+                    : new LazyCharacterStream(lobSQL[i], idMapping, id);
+            lobFields[i].set(entity, stream);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> EntityMapping<T> of(Class<T> entityClass) {
+        OrmCacheLookupEvent event = new OrmCacheLookupEvent();
+        event.begin();
+        EntityMapping<?> mapping = CACHE.get(entityClass);
+        event.complete("entityMapping", mapping != null);
+        ORMConfiguration.getInstance().getMetrics().recordCacheLookup("entityMapping", mapping != null);
+
+        return (EntityMapping<T>) (mapping != null ? mapping : CACHE.computeIfAbsent(entityClass, EntityMapping::new));
+    }
+
+    public List<Field> getColumnFields() {
+        return columnFields;
+    }
+
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    public T newInstance(ResultSet resultSet) throws SQLException, ReflectiveOperationException {
+        T entity = constructor.newInstance();
+
+        for (int i = 0; i < handlers.length; i++) {
+            handlers[i].readField(resultSet, i + 1, columnFields.get(i), entity);
+        }
+        if (lobFields.length > 0) {
+            setLazyLobs(entity);
+        }
+
+        return entity;
+    }
+}
@@ -0,0 +1,154 @@
+package pl.kielce.tu.orm.mapping;
+
+import pl.kielce.tu.orm.annotations.Id;
+import pl.kielce.tu.orm.annotations.IdClass;
+import pl.kielce.tu.orm.config.ORMConfiguration;
+import pl.kielce.tu.orm.jfr.OrmCacheLookupEvent;
+import pl.kielce.tu.orm.sql.SQLNamesHelper;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Identifier layout of an entity. A single {@link Id} field is used as is, several {@link Id} fields form
+ * a composite key whose values are passed around as an instance of the {@link IdClass} with fields of the same names.
+ */
+public final class IdMapping {
+    private static final Map<Class<?>, IdMapping> CACHE = new ConcurrentHashMap<>();
+
+    private final List<Field> idFields;
+    private final List<String> columnNames;
+    private final Constructor<?> idClassConstructor;
+    private final List<Field> idClassFields;
+
+    private IdMapping(Class<?> entityClass) {
+        SQLNamesHelper sqlNamesHelper = new SQLNamesHelper(entityClass.getName());
+        List<Field> fields = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+
+        for (Field field : entityClass.getDeclaredFields()) {
+            if (field.isAnnotationPresent(Id.class)) {
+                field.setAccessible(true);
+                fields.add(field);
+                names.add(sqlNamesHelper.getColumnName(field, ""));
+            }
+        }
+
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("No @Id field found in class: " + entityClass.getName());
+        }
+
+        this.idFields = List.copyOf(fields);
+        this.columnNames = List.copyOf(names);
+
+        IdClass idClassAnnotation = entityClass.getAnnotation(IdClass.class);
+        if (idFields.size() > 1 && idClassAnnotation == null) {
+            throw new IllegalArgumentException("Entity " + entityClass.getName() + " has a composite key but no @IdClass");
+        }
+        // A generated id tells a new entity apart by being null, which a primitive never is
+        if (idClassAnnotation == null && idFields.get(0).getType().isPrimitive()) {
+            throw new IllegalArgumentException("@Id field " + idFields.get(0).getName() + " of " + entityClass.getName() +
+                    " must not be primitive, use " + (idFields.get(0).getType() == int.class ? "Integer" : "Long"));
+        }
+
+        if (idClassAnnotation != null) {
+            Class<?> idClass = idClassAnnotation.value();
+            this.idClassConstructor = getDefaultConstructor(idClass);
+            this.idClassFields = idFields.stream()
+                    .map(field -> getIdClassField(idClass, field))
+                    .toList();
+        } else {
+            this.idClassConstructor = null;
+            this.idClassFields = List.of();
+        }
+    }
+
+    public static IdMapping of(Class<?> entityClass) {
+        OrmCacheLookupEvent event = new OrmCacheLookupEvent();
+        event.begin();
+        IdMapping mapping = CACHE.get(entityClass);
+        event.complete("idMapping", mapping != null);
+        ORMConfiguration.getInstance().getMetrics().recordCacheLookup("idMapping", mapping != null);
+
+        return mapping != null ? mapping : CACHE.computeIfAbsent(entityClass, IdMapping::new);
+    }
+
+    public static boolean isComposite(Class<?> entityClass) {
+        return entityClass.isAnnotationPresent(IdClass.class);
+    }
+
+    public boolean isComposite() {
+        return idClassConstructor != null;
+    }
+
+    public List<Field> getIdFields() {
+        return idFields;
+    }
+
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    public Object getId(Object entity) throws ReflectiveOperationException {
+        if (!isComposite()) {
+            return idFields.getFirst().get(entity);
+        }
+
+        Object id = idClassConstructor.newInstance();
+        for (int i = 0; i < idFields.size(); i++) {
+            Object value = idFields.get(i).get(entity);
+            if (value == null) {
+                return null;
+            }
+            idClassFields.get(i).set(id, value);
+        }
+
+        return id;
+    }
+
+    /**
+     * Binds the id values starting at {@code parameterIndex} and returns the next free parameter index.
+     */
+    public int bind(PreparedStatement statement, int parameterIndex, Object id) throws SQLException {
+        if (!isComposite()) {
+            statement.setObject(parameterIndex, id);
+            return parameterIndex + 1;
+        }
+
+        try {
+            for (Field idClassField : idClassFields) {
+                statement.setObject(parameterIndex++, idClassField.get(id));
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot read id class field", e);
+        }
+
+        return parameterIndex;
+    }
+
+    private static Constructor<?> getDefaultConstructor(Class<?> idClass) {
+        try {
+            Constructor<?> constructor = idClass.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor;
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("No default constructor found for id class: " + idClass.getName(), e);
+        }
+    }
+
+    private static Field getIdClassField(Class<?> idClass, Field idField) {
+        try {
+            Field field = idClass.getDeclaredField(idField.getName());
+            field.setAccessible(true);
+            return field;
+        } catch (NoSuchFieldException e) {
+            throw new IllegalArgumentException("Id class " + idClass.getName() + " has no field " + idField.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package pl.kielce.tu.orm.mapping;
+
+import pl.kielce.tu.orm.annotations.Lob;
+import pl.kielce.tu.orm.config.ORMConfiguration;
+import pl.kielce.tu.orm.jfr.OrmCacheLookupEvent;
+import pl.kielce.tu.orm.sql.SQLAnnotationsHelper;
+import pl.kielce.tu.orm.sql.SQLGenerator;
+import pl.kielce.tu.orm.sql.SQLNamesHelper;
+import pl.kielce.tu.orm.types.TypeHandler;
+import pl.kielce.tu.orm.types.TypeHandlers;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.RecordComponent;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps the columns of an entity table onto a record or an interface with getters. The selected columns and their
+ * positions are resolved once per entity and projection type, rows are read by column index.
+ */
+public final class ProjectionMapping<P> {
+    private static final Map<ProjectionKey, ProjectionMapping<?>> CACHE = new ConcurrentHashMap<>();
+
+    private final Class<P> projectionClass;
+    private final List<String> columnNames;
+    private final TypeHandler[] handlers;
+    private final Constructor<P> recordConstructor;
+    private final Map<Method, Integer> getterIndexes;
+
+    private ProjectionMapping(Class<P> projectionClass, List<String> columnNames, TypeHandler[] handlers,
+                              Constructor<P> recordConstructor, Map<Method, Integer> getterIndexes) {
+        this.projectionClass = projectionClass;
+        this.columnNames = List.copyOf(columnNames);
+        this.handlers = handlers;
+        this.recordConstructor = recordConstructor;
+        this.getterIndexes = getterIndexes;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <P> ProjectionMapping<P> of(Class<?> entityClass, Class<P> projectionClass) {
+        ProjectionKey key = new ProjectionKey(entityClass, projectionClass);
+        OrmCacheLookupEvent event = new OrmCacheLookupEvent();
+        event.begin();
+        ProjectionMapping<?> mapping = CACHE.get(key);
+        event.complete("projectionMapping", mapping != null);
+        ORMConfiguration.getInstance().getMetrics().recordCacheLookup("projectionMapping", mapping != null);
+
+        return (ProjectionMapping<P>) (mapping != null ? mapping
+                : CACHE.computeIfAbsent(key, ignored -> create(entityClass, projectionClass)));
+    }
+
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    public P map(ResultSet resultSet) throws SQLException, ReflectiveOperationException {
+        Object[] values = new Object[handlers.length];
+        for (int i = 0; i < handlers.length; i++) {
+            values[i] = handlers[i].read(resultSet, i + 1);
+        }
+
+        if (recordConstructor != null) {
+            return recordConstructor.newInstance(values);
+        }
+
+        InvocationHandler handler = (proxy, method, args) -> invokeGetter(proxy, method, args, values);
+        return projectionClass.cast(Proxy.newProxyInstance(projectionClass.getClassLoader(),
+                new Class<?>[] {projectionClass}, handler));
+    }
+
+    /**
+     * Default methods run their own body, so they can derive values from the getters.
+     */
+    private Object invokeGetter(Object proxy, Method method, Object[] args, Object[] values) throws Throwable {
+        Integer index = getterIndexes.get(method);
+        if (index != null) {
+            return values[index];
+        }
+        if (method.isDefault()) {
+            return InvocationHandler.invokeDefault(proxy, method, args);
+        }
+
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> projectionClass.getSimpleName() + Arrays.toString(values);
+            default -> throw new UnsupportedOperationException("Method " + method.getName() +
+                    " is not a projection getter");
+        };
+    }
+
+    private static <P> ProjectionMapping<P> create(Class<?> entityClass, Class<P> projectionClass) {
+        Map<String, Field> entityFields = new HashMap<>();
+        for (Field field : SQLGenerator.getFields(entityClass)) {
+            if (!SQLAnnotationsHelper.hasForeignTableAnnotation(field) && !SQLAnnotationsHelper.hasOneToManyAnnotation(field)
+                    && !field.isAnnotationPresent(Lob.class)) {
+                entityFields.put(field.getName(), field);
+            }
+        }
+
+        SQLNamesHelper sqlNamesHelper = new SQLNamesHelper(entityClass.getName());
+        List<String> columnNames = new ArrayList<>();
+        List<TypeHandler> handlers = new ArrayList<>();
+
+        if (projectionClass.isRecord()) {
+            RecordComponent[] components = projectionClass.getRecordComponents();
+            Class<?>[] parameterTypes = new Class<?>[components.length];
+
+            for (int i = 0; i < components.length; i++) {
+                Field field = getEntityField(entityFields, components[i].getName(), entityClass, projectionClass);
+                columnNames.add(sqlNamesHelper.getColumnName(field, ""));
+                handlers.add(getHandler(field, components[i].getType()));
+                parameterTypes[i] = components[i].getType();
+            }
+
+            try {
+                Constructor<P> constructor = projectionClass.getDeclaredConstructor(parameterTypes);
+                constructor.setAccessible(true);
+                return new ProjectionMapping<>(projectionClass, columnNames, handlers.toArray(new TypeHandler[0]),
+                        constructor, Map.of());
+            } catch (NoSuchMethodException e) {
+                throw new IllegalArgumentException("No canonical constructor found for record: " +
+                        projectionClass.getName(), e);
+            }
+        }
+
+        if (projectionClass.isInterface()) {
+            Map<Method, Integer> getterIndexes = new HashMap<>();
+
+            for (Method method : projectionClass.getMethods()) {
+                if (method.isDefault() || Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 0
+                        || method.getReturnType() == void.class) {
+                    continue;
+                }
+
+                Field field = getEntityField(entityFields, getPropertyName(method), entityClass, projectionClass);
+                getterIndexes.put(method, columnNames.size());
+                columnNames.add(sqlNamesHelper.getColumnName(field, ""));
+                handlers.add(getHandler(field, method.getReturnType()));
+            }
+
+            return new ProjectionMapping<>(projectionClass, columnNames, handlers.toArray(new TypeHandler[0]), null,
+                    Map.copyOf(getterIndexes));
+        }
+
+        throw new IllegalArgumentException("Projection must be a record or an interface: " + projectionClass.getName());
+    }
+
+    private static Field getEntityField(Map<String, Field> entityFields, String propertyName, Class<?> entityClass,
+                                        Class<?> projectionClass) {
+        Field field = entityFields.get(propertyName);
+        if (field == null) {
+            throw new IllegalArgumentException("Projection " + projectionClass.getName() + " property " +
+                    propertyName + " does not match any column of entity " + entityClass.getName());
+        }
+
+        return field;
+    }
+
+    /**
+     * A property of the field's own type reads the column like the entity does, e.g. honouring {@code @Enumerated}.
+     */
+    private static TypeHandler getHandler(Field field, Class<?> propertyType) {
+        return field.getType() == propertyType ? TypeHandlers.forField(field) : TypeHandlers.forType(propertyType);
+    }
+
+    private static String getPropertyName(Method method) {
+        String name = method.getName();
+        if (name.startsWith("get") && name.length() > 3) {
+            return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+        } else if (name.startsWith("is") && name.length() > 2 && method.getReturnType() == boolean.class) {
+            return Character.toLowerCase(name.charAt(2)) + name.substring(3);
+        }
+
+        return name;
+    }
+
+    private record ProjectionKey(Class<?> entityClass, Class<?> projectionClass) {
+    }
+}
@@ -0,0 +1,188 @@
+package pl.kielce.tu.orm.metrics;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps all measurements in memory. Latencies go to HdrHistograms in nanoseconds and counters are
+ * {@link LongAdder}s, so recording never takes a lock and stays cheap under contention.
+ */
+public class InMemoryOrmMetrics implements OrmMetrics {
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double NANOS_PER_MICRO = 1000.0;
+
+    private final Map<Class<?>, Map<String, Histogram>> operationLatencies = new ConcurrentHashMap<>();
+    private final Map<Class<?>, LongAdder> rowsRead = new ConcurrentHashMap<>();
+    private final Map<Class<?>, LongAdder> rowsWritten = new ConcurrentHashMap<>();
+    private final Map<String, CacheCounters> cacheLookups = new ConcurrentHashMap<>();
+    private final Histogram statementLatency = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    private final Histogram poolWait = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+
+    @Override
+    public void recordOperation(Class<?> entityClass, String operation, long durationNanos) {
+        Map<String, Histogram> latencies = operationLatencies.get(entityClass);
+        if (latencies == null) {
+            latencies = operationLatencies.computeIfAbsent(entityClass, key -> new ConcurrentHashMap<>());
+        }
+
+        Histogram histogram = latencies.get(operation);
+        if (histogram == null) {
+            histogram = latencies.computeIfAbsent(operation, key -> new ConcurrentHistogram(SIGNIFICANT_DIGITS));
+        }
+
+        histogram.recordValue(Math.max(durationNanos, 0));
+    }
+
+    @Override
+    public void recordStatement(long durationNanos) {
+        statementLatency.recordValue(Math.max(durationNanos, 0));
+    }
+
+    @Override
+    public void recordRowsRead(Class<?> entityClass, long rows) {
+        counter(rowsRead, entityClass).add(rows);
+    }
+
+    @Override
+    public void recordRowsWritten(Class<?> entityClass, long rows) {
+        counter(rowsWritten, entityClass).add(rows);
+    }
+
+    @Override
+    public void recordPoolWait(long durationNanos) {
+        poolWait.recordValue(Math.max(durationNanos, 0));
+    }
+
+    @Override
+    public void recordCacheLookup(String cacheName, boolean hit) {
+        CacheCounters counters = cacheLookups.get(cacheName);
+        if (counters == null) {
+            counters = cacheLookups.computeIfAbsent(cacheName, key -> new CacheCounters());
+        }
+
+        (hit ? counters.hits : counters.misses).increment();
+    }
+
+    public Histogram getOperationLatency(Class<?> entityClass, String operation) {
+        Histogram histogram = operationLatencies.getOrDefault(entityClass, Map.of()).get(operation);
+        return histogram != null ? histogram.copy() : new Histogram(SIGNIFICANT_DIGITS);
+    }
+
+    public Histogram getStatementLatency() {
+        return statementLatency.copy();
+    }
+
+    public long getStatementCount() {
+        return statementLatency.getTotalCount();
+    }
+
+    public Histogram getPoolWait() {
+        return poolWait.copy();
+    }
+
+    public long getRowsRead(Class<?> entityClass) {
+        LongAdder counter = rowsRead.get(entityClass);
+        return counter != null ? counter.sum() : 0;
+    }
+
+    public long getRowsWritten(Class<?> entityClass) {
+        LongAdder counter = rowsWritten.get(entityClass);
+        return counter != null ? counter.sum() : 0;
+    }
+
+    public double getCacheHitRate(String cacheName) {
+        CacheCounters counters = cacheLookups.get(cacheName);
+        if (counters == null) {
+            return 0;
+        }
+
+        long hits = counters.hits.sum();
+        long total = hits + counters.misses.sum();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    public void reset() {
+        operationLatencies.clear();
+        rowsRead.clear();
+        rowsWritten.clear();
+        cacheLookups.clear();
+        statementLatency.reset();
+        poolWait.reset();
+    }
+
+    /**
+     * Returns a plain text report with one line per entity operation, followed by statement, pool, row and cache
+     * figures. Latencies are reported in microseconds.
+     */
+    public String dump() {
+        StringBuilder report = new StringBuilder();
+
+        for (Map.Entry<String, Histogram> entry : sortedOperations().entrySet()) {
+            appendLatency(report, "operation " + entry.getKey(), entry.getValue());
+        }
+        appendLatency(report, "statements", statementLatency);
+        appendLatency(report, "pool wait", poolWait);
+
+        for (Class<?> entityClass : namesOf(rowsRead, rowsWritten).values()) {
+            report.append("rows ").append(entityClass.getSimpleName())
+                    .append(" read=").append(getRowsRead(entityClass))
+                    .append(" written=").append(getRowsWritten(entityClass))
+                    .append('\n');
+        }
+
+        for (String cacheName : new TreeMap<>(cacheLookups).keySet()) {
+            CacheCounters counters = cacheLookups.get(cacheName);
+            report.append("cache ").append(cacheName)
+                    .append(" hits=").append(counters.hits.sum())
+                    .append(" misses=").append(counters.misses.sum())
+                    .append(String.format(" hitRate=%.3f", getCacheHitRate(cacheName)))
+                    .append('\n');
+        }
+
+        return report.toString();
+    }
+
+    private Map<String, Histogram> sortedOperations() {
+        Map<String, Histogram> operations = new TreeMap<>();
+        operationLatencies.forEach((entityClass, latencies) -> latencies.forEach((operation, histogram) ->
+                operations.put(entityClass.getSimpleName() + "." + operation, histogram)));
+        return operations;
+    }
+
+    private static void appendLatency(StringBuilder report, String name, Histogram histogram) {
+        Histogram snapshot = histogram.copy();
+
+        report.append(name)
+                .append(" count=").append(snapshot.getTotalCount())
+                .append(String.format(" mean=%.1fus p50=%.1fus p99=%.1fus max=%.1fus",
+                        snapshot.getMean() / NANOS_PER_MICRO,
+                        snapshot.getValueAtPercentile(50) / NANOS_PER_MICRO,
+                        snapshot.getValueAtPercentile(99) / NANOS_PER_MICRO,
+                        snapshot.getMaxValue() / NANOS_PER_MICRO))
+                .append('\n');
+    }
+
+    @SafeVarargs
+    private static Map<String, Class<?>> namesOf(Map<Class<?>, LongAdder>... counters) {
+        Map<String, Class<?>> names = new TreeMap<>();
+        for (Map<Class<?>, LongAdder> counter : counters) {
+            counter.keySet().forEach(entityClass -> names.put(entityClass.getName(), entityClass));
+        }
+        return names;
+    }
+
+    private static LongAdder counter(Map<Class<?>, LongAdder> counters, Class<?> entityClass) {
+        LongAdder counter = counters.get(entityClass);
+        return counter != null ? counter : counters.computeIfAbsent(entityClass, key -> new LongAdder());
+    }
+
+    private static final class CacheCounters {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+    }
+}
@@ -0,0 +1,212 @@
+package pl.kielce.tu.orm.metrics;
+
+import jdk.jfr.EventType;
+import pl.kielce.tu.orm.config.ORMConfiguration;
+import pl.kielce.tu.orm.jfr.OrmQueryEvent;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Wraps a JDBC connection so that every statement executed through it is timed and reported to the configured
+ * {@link OrmMetrics} and the {@link QueryLog}. A batch counts as one statement, because it is sent in one round trip.
+ * While a flight recording with {@link OrmQueryEvent} enabled is running, queries are also recorded until their
+ * result set is closed, so the event covers fetching the rows.
+ */
+public final class InstrumentedConnection implements InvocationHandler {
+    private final Connection connection;
+
+    private InstrumentedConnection(Connection connection) {
+        this.connection = connection;
+    }
+
+    public static Connection wrap(Connection connection) {
+        if (Proxy.isProxyClass(connection.getClass())
+                && Proxy.getInvocationHandler(connection) instanceof InstrumentedConnection) {
+            return connection;
+        }
+
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, new InstrumentedConnection(connection));
+    }
+
+    /**
+     * Wraps the connection only when something consumes the measurements: metrics other than
+     * {@link NoOpOrmMetrics}, an enabled {@link QueryLog} or a flight recording with {@link OrmQueryEvent} enabled.
+     * Otherwise the connection is returned as is, so statements carry no proxy overhead. The decision is made once
+     * per connection, so a recording started later covers connections opened after it started.
+     */
+    public static Connection wrapIfInstrumented(Connection connection) {
+        return wrapIfInstrumented(connection, ORMConfiguration.getInstance().getMetrics(), QueryLog.getInstance());
+    }
+
+    static Connection wrapIfInstrumented(Connection connection, OrmMetrics metrics, QueryLog queryLog) {
+        boolean instrumented = !(metrics instanceof NoOpOrmMetrics) || queryLog.isEnabled()
+                || EventType.getEventType(OrmQueryEvent.class).isEnabled();
+
+        return instrumented ? wrap(connection) : connection;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        Object result = invokeTarget(connection, method, args);
+
+        if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+            return Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] {method.getReturnType()}, new InstrumentedStatement(statement, sql));
+        }
+
+        return result;
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * The parameter count is the highest parameter index bound since the previous execution.
+     */
+    private static final class InstrumentedStatement implements InvocationHandler {
+        private final Statement statement;
+        private final String preparedSQL;
+        private int parameterCount;
+        private TracedResultSet openResultSet;
+
+        private InstrumentedStatement(Statement statement, String preparedSQL) {
+            this.statement = statement;
+            this.preparedSQL = preparedSQL;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+
+            if (!name.startsWith("execute")) {
+                if (name.startsWith("set") && args != null && args.length > 1 && args[0] instanceof Integer index) {
+                    parameterCount = Math.max(parameterCount, index);
+                } else if (name.equals("clearParameters")) {
+                    parameterCount = 0;
+                } else if (name.equals("close")) {
+                    completeOpenResultSet();
+                }
+                return invokeTarget(statement, method, args);
+            }
+
+            completeOpenResultSet();
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSQL;
+            OrmQueryEvent event = new OrmQueryEvent();
+            boolean traced = sql != null && event.isEnabled();
+            event.begin();
+
+            Object result;
+            long start = System.nanoTime();
+            try {
+                result = invokeTarget(statement, method, args);
+            } catch (Throwable e) {
+                // A strict query log must not replace the failure of the statement itself
+                try {
+                    recordExecution(sql, System.nanoTime() - start);
+                } catch (RuntimeException recordFailure) {
+                    e.addSuppressed(recordFailure);
+                }
+                throw e;
+            }
+            recordExecution(sql, System.nanoTime() - start);
+
+            if (traced) {
+                String shape = QueryLog.shapeOf(sql);
+                Class<?> entityClass = QueryLog.getInstance().getCurrentEntity();
+
+                if (result instanceof ResultSet resultSet) {
+                    openResultSet = new TracedResultSet(resultSet, event, shape, entityClass);
+                    return Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                            new Class<?>[] {ResultSet.class}, openResultSet);
+                }
+                event.complete(shape, entityClass, countRows(result));
+            }
+
+            return result;
+        }
+
+        private void recordExecution(String sql, long duration) {
+            int boundParameters = parameterCount;
+            parameterCount = 0;
+
+            ORMConfiguration.getInstance().getMetrics().recordStatement(duration);
+            if (sql != null) {
+                QueryLog.getInstance().record(sql, boundParameters, duration);
+            }
+        }
+
+        private void completeOpenResultSet() {
+            if (openResultSet != null) {
+                openResultSet.complete();
+                openResultSet = null;
+            }
+        }
+
+        private static long countRows(Object result) {
+            if (result instanceof Number count) {
+                return Math.max(count.longValue(), 0);
+            }
+
+            long rows = 0;
+            if (result instanceof int[] counts) {
+                for (int count : counts) {
+                    rows += Math.max(count, 0);
+                }
+            } else if (result instanceof long[] counts) {
+                for (long count : counts) {
+                    rows += Math.max(count, 0);
+                }
+            }
+            return rows;
+        }
+    }
+
+    private static final class TracedResultSet implements InvocationHandler {
+        private final ResultSet resultSet;
+        private final OrmQueryEvent event;
+        private final String shape;
+        private final Class<?> entityClass;
+        private long rows;
+        private boolean completed;
+
+        private TracedResultSet(ResultSet resultSet, OrmQueryEvent event, String shape, Class<?> entityClass) {
+            this.resultSet = resultSet;
+            this.event = event;
+            this.shape = shape;
+            this.entityClass = entityClass;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(resultSet, method, args);
+
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                rows++;
+            } else if (method.getName().equals("close")) {
+                complete();
+            }
+
+            return result;
+        }
+
+        private void complete() {
+            if (!completed) {
+                completed = true;
+                event.complete(shape, entityClass, rows);
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package pl.kielce.tu.orm.metrics;
+
+public final class NoOpOrmMetrics implements OrmMetrics {
+    private static final NoOpOrmMetrics instance = new NoOpOrmMetrics();
+
+    private NoOpOrmMetrics() {
+    }
+
+    public static NoOpOrmMetrics getInstance() {
+        return instance;
+    }
+
+    @Override
+    public void recordOperation(Class<?> entityClass, String operation, long durationNanos) {
+    }
+
+    @Override
+    public void recordStatement(long durationNanos) {
+    }
+
+    @Override
+    public void recordRowsRead(Class<?> entityClass, long rows) {
+    }
+
+    @Override
+    public void recordRowsWritten(Class<?> entityClass, long rows) {
+    }
+
+    @Override
+    public void recordPoolWait(long durationNanos) {
+    }
+
+    @Override
+    public void recordCacheLookup(String cacheName, boolean hit) {
+    }
+}
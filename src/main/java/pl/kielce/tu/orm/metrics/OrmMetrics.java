@@ -0,0 +1,19 @@
+package pl.kielce.tu.orm.metrics;
+
+/**
+ * Receives measurements from repositories, relationship loaders and the connector. Every repository call reports
+ * here, so implementations must be thread-safe and must not block.
+ */
+public interface OrmMetrics {
+    void recordOperation(Class<?> entityClass, String operation, long durationNanos);
+
+    void recordStatement(long durationNanos);
+
+    void recordRowsRead(Class<?> entityClass, long rows);
+
+    void recordRowsWritten(Class<?> entityClass, long rows);
+
+    void recordPoolWait(long durationNanos);
+
+    void recordCacheLookup(String cacheName, boolean hit);
+}
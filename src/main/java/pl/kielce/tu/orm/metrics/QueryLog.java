@@ -0,0 +1,251 @@
+package pl.kielce.tu.orm.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pl.kielce.tu.orm.config.ORMConfiguration;
+import pl.kielce.tu.orm.exceptions.NPlusOneQueryException;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Logs every statement executed through an {@link InstrumentedConnection} together with the repository call that
+ * issued it. Statements slower than {@code queryLog.slowQueryMillis} are logged as warnings. A query shape
+ * executed more than {@code queryLog.nPlusOneThreshold} times by relationship loaders within one top-level
+ * repository call is reported as an N+1 pattern, and with {@code queryLog.strict} enabled it fails the call with an
+ * {@link NPlusOneQueryException}, which lets tests catch such regressions. Writes are not counted, since saving
+ * many entities repeats the same insert by design.
+ * <p>
+ * Every statement is logged at DEBUG. With DEBUG off, {@code queryLog.sampleRate} logs that fraction of the
+ * statements at INFO instead, which keeps a trickle of SQL in production logs.
+ */
+public final class QueryLog {
+    /**
+     * The repository method whose queries are checked for N+1 patterns.
+     */
+    public static final String LOAD_RELATIONSHIPS = "loadRelationships";
+    private static final Logger log = LoggerFactory.getLogger(QueryLog.class);
+    private static final long DEFAULT_SLOW_QUERY_MILLIS = 500;
+    private static final int DEFAULT_N_PLUS_ONE_THRESHOLD = 10;
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\?(?:\\s*,\\s*\\?)+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern READ = Pattern.compile("^(?i)(SELECT|WITH)\\b");
+    private static final int MAX_CACHED_SHAPES = 1024;
+    private static final Map<String, String> SHAPES = new ConcurrentHashMap<>();
+    private static volatile QueryLog instance;
+
+    private final boolean enabled;
+    private final long slowQueryNanos;
+    private final int nPlusOneThreshold;
+    private final boolean strict;
+    private final double sampleRate;
+    private final List<Consumer<StatementRecord>> listeners = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<CallScope> callScope = ThreadLocal.withInitial(CallScope::new);
+
+    QueryLog(boolean enabled, long slowQueryMillis, int nPlusOneThreshold, boolean strict, double sampleRate) {
+        this.enabled = enabled;
+        this.slowQueryNanos = TimeUnit.MILLISECONDS.toNanos(slowQueryMillis);
+        this.nPlusOneThreshold = nPlusOneThreshold;
+        this.strict = strict;
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * The settings are read from {@link ORMConfiguration} on first use.
+     */
+    public static QueryLog getInstance() {
+        QueryLog queryLog = instance;
+        if (queryLog == null) {
+            synchronized (QueryLog.class) {
+                if (instance == null) {
+                    instance = fromConfiguration(ORMConfiguration.getInstance());
+                }
+                queryLog = instance;
+            }
+        }
+
+        return queryLog;
+    }
+
+    /**
+     * Reads the settings from {@link ORMConfiguration} again, so changed {@code queryLog} properties take effect.
+     */
+    public static void reload() {
+        synchronized (QueryLog.class) {
+            instance = fromConfiguration(ORMConfiguration.getInstance());
+        }
+    }
+
+    private static QueryLog fromConfiguration(ORMConfiguration config) {
+        return new QueryLog(
+                !"false".equals(config.getProperty("queryLog.enabled")),
+                config.hasProperty("queryLog.slowQueryMillis")
+                        ? Long.parseLong(config.getProperty("queryLog.slowQueryMillis")) : DEFAULT_SLOW_QUERY_MILLIS,
+                config.hasProperty("queryLog.nPlusOneThreshold")
+                        ? Integer.parseInt(config.getProperty("queryLog.nPlusOneThreshold")) : DEFAULT_N_PLUS_ONE_THRESHOLD,
+                "true".equals(config.getProperty("queryLog.strict")),
+                config.hasProperty("queryLog.sampleRate") ? Double.parseDouble(config.getProperty("queryLog.sampleRate")) : 0);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void addListener(Consumer<StatementRecord> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<StatementRecord> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Marks the start of a repository call on the current thread. Calls nest, and N+1 patterns are counted over
+     * the outermost one, so queries issued by relationship loaders count towards the call that loaded the
+     * owning entities.
+     */
+    public void enter(Class<?> repositoryClass, Class<?> entityClass, String method) {
+        if (enabled) {
+            callScope.get().frames.push(new CallSite(repositoryClass, entityClass, method));
+        }
+    }
+
+    public void exit() {
+        if (!enabled) {
+            return;
+        }
+
+        CallScope scope = callScope.get();
+        scope.frames.poll();
+        if (scope.frames.isEmpty()) {
+            callScope.remove();
+        }
+    }
+
+    /**
+     * Returns the entity of the innermost repository call on the current thread, or {@code null} outside of one.
+     */
+    public Class<?> getCurrentEntity() {
+        if (!enabled) {
+            return null;
+        }
+
+        CallScope scope = callScope.get();
+        CallSite callSite = scope.frames.peek();
+        if (callSite == null) {
+            callScope.remove();
+            return null;
+        }
+
+        return callSite.entityClass;
+    }
+
+    public void record(String sql, int parameterCount, long durationNanos) {
+        if (!enabled) {
+            return;
+        }
+
+        String shape = shapeOf(sql);
+        CallScope scope = callScope.get();
+        CallSite callSite = scope.frames.peek();
+        boolean debug = log.isDebugEnabled();
+        boolean sampled = !debug && sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+        boolean slow = durationNanos > slowQueryNanos;
+
+        if (debug || sampled || slow || !listeners.isEmpty()) {
+            StatementRecord statement = callSite != null
+                    ? new StatementRecord(sql, shape, parameterCount, durationNanos,
+                            callSite.repositoryClass, callSite.method, callSite.entityClass)
+                    : new StatementRecord(sql, shape, parameterCount, durationNanos, null, null, null);
+
+            if (debug) {
+                log.debug("{} ({} parameters, {} us) in {}", sql, parameterCount,
+                        TimeUnit.NANOSECONDS.toMicros(durationNanos), describe(statement));
+            } else if (sampled) {
+                log.info("Sampled statement {} ({} parameters, {} us) in {}", sql, parameterCount,
+                        TimeUnit.NANOSECONDS.toMicros(durationNanos), describe(statement));
+            }
+            if (slow) {
+                log.warn("Slow query took {} ms in {}: {}", TimeUnit.NANOSECONDS.toMillis(durationNanos),
+                        describe(statement), sql);
+            }
+            for (Consumer<StatementRecord> listener : listeners) {
+                listener.accept(statement);
+            }
+        }
+
+        if (callSite == null) {
+            callScope.remove();
+        } else if (scope.loadsRelationships() && READ.matcher(shape).find() && scope.shapeCounts.merge(shape, 1, Integer::sum) == nPlusOneThreshold + 1) {
+            CallSite outermost = scope.frames.peekLast();
+            String message = "Statement executed more than " + nPlusOneThreshold + " times within "
+                    + outermost.repositoryClass.getSimpleName() + "." + outermost.method + " of "
+                    + outermost.entityClass.getSimpleName() + ", possible N+1 pattern: " + shape;
+
+            if (strict) {
+                throw new NPlusOneQueryException(message);
+            }
+            log.warn(message);
+        }
+    }
+
+    /**
+     * Reduces a statement to its shape: literals become placeholders, IN lists collapse to a single placeholder
+     * and whitespace is normalized.
+     */
+    public static String shapeOf(String sql) {
+        String shape = SHAPES.get(sql);
+        if (shape == null) {
+            shape = normalize(sql);
+            if (SHAPES.size() < MAX_CACHED_SHAPES) {
+                SHAPES.put(sql, shape);
+            }
+        }
+
+        return shape;
+    }
+
+    private static String normalize(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = PARAMETER_LIST.matcher(shape).replaceAll("?");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    private static String describe(StatementRecord statement) {
+        if (statement.method() == null) {
+            return "no repository call";
+        }
+
+        return statement.repositoryClass().getSimpleName() + "." + statement.method()
+                + " of " + statement.entityClass().getSimpleName();
+    }
+
+    private record CallSite(Class<?> repositoryClass, Class<?> entityClass, String method) {
+    }
+
+    private static final class CallScope {
+        private final Deque<CallSite> frames = new ArrayDeque<>();
+        private final Map<String, Integer> shapeCounts = new HashMap<>();
+
+        private boolean loadsRelationships() {
+            for (CallSite frame : frames) {
+                if (LOAD_RELATIONSHIPS.equals(frame.method)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
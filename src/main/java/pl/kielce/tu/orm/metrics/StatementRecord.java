@@ -0,0 +1,9 @@
+package pl.kielce.tu.orm.metrics;
+
+/**
+ * A single executed SQL statement. The call site fields are {@code null} for statements issued outside of a
+ * repository call, e.g. by the schema initializer.
+ */
+public record StatementRecord(String sql, String shape, int parameterCount, long durationNanos,
+                              Class<?> repositoryClass, String method, Class<?> entityClass) {
+}
@@ -0,0 +1,43 @@
+package pl.kielce.tu.orm.repository;
+
+import pl.kielce.tu.orm.repository.paging.Page;
+import pl.kielce.tu.orm.repository.paging.Pageable;
+import pl.kielce.tu.orm.repository.paging.Slice;
+import pl.kielce.tu.orm.repository.paging.Sort;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncCrudRepository<T, ID> {
+
+    CompletableFuture<T> save(T entity);
+
+    CompletableFuture<List<T>> saveAll(Iterable<T> entities);
+
+    CompletableFuture<Optional<T>> findById(ID id);
+
+    CompletableFuture<Boolean> existsById(ID id);
+
+    CompletableFuture<List<T>> findAll();
+
+    <P> CompletableFuture<List<P>> findAll(Class<P> projectionClass);
+
+    CompletableFuture<Page<T>> findPage(Pageable pageable);
+
+    CompletableFuture<Slice<T>> findAfter(Object lastKey, int size, Sort sort);
+
+    CompletableFuture<List<T>> findAllById(Iterable<ID> ids);
+
+    CompletableFuture<Long> count();
+
+    CompletableFuture<Void> deleteById(ID id);
+
+    CompletableFuture<Void> delete(T entity);
+
+    CompletableFuture<Void> deleteAllById(Iterable<ID> ids);
+
+    CompletableFuture<Void> deleteAll(Iterable<T> entities);
+
+    CompletableFuture<Void> deleteAll();
+}
@@ -1,10 +1,21 @@
 package pl.kielce.tu.orm.repository;
 
+import pl.kielce.tu.orm.repository.paging.Page;
+import pl.kielce.tu.orm.repository.paging.Pageable;
+import pl.kielce.tu.orm.repository.paging.Slice;
+import pl.kielce.tu.orm.repository.paging.Sort;
+
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Flow;
 
 public interface CrudRepository<T, ID> {
-    
+
+    /**
+     * Inserts a new entity or updates a stored one. An update keeps the stored value of every null field, so a
+     * column cannot be set back to NULL through {@code save}. An update of a {@code @Version} entity whose version
+     * is stale throws {@link pl.kielce.tu.orm.exceptions.OptimisticLockException}.
+     */
     T save(T entity);
     
     List<T> saveAll(Iterable<T> entities);
@@ -13,8 +24,35 @@ public interface CrudRepository<T, ID> {
     
     boolean existsById(ID id);
     
+    Optional<T> findByIdForUpdate(ID id);
+    
+    Optional<T> findByIdForUpdateNoWait(ID id);
+    
+    List<T> findAllForUpdate(int limit, boolean skipLocked);
+    
+    List<T> findAllForUpdateNoWait(int limit);
+    
     List<T> findAll();
     
+    <P> List<P> findAll(Class<P> projectionClass);
+    
+    Flow.Publisher<T> publishAll();
+    
+    Flow.Publisher<T> publishQuery(String whereClause, Object... parameters);
+    
+    Page<T> findPage(Pageable pageable);
+    
+    /**
+     * Returns the entities ordered after {@code lastKey}, which is the last entity of the previous slice or, when
+     * sorting by id, its id. Entities whose sort property is null are never returned, so sort by a property that
+     * is always set.
+     */
+    Slice<T> findAfter(Object lastKey, int size, Sort sort);
+    
+    List<T> findAllInRange(String property, Object fromInclusive, Object toExclusive);
+    
+    List<T> findAllByJsonPath(String property, String path, String value);
+    
     List<T> findAllById(Iterable<ID> ids);
     
     long count();
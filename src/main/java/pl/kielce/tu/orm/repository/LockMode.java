@@ -0,0 +1,10 @@
+package pl.kielce.tu.orm.repository;
+
+/**
+ * How a {@code SELECT ... FOR UPDATE} behaves when a row is already locked by another transaction.
+ */
+public enum LockMode {
+    WAIT,
+    NOWAIT,
+    SKIP_LOCKED
+}
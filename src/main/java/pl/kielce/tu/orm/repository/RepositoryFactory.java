@@ -1,6 +1,8 @@
 package pl.kielce.tu.orm.repository;
 
 import pl.kielce.tu.orm.annotations.Repository;
+import pl.kielce.tu.orm.config.ORMConfiguration;
+import pl.kielce.tu.orm.repository.impl.AsyncCrudRepositoryImpl;
 import pl.kielce.tu.orm.repository.impl.CrudRepositoryImpl;
 
 import java.lang.reflect.Constructor;
@@ -11,6 +13,7 @@ import java.util.Map;
 public class RepositoryFactory {
     private static final RepositoryFactory instance = new RepositoryFactory();
     private final Map<Class<?>, Object> repositories = new HashMap<>();
+    private final Map<Class<?>, Object> asyncRepositories = new HashMap<>();
 
     private RepositoryFactory() {
     }
@@ -30,6 +33,31 @@ public class RepositoryFactory {
         return repository;
     }
 
+    @SuppressWarnings("unchecked")
+    public <T, ID> AsyncCrudRepository<T, ID> getAsyncRepositoryForEntity(Class<T> entityClass) {
+        if (asyncRepositories.containsKey(entityClass)) {
+            return (AsyncCrudRepository<T, ID>) asyncRepositories.get(entityClass);
+        }
+
+        CrudRepository<T, ID> repository = getRepositoryForEntity(entityClass);
+        AsyncCrudRepository<T, ID> asyncRepository = new AsyncCrudRepositoryImpl<>(repository, getMaxConcurrency(entityClass));
+        asyncRepositories.put(entityClass, asyncRepository);
+        return asyncRepository;
+    }
+
+    private int getMaxConcurrency(Class<?> entityClass) {
+        ORMConfiguration config = ORMConfiguration.getInstance();
+        String entityKey = "async.maxConcurrency." + entityClass.getSimpleName();
+
+        if (config.hasProperty(entityKey)) {
+            return Integer.parseInt(config.getProperty(entityKey));
+        } else if (config.hasProperty("async.maxConcurrency")) {
+            return Integer.parseInt(config.getProperty("async.maxConcurrency"));
+        }
+
+        return Integer.MAX_VALUE;
+    }
+
     @SuppressWarnings("unchecked")
     public <T, ID, R extends CrudRepository<T, ID>> R getRepository(Class<R> repositoryInterface) {
         if (!repositoryInterface.isAnnotationPresent(Repository.class)) {
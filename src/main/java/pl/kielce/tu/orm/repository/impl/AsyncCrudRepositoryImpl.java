@@ -0,0 +1,167 @@
+package pl.kielce.tu.orm.repository.impl;
+
+import pl.kielce.tu.orm.connector.DatabaseConnector;
+import pl.kielce.tu.orm.repository.AsyncCrudRepository;
+import pl.kielce.tu.orm.repository.CrudRepository;
+import pl.kielce.tu.orm.repository.paging.Page;
+import pl.kielce.tu.orm.repository.paging.Pageable;
+import pl.kielce.tu.orm.repository.paging.Slice;
+import pl.kielce.tu.orm.repository.paging.Sort;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Runs every operation of the wrapped repository on its own virtual thread. Each operation holds a pooled
+ * connection for its whole duration, so at most {@code min(maxConcurrency, poolSize)} operations of this
+ * repository touch the database at once and the remaining virtual threads wait without blocking carrier threads.
+ */
+public class AsyncCrudRepositoryImpl<T, ID> implements AsyncCrudRepository<T, ID> {
+    private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final CrudRepository<T, ID> repository;
+    private final DatabaseConnector databaseConnector;
+    private final int maxConcurrency;
+    private final Semaphore concurrencyLimit;
+
+    public AsyncCrudRepositoryImpl(CrudRepository<T, ID> repository) {
+        this(repository, DatabaseConnector.getInstance().getPoolSize());
+    }
+
+    public AsyncCrudRepositoryImpl(CrudRepository<T, ID> repository, int maxConcurrency) {
+        if (repository == null) {
+            throw new IllegalArgumentException("Repository must not be null");
+        }
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Max concurrency must be greater than zero");
+        }
+
+        this.repository = repository;
+        this.databaseConnector = DatabaseConnector.getInstance();
+        this.maxConcurrency = Math.min(maxConcurrency, databaseConnector.getPoolSize());
+        this.concurrencyLimit = new Semaphore(this.maxConcurrency, true);
+    }
+
+    /**
+     * Operations of this repository that may hold a pooled connection at the same time.
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public CompletableFuture<T> save(T entity) {
+        return submit(() -> repository.save(entity));
+    }
+
+    @Override
+    public CompletableFuture<List<T>> saveAll(Iterable<T> entities) {
+        return submit(() -> repository.saveAll(entities));
+    }
+
+    @Override
+    public CompletableFuture<Optional<T>> findById(ID id) {
+        return submit(() -> repository.findById(id));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> existsById(ID id) {
+        return submit(() -> repository.existsById(id));
+    }
+
+    @Override
+    public CompletableFuture<List<T>> findAll() {
+        return submit(repository::findAll);
+    }
+
+    @Override
+    public <P> CompletableFuture<List<P>> findAll(Class<P> projectionClass) {
+        return submit(() -> repository.findAll(projectionClass));
+    }
+
+    @Override
+    public CompletableFuture<Page<T>> findPage(Pageable pageable) {
+        return submit(() -> repository.findPage(pageable));
+    }
+
+    @Override
+    public CompletableFuture<Slice<T>> findAfter(Object lastKey, int size, Sort sort) {
+        return submit(() -> repository.findAfter(lastKey, size, sort));
+    }
+
+    @Override
+    public CompletableFuture<List<T>> findAllById(Iterable<ID> ids) {
+        return submit(() -> repository.findAllById(ids));
+    }
+
+    @Override
+    public CompletableFuture<Long> count() {
+        return submit(repository::count);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteById(ID id) {
+        return run(() -> repository.deleteById(id));
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(T entity) {
+        return run(() -> repository.delete(entity));
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAllById(Iterable<ID> ids) {
+        return run(() -> repository.deleteAllById(ids));
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAll(Iterable<T> entities) {
+        return run(() -> repository.deleteAll(entities));
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAll() {
+        return run(repository::deleteAll);
+    }
+
+    private CompletableFuture<Void> run(Runnable operation) {
+        return submit(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    private <R> CompletableFuture<R> submit(Supplier<R> operation) {
+        return CompletableFuture.supplyAsync(() -> execute(operation), EXECUTOR);
+    }
+
+    private <R> R execute(Supplier<R> operation) {
+        Connection connection = null;
+
+        try {
+            concurrencyLimit.acquire();
+            try {
+                connection = databaseConnector.acquireConnection();
+                databaseConnector.bindConnection(connection);
+
+                return operation.get();
+            } finally {
+                databaseConnector.unbindConnection();
+                if (connection != null) {
+                    databaseConnector.releaseConnection(connection);
+                }
+                concurrencyLimit.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException("Interrupted while waiting for a database connection", e);
+        }
+    }
+}
@@ -1,16 +1,43 @@
 package pl.kielce.tu.orm.repository.impl;
 
+import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pl.kielce.tu.orm.annotations.Entity;
+import pl.kielce.tu.orm.annotations.Json;
+import pl.kielce.tu.orm.annotations.Lob;
 import pl.kielce.tu.orm.annotations.ManyToMany;
 import pl.kielce.tu.orm.annotations.ManyToOne;
 import pl.kielce.tu.orm.annotations.OneToMany;
 import pl.kielce.tu.orm.annotations.OneToOne;
+import pl.kielce.tu.orm.config.ORMConfiguration;
+import pl.kielce.tu.orm.dialects.SQLDialect;
+import pl.kielce.tu.orm.exceptions.OptimisticLockException;
+import pl.kielce.tu.orm.exceptions.PessimisticLockException;
+import pl.kielce.tu.orm.exceptions.UnknownTypeException;
+import pl.kielce.tu.orm.id.IdGenerator;
+import pl.kielce.tu.orm.id.IdGenerators;
+import pl.kielce.tu.orm.jfr.OrmFlushEvent;
+import pl.kielce.tu.orm.jfr.OrmHydrationEvent;
+import pl.kielce.tu.orm.json.JsonDocument;
+import pl.kielce.tu.orm.lob.LazyBinaryStream;
+import pl.kielce.tu.orm.lob.LazyCharacterStream;
+import pl.kielce.tu.orm.mapping.EntityMapping;
+import pl.kielce.tu.orm.mapping.IdMapping;
+import pl.kielce.tu.orm.mapping.ProjectionMapping;
+import pl.kielce.tu.orm.metrics.OrmMetrics;
+import pl.kielce.tu.orm.metrics.QueryLog;
 import pl.kielce.tu.orm.sql.SQLAnnotationsHelper;
 import pl.kielce.tu.orm.sql.SQLNamesHelper;
 import pl.kielce.tu.orm.connector.DatabaseConnector;
 import pl.kielce.tu.orm.repository.CrudRepository;
+import pl.kielce.tu.orm.repository.LockMode;
+import pl.kielce.tu.orm.repository.paging.Page;
+import pl.kielce.tu.orm.repository.paging.Pageable;
+import pl.kielce.tu.orm.repository.paging.Slice;
+import pl.kielce.tu.orm.repository.paging.Sort;
 import pl.kielce.tu.orm.sql.SQLGenerator;
+import pl.kielce.tu.orm.types.TypeHandler;
+import pl.kielce.tu.orm.types.TypeHandlers;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
@@ -19,26 +46,38 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.logging.Logger;
+import java.util.concurrent.Flow;
 
 public class CrudRepositoryImpl<T, ID> implements CrudRepository<T, ID> {
-    private static final Logger logger = Logger.getLogger(CrudRepositoryImpl.class.getName());
-
+    private static final Logger log = LoggerFactory.getLogger(CrudRepositoryImpl.class);
     private static final ThreadLocal<Set<Object>> PROCESSED_ENTITIES = ThreadLocal.withInitial(HashSet::new);
-    private static final org.slf4j.Logger log = LoggerFactory.getLogger(CrudRepositoryImpl.class);
 
     private final Class<T> entityClass;
     private final String tableName;
     private final Field idField;
+    private final IdMapping idMapping;
+    private final Optional<IdGenerator> idGenerator;
+    private final Field versionField;
     private final List<Field> fields;
+    private final TypeHandler[] typeHandlers;
+    private final EntityMapping<T> entityMapping;
+    private final String idColumnName;
+    private final String selectSQL;
+    private final String selectByIdSQL;
+    private final String existsByIdSQL;
+    private final String updateSQL;
+    private final String deleteByIdSQL;
+    private final String countSQL;
     private final DatabaseConnector databaseConnector;
 
     public CrudRepositoryImpl(Class<T> entityClass) {
@@ -54,142 +93,285 @@ public class CrudRepositoryImpl<T, ID> implements CrudRepository<T, ID> {
         this.tableName = sqlNamesHelper.getTableName(entityClass, entityAnnotation.name());
 
         this.idField = SQLGenerator.getIdField(entityClass);
+        this.idMapping = IdMapping.of(entityClass);
+        this.idGenerator = IdGenerators.forEntity(entityClass);
+        this.versionField = SQLGenerator.getVersionField(entityClass);
+        if (versionField != null) {
+            versionField.setAccessible(true);
+        }
 
         this.fields = SQLGenerator.getFields(entityClass);
+        this.typeHandlers = new TypeHandler[fields.size()];
+        for (int i = 0; i < fields.size(); i++) {
+            Field field = fields.get(i);
+            if (!SQLAnnotationsHelper.hasForeignTableAnnotation(field) && !SQLAnnotationsHelper.hasOneToManyAnnotation(field)) {
+                typeHandlers[i] = TypeHandlers.forField(field);
+            }
+        }
+
+        this.entityMapping = EntityMapping.of(entityClass);
+        this.idColumnName = sqlNamesHelper.getColumnName(idField, "");
+        this.selectSQL = SQLGenerator.generateSelectSQL(tableName, fields);
+        this.selectByIdSQL = SQLGenerator.generateSelectByIdSQL(tableName, fields, idMapping.getIdFields());
+        this.existsByIdSQL = SQLGenerator.generateExistsByIdSQL(tableName, idMapping.getIdFields());
+        this.updateSQL = SQLGenerator.generateUpdateSQL(tableName, fields, idMapping.getIdFields(), versionField);
+        this.deleteByIdSQL = SQLGenerator.generateDeleteSQL(tableName, idMapping.getIdFields());
+        this.countSQL = SQLGenerator.generateCountSQL(tableName);
     }
 
     @Override
     public T save(T entity) {
-        if (entity == null) {
-            throw new IllegalArgumentException("Entity must not be null");
-        }
-
+        long start = beginOperation("save");
+        databaseConnector.recordWrite();
         try {
-            idField.setAccessible(true);
-            ID id = (ID) idField.get(entity);
-
-            T result;
-            if (id != null && existsById(id)) {
-                result = update(entity);
-            } else {
-                result = insert(entity);
+            if (entity == null) {
+                throw new IllegalArgumentException("Entity must not be null");
             }
 
-            if (PROCESSED_ENTITIES.get().isEmpty()) {
-                PROCESSED_ENTITIES.remove();
-            }
+            try {
+                ID id = (ID) idMapping.getId(entity);
 
-            return result;
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException("Error accessing ID field", e);
+                T result;
+                if (id != null && (hasVersion(entity) || existsById(id))) {
+                    result = update(entity);
+                } else {
+                    result = insert(entity);
+                }
+
+                if (PROCESSED_ENTITIES.get().isEmpty()) {
+                    PROCESSED_ENTITIES.remove();
+                }
+
+                return result;
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException("Error accessing ID field", e);
+            }
+        } finally {
+            endOperation("save", start);
         }
     }
 
     private T insert(T entity) {
         Connection connection = databaseConnector.getConnection();
-        String sql = SQLGenerator.generateInsertSQL(entity, tableName, fields);
-
-        try (PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            int paramIndex = 1;
-
-            for (Field field : fields) {
-                field.setAccessible(true);
-                Object value = field.get(entity);
 
-                if (value != null) {
-                    if (SQLAnnotationsHelper.hasForeignTableAnnotation(field)) {
-                        if (SQLAnnotationsHelper.hasOneToOneAnnotation(field) || field.isAnnotationPresent(ManyToOne.class)) {
-                            Field idField = SQLGenerator.getIdField(value.getClass());
+        try {
+            assignGeneratedId(entity);
+            initializeVersion(entity);
+            String sql = SQLGenerator.generateInsertSQL(entity, tableName, fields);
+            boolean returnKeys = idGenerator.isEmpty() && !idMapping.isComposite();
+
+            try (PreparedStatement statement = returnKeys
+                    ? connection.prepareStatement(sql, ORMConfiguration.getInstance().getDialect().generatedKeyColumns(idColumnName))
+                    : connection.prepareStatement(sql)) {
+                bindInsertParameters(statement, entity);
+
+                OrmFlushEvent flushEvent = new OrmFlushEvent();
+                flushEvent.begin();
+                int rowsAffected = statement.executeUpdate();
+                recordWrite(flushEvent, "insert", rowsAffected);
+
+                if (rowsAffected > 0) {
+                    if (returnKeys) {
+                        ResultSet generatedKeys = statement.getGeneratedKeys();
+                        if (generatedKeys.next()) {
                             idField.setAccessible(true);
-                            Object idValue = idField.get(value);
-
-                            if (idValue != null) {
-                                statement.setObject(paramIndex++, idValue);
-                            }
+                            idField.set(entity, generatedKeys.getObject(1));
                         }
-                    } else if (!SQLAnnotationsHelper.hasOneToManyAnnotation(field)) {
-                        statement.setObject(paramIndex++, value);
                     }
+
+                    saveRelationships(entity);
                 }
             }
 
-            int rowsAffected = statement.executeUpdate();
+            return entity;
+        } catch (SQLException | IllegalAccessException e) {
+            throw new RuntimeException("Error inserting entity", e);
+        }
+    }
 
-            if (rowsAffected > 0) {
-                ResultSet generatedKeys = statement.getGeneratedKeys();
-                if (generatedKeys.next()) {
-                    idField.setAccessible(true);
-                    idField.set(entity, generatedKeys.getObject(1));
+    /**
+     * Inserts new entities with client-generated ids as JDBC batches, one batch per distinct INSERT statement.
+     */
+    private void insertBatch(List<T> entities) {
+        Connection connection = databaseConnector.getConnection();
+        Map<String, List<T>> entitiesBySQL = new LinkedHashMap<>();
+
+        try {
+            for (T entity : entities) {
+                assignGeneratedId(entity);
+                initializeVersion(entity);
+                entitiesBySQL.computeIfAbsent(SQLGenerator.generateInsertSQL(entity, tableName, fields),
+                        sql -> new ArrayList<>()).add(entity);
+            }
+
+            for (Map.Entry<String, List<T>> batch : entitiesBySQL.entrySet()) {
+                try (PreparedStatement statement = connection.prepareStatement(batch.getKey())) {
+                    OrmFlushEvent flushEvent = new OrmFlushEvent();
+                    flushEvent.begin();
+                    for (T entity : batch.getValue()) {
+                        bindInsertParameters(statement, entity);
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                    recordWrite(flushEvent, "insertBatch", batch.getValue().size());
                 }
+            }
 
+            for (T entity : entities) {
                 saveRelationships(entity);
             }
-
-            return entity;
         } catch (SQLException | IllegalAccessException e) {
-            throw new RuntimeException("Error inserting entity", e);
+            throw new RuntimeException("Error inserting entities", e);
+        }
+    }
+
+    private void assignGeneratedId(T entity) throws IllegalAccessException {
+        if (idGenerator.isPresent()) {
+            idField.setAccessible(true);
+            if (idField.get(entity) == null) {
+                idField.set(entity, idGenerator.get().nextId());
+            }
+        }
+    }
+
+    private void bindInsertParameters(PreparedStatement statement, T entity) throws SQLException, IllegalAccessException {
+        int paramIndex = 1;
+
+        for (int i = 0; i < fields.size(); i++) {
+            Field field = fields.get(i);
+            field.setAccessible(true);
+
+            if (typeHandlers[i] != null) {
+                if (field.getType().isPrimitive()) {
+                    typeHandlers[i].bindField(statement, paramIndex++, field, entity);
+                } else {
+                    Object value = field.get(entity);
+                    if (value != null) {
+                        typeHandlers[i].bind(statement, paramIndex++, value);
+                    }
+                }
+            } else if (SQLAnnotationsHelper.hasOneToOneAnnotation(field) || field.isAnnotationPresent(ManyToOne.class)) {
+                Object value = field.get(entity);
+                if (value != null) {
+                    Field idField = SQLGenerator.getIdField(value.getClass());
+                    idField.setAccessible(true);
+                    Object idValue = idField.get(value);
+
+                    if (idValue != null) {
+                        statement.setObject(paramIndex++, idValue);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A lazily loaded {@code @Lob} that was never read is bound as null, which keeps the stored value, instead of
+     * being streamed back to the database.
+     */
+    private boolean isUnreadLob(Field field, T entity) throws IllegalAccessException {
+        if (!field.isAnnotationPresent(Lob.class)) {
+            return false;
         }
+
+        Object value = field.get(entity);
+        return value instanceof LazyBinaryStream binaryStream && !binaryStream.isOpened() ||
+                value instanceof LazyCharacterStream characterStream && !characterStream.isOpened();
     }
 
+    /**
+     * Null fields are bound into {@code COALESCE(?, column)} and keep the stored value, so clearing a column to NULL
+     * is not possible here.
+     */
     private T update(T entity) {
         Connection connection = databaseConnector.getConnection();
-        String sql = SQLGenerator.generateUpdateSQL(tableName, fields, idField);
+        String sql = updateSQL;
 
         try (PreparedStatement statement = connection.prepareStatement(sql)) {
-            T dbEntity = findById((ID) idField.get(entity)).orElseThrow();
+            ID id = (ID) idMapping.getId(entity);
             int paramIndex = 1;
 
-            for (Field field : fields) {
-                if (!field.equals(idField)) {
+            for (int i = 0; i < fields.size(); i++) {
+                Field field = fields.get(i);
+                if (!idMapping.getIdFields().contains(field) && !field.equals(versionField)) {
                     field.setAccessible(true);
-                    Object value = field.get(entity);
-                    Object dbValue = field.get(dbEntity);
 
-                    if (value != null) {
-                        if (SQLAnnotationsHelper.hasForeignTableAnnotation(field)) {
-                            if (SQLAnnotationsHelper.hasOneToOneAnnotation(field) || field.isAnnotationPresent(ManyToOne.class)) {
-                                Field idField = SQLGenerator.getIdField(value.getClass());
-                                idField.setAccessible(true);
-                                Object idValue = idField.get(value);
-
-                                if (idValue != null) {
-                                    statement.setObject(paramIndex++, idValue);
-                                }
-                            }
-                        } else if (!SQLAnnotationsHelper.hasOneToManyAnnotation(field)) {
-                            statement.setObject(paramIndex++, value);
-                        }
-                    } else if (dbValue != null) {
-                        if (SQLAnnotationsHelper.hasForeignTableAnnotation(field)) {
-                            if (SQLAnnotationsHelper.hasOneToOneAnnotation(field) || field.isAnnotationPresent(ManyToOne.class)) {
-                                Field idField = SQLGenerator.getIdField(dbValue.getClass());
-                                idField.setAccessible(true);
-                                Object idValue = idField.get(dbValue);
-
-                                if (idValue != null) {
-                                    statement.setObject(paramIndex++, idValue);
-                                }
-                            }
-                        } else if (!SQLAnnotationsHelper.hasOneToManyAnnotation(field)) {
-                            statement.setObject(paramIndex++, dbValue);
-                        }
+                    if (typeHandlers[i] != null && isUnreadLob(field, entity)) {
+                        typeHandlers[i].bind(statement, paramIndex++, null);
+                    } else if (typeHandlers[i] != null) {
+                        typeHandlers[i].bindField(statement, paramIndex++, field, entity);
+                    } else if (SQLAnnotationsHelper.hasOneToOneAnnotation(field) || field.isAnnotationPresent(ManyToOne.class)) {
+                        Object value = field.get(entity);
+                        statement.setObject(paramIndex++, value != null ? getReferencedId(value) : null);
                     }
                 }
             }
 
-            idField.setAccessible(true);
-            statement.setObject(paramIndex, idField.get(entity));
+            paramIndex = idMapping.bind(statement, paramIndex, id);
 
-            statement.executeUpdate();
+            Object version = null;
+            if (versionField != null) {
+                version = versionField.get(entity);
+                if (version == null) {
+                    throw new IllegalArgumentException("Version of entity " + entityClass.getName() + " must not be null on update");
+                }
+                statement.setObject(paramIndex, version);
+            }
+
+            OrmFlushEvent flushEvent = new OrmFlushEvent();
+            flushEvent.begin();
+            int rowsAffected = statement.executeUpdate();
+            recordWrite(flushEvent, "update", rowsAffected);
+
+            if (versionField != null) {
+                if (rowsAffected == 0) {
+                    throw new OptimisticLockException("Entity " + entityClass.getName() + " with id " + id +
+                            " was updated or deleted by another transaction");
+                }
+                versionField.set(entity, incrementVersion(version));
+            }
 
             saveRelationships(entity);
 
             return entity;
-        } catch (SQLException | IllegalAccessException e) {
+        } catch (SQLException | ReflectiveOperationException e) {
             throw new RuntimeException("Error updating entity", e);
         }
     }
 
+    /**
+     * A versioned entity with a version has been loaded from or written to the database, so it is updated without
+     * an existence check; a concurrent delete then surfaces as an {@link OptimisticLockException}.
+     */
+    private boolean hasVersion(T entity) throws IllegalAccessException {
+        return versionField != null && versionField.get(entity) != null;
+    }
+
+    private Object getReferencedId(Object value) throws IllegalAccessException {
+        Field referencedIdField = SQLGenerator.getIdField(value.getClass());
+        referencedIdField.setAccessible(true);
+
+        return referencedIdField.get(value);
+    }
+
+    private void initializeVersion(T entity) throws IllegalAccessException {
+        if (versionField != null && versionField.get(entity) == null) {
+            versionField.set(entity, incrementVersion(null));
+        }
+    }
+
+    private Object incrementVersion(Object version) {
+        Class<?> type = versionField.getType();
+
+        if (type == Long.class || type == long.class) {
+            return version == null ? 0L : (Long) version + 1;
+        } else if (type == Integer.class || type == int.class) {
+            return version == null ? 0 : (Integer) version + 1;
+        }
+
+        throw new IllegalStateException("Unsupported @Version type " + type.getName() + " in " + entityClass.getName());
+    }
+
     private void saveRelationships(T entity) throws IllegalAccessException {
         for (Field field : fields) {
             field.setAccessible(true);
@@ -370,9 +552,10 @@ public class CrudRepositoryImpl<T, ID> implements CrudRepository<T, ID> {
                 deleteStatement.setObject(1, entityId);
                 deleteStatement.executeUpdate();
             } catch (SQLException e) {
-                logger.warning("Error clearing existing relationships: " + e.getMessage());
+                log.warn("Error clearing existing relationships", e);
             }
 
+            Set<Object> targetIds = new LinkedHashSet<>();
             for (Object targetEntity : (Collection<?>) value) {
                 saveMethod.invoke(targetRepository, targetEntity);
 
@@ -381,17 +564,25 @@ public class CrudRepositoryImpl<T, ID> implements CrudRepository<T, ID> {
                 Object targetId = targetIdField.get(targetEntity);
 
                 if (targetId != null) {
-                    String insertSQL = "INSERT INTO " + junctionTableName +
-                                      " (" + entityTableName.toLowerCase() + "_id, " + 
-                                      targetTableName.toLowerCase() + "_id) VALUES (?, ?)";
+                    targetIds.add(targetId);
+                }
+            }
 
-                    try (PreparedStatement insertStatement = connection.prepareStatement(insertSQL)) {
+            if (!targetIds.isEmpty()) {
+                List<String> junctionColumns = List.of(entityTableName.toLowerCase() + "_id",
+                        targetTableName.toLowerCase() + "_id");
+                String insertSQL = ORMConfiguration.getInstance().getDialect()
+                        .upsert(junctionTableName, junctionColumns, junctionColumns);
+
+                try (PreparedStatement insertStatement = connection.prepareStatement(insertSQL)) {
+                    for (Object targetId : targetIds) {
                         insertStatement.setObject(1, entityId);
                         insertStatement.setObject(2, targetId);
-                        insertStatement.executeUpdate();
-                    } catch (SQLException e) {
-                        throw new RuntimeException("Error inserting into junction table", e);
+                        insertStatement.addBatch();
                     }
+                    insertStatement.executeBatch();
+                } catch (SQLException e) {
+                    throw new RuntimeException("Error inserting into junction table", e);
                 }
             }
         } catch (NoSuchMethodException | InstantiationException | InvocationTargetException e) {
@@ -403,129 +594,688 @@ public class CrudRepositoryImpl<T, ID> implements CrudRepository<T, ID> {
 
     @Override
     public List<T> saveAll(Iterable<T> entities) {
-        if (entities == null) {
-            throw new IllegalArgumentException("Entities must not be null");
-        }
+        long start = beginOperation("saveAll");
+        databaseConnector.recordWrite();
+        try {
+            if (entities == null) {
+                throw new IllegalArgumentException("Entities must not be null");
+            }
 
-        List<T> result = new ArrayList<>();
-        for (T entity : entities) {
-            result.add(save(entity));
+            if (idGenerator.isEmpty()) {
+                List<T> result = new ArrayList<>();
+                for (T entity : entities) {
+                    result.add(save(entity));
+                }
+                return result;
+            }
+
+            List<T> result = new ArrayList<>();
+            List<T> newEntities = new ArrayList<>();
+            try {
+                idField.setAccessible(true);
+                for (T entity : entities) {
+                    if (entity == null) {
+                        throw new IllegalArgumentException("Entity must not be null");
+                    }
+                    if (idField.get(entity) == null) {
+                        newEntities.add(entity);
+                    } else {
+                        save(entity);
+                    }
+                    result.add(entity);
+                }
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException("Error accessing ID field", e);
+            }
+
+            if (!newEntities.isEmpty()) {
+                insertBatch(newEntities);
+            }
+            if (PROCESSED_ENTITIES.get().isEmpty()) {
+                PROCESSED_ENTITIES.remove();
+            }
+
+            return result;
+        } finally {
+            endOperation("saveAll", start);
         }
-        return result;
     }
 
     @Override
     public Optional<T> findById(ID id) {
-        if (id == null) {
-            throw new IllegalArgumentException("ID must not be null");
-        }
+        long start = beginOperation("findById");
+        boolean replicaRead = databaseConnector.beginReplicaRead();
+        try {
+            if (id == null) {
+                throw new IllegalArgumentException("ID must not be null");
+            }
 
-        Connection connection = databaseConnector.getConnection();
-        String sql = SQLGenerator.generateSelectByIdSQL(tableName, fields, idField);
+            Connection connection = databaseConnector.getConnection();
+            String sql = selectByIdSQL;
 
-        try (PreparedStatement statement = connection.prepareStatement(sql)) {
-            statement.setObject(1, id);
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                idMapping.bind(statement, 1, id);
 
-            ResultSet resultSet = statement.executeQuery();
+                ResultSet resultSet = statement.executeQuery();
 
-            if (resultSet.next()) {
-                T entity = createEntityFromResultSet(resultSet);
-                loadRelationships(entity);
-                return Optional.of(entity);
-            } else {
-                return Optional.empty();
+                if (resultSet.next()) {
+                    T entity = createEntityFromResultSet(resultSet);
+                    loadRelationships(entity);
+                    return Optional.of(entity);
+                } else {
+                    return Optional.empty();
+                }
+            } catch (SQLException | ReflectiveOperationException e) {
+                throw new RuntimeException("Error finding entity by ID", e);
             }
-        } catch (SQLException | ReflectiveOperationException e) {
-            throw new RuntimeException("Error finding entity by ID", e);
+        } finally {
+            if (replicaRead) {
+                databaseConnector.endReplicaRead();
+            }
+            endOperation("findById", start);
         }
     }
 
     @Override
     public boolean existsById(ID id) {
-        if (id == null) {
-            throw new IllegalArgumentException("ID must not be null");
+        long start = beginOperation("existsById");
+        boolean replicaRead = databaseConnector.beginReplicaRead();
+        try {
+            if (id == null) {
+                throw new IllegalArgumentException("ID must not be null");
+            }
+
+            Connection connection = databaseConnector.getConnection();
+            String sql = existsByIdSQL;
+
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                idMapping.bind(statement, 1, id);
+
+                ResultSet resultSet = statement.executeQuery();
+                return resultSet.next();
+            } catch (SQLException e) {
+                throw new RuntimeException("Error checking if entity exists", e);
+            }
+        } finally {
+            if (replicaRead) {
+                databaseConnector.endReplicaRead();
+            }
+            endOperation("existsById", start);
+        }
+    }
+
+    @Override
+    public Optional<T> findByIdForUpdate(ID id) {
+        return findByIdLocked(id, LockMode.WAIT);
+    }
+
+    @Override
+    public Optional<T> findByIdForUpdateNoWait(ID id) {
+        return findByIdLocked(id, LockMode.NOWAIT);
+    }
+
+    /**
+     * With {@code skipLocked} concurrent workers claim disjoint rows instead of waiting for each other,
+     * which turns the table into a work queue.
+     */
+    @Override
+    public List<T> findAllForUpdate(int limit, boolean skipLocked) {
+        return findAllLocked(limit, skipLocked ? LockMode.SKIP_LOCKED : LockMode.WAIT);
+    }
+
+    @Override
+    public List<T> findAllForUpdateNoWait(int limit) {
+        return findAllLocked(limit, LockMode.NOWAIT);
+    }
+
+    private Optional<T> findByIdLocked(ID id, LockMode lockMode) {
+        long start = beginOperation("findByIdForUpdate");
+        try {
+            if (id == null) {
+                throw new IllegalArgumentException("ID must not be null");
+            }
+            requireTransaction();
+
+            SQLDialect dialect = ORMConfiguration.getInstance().getDialect();
+            Connection connection = databaseConnector.getConnection();
+            String sql = SQLGenerator.generateSelectByIdForUpdateSQL(tableName, fields, idMapping.getIdFields(),
+                    dialect.forUpdate(lockMode));
+
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                idMapping.bind(statement, 1, id);
+
+                ResultSet resultSet = statement.executeQuery();
+
+                if (resultSet.next()) {
+                    T entity = createEntityFromResultSet(resultSet);
+                    loadRelationships(entity);
+                    return Optional.of(entity);
+                } else {
+                    return Optional.empty();
+                }
+            } catch (SQLException e) {
+                throw translateLockException(dialect, e, "Error locking entity by ID");
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException("Error locking entity by ID", e);
+            }
+        } finally {
+            endOperation("findByIdForUpdate", start);
         }
+    }
 
-        Connection connection = databaseConnector.getConnection();
-        String sql = "SELECT 1 FROM " + tableName + " WHERE " + 
-                     new SQLNamesHelper(entityClass.getName()).getColumnName(idField, "") + " = ?";
+    private List<T> findAllLocked(int limit, LockMode lockMode) {
+        long start = beginOperation("findAllForUpdate");
+        try {
+            if (limit < 1) {
+                throw new IllegalArgumentException("Limit must be greater than zero");
+            }
+            requireTransaction();
 
-        try (PreparedStatement statement = connection.prepareStatement(sql)) {
-            statement.setObject(1, id);
+            SQLDialect dialect = ORMConfiguration.getInstance().getDialect();
+            Connection connection = databaseConnector.getConnection();
+            String sql = SQLGenerator.generateSelectForUpdateSQL(tableName, fields, idColumnName, dialect.limit(),
+                    dialect.forUpdate(lockMode));
 
-            ResultSet resultSet = statement.executeQuery();
-            return resultSet.next();
-        } catch (SQLException e) {
-            throw new RuntimeException("Error checking if entity exists", e);
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setInt(1, limit);
+
+                ResultSet resultSet = statement.executeQuery();
+
+                List<T> result = new ArrayList<>();
+                while (resultSet.next()) {
+                    T entity = createEntityFromResultSet(resultSet);
+                    loadRelationships(entity);
+                    result.add(entity);
+                }
+
+                return result;
+            } catch (SQLException e) {
+                throw translateLockException(dialect, e, "Error locking entities");
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException("Error locking entities", e);
+            }
+        } finally {
+            endOperation("findAllForUpdate", start);
         }
     }
 
+    private void requireTransaction() {
+        if (!databaseConnector.isInTransaction()) {
+            throw new IllegalStateException("Row locks require an active transaction, use TransactionManager.execute");
+        }
+    }
+
+    private RuntimeException translateLockException(SQLDialect dialect, SQLException e, String message) {
+        if (dialect.isLockNotAvailable(e)) {
+            return new PessimisticLockException("Rows of " + tableName + " are locked by another transaction", e);
+        }
+
+        return new RuntimeException(message, e);
+    }
+
     @Override
     public List<T> findAll() {
-        Connection connection = databaseConnector.getConnection();
-        String sql = SQLGenerator.generateSelectSQL(tableName, fields);
+        long start = beginOperation("findAll");
+        boolean replicaRead = databaseConnector.beginReplicaRead();
+        try {
+            Connection connection = databaseConnector.getConnection();
+            String sql = selectSQL;
 
-        try (PreparedStatement statement = connection.prepareStatement(sql)) {
-            ResultSet resultSet = statement.executeQuery();
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                ResultSet resultSet = statement.executeQuery();
 
-            List<T> result = new ArrayList<>();
-            while (resultSet.next()) {
-                T entity = createEntityFromResultSet(resultSet);
-                loadRelationships(entity);
-                result.add(entity);
+                List<T> result = new ArrayList<>();
+                while (resultSet.next()) {
+                    T entity = createEntityFromResultSet(resultSet);
+                    loadRelationships(entity);
+                    result.add(entity);
+                }
+
+                return result;
+            } catch (SQLException | ReflectiveOperationException e) {
+                throw new RuntimeException("Error finding all entities", e);
+            }
+        } finally {
+            if (replicaRead) {
+                databaseConnector.endReplicaRead();
             }
+            endOperation("findAll", start);
+        }
+    }
 
-            return result;
-        } catch (SQLException | ReflectiveOperationException e) {
-            throw new RuntimeException("Error finding all entities", e);
+    @Override
+    public <P> List<P> findAll(Class<P> projectionClass) {
+        long start = beginOperation("findAllProjections");
+        boolean replicaRead = databaseConnector.beginReplicaRead();
+        try {
+            if (projectionClass == null) {
+                throw new IllegalArgumentException("Projection class must not be null");
+            }
+
+            ProjectionMapping<P> projectionMapping = ProjectionMapping.of(entityClass, projectionClass);
+            Connection connection = databaseConnector.getConnection();
+            String sql = SQLGenerator.generateSelectColumnsSQL(tableName, projectionMapping.getColumnNames());
+
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                ResultSet resultSet = statement.executeQuery();
+
+                List<P> result = new ArrayList<>();
+                while (resultSet.next()) {
+                    result.add(projectionMapping.map(resultSet));
+                }
+                metrics().recordRowsRead(entityClass, result.size());
+
+                return result;
+            } catch (SQLException | ReflectiveOperationException e) {
+                throw new RuntimeException("Error finding all projections", e);
+            }
+        } finally {
+            if (replicaRead) {
+                databaseConnector.endReplicaRead();
+            }
+            endOperation("findAllProjections", start);
         }
     }
 
     @Override
-    public List<T> findAllById(Iterable<ID> ids) {
-        if (ids == null) {
-            throw new IllegalArgumentException("IDs must not be null");
+    public Flow.Publisher<T> publishAll() {
+        return new ResultSetPublisher<>(selectSQL, new Object[0], this::createEntityFromResultSet);
+    }
+
+    @Override
+    public Flow.Publisher<T> publishQuery(String whereClause, Object... parameters) {
+        if (whereClause == null || whereClause.isBlank()) {
+            throw new IllegalArgumentException("Where clause must not be empty");
         }
 
-        List<T> result = new ArrayList<>();
-        for (ID id : ids) {
-            findById(id).ifPresent(result::add);
+        return new ResultSetPublisher<>(selectSQL + " WHERE " + whereClause, parameters, this::createEntityFromResultSet);
+    }
+
+    @Override
+    public Page<T> findPage(Pageable pageable) {
+        long start = beginOperation("findPage");
+        boolean replicaRead = databaseConnector.beginReplicaRead();
+        try {
+            if (pageable == null) {
+                throw new IllegalArgumentException("Pageable must not be null");
+            }
+
+            Field sortField = getSortField(pageable.sort());
+            String sortColumnName = new SQLNamesHelper(entityClass.getName()).getColumnName(sortField, "");
+
+            Connection connection = databaseConnector.getConnection();
+            String sql = SQLGenerator.generateSelectPageSQL(tableName, fields, sortColumnName, idColumnName,
+                    pageable.sort().isAscending(), ORMConfiguration.getInstance().getDialect().limitOffset());
+
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setInt(1, pageable.size());
+                statement.setLong(2, pageable.offset());
+
+                ResultSet resultSet = statement.executeQuery();
+
+                List<T> result = new ArrayList<>();
+                while (resultSet.next()) {
+                    T entity = createEntityFromResultSet(resultSet);
+                    loadRelationships(entity);
+                    result.add(entity);
+                }
+
+                long totalElements;
+                if (result.size() < pageable.size() && (!result.isEmpty() || pageable.page() == 0)) {
+                    totalElements = pageable.offset() + result.size();
+                } else {
+                    totalElements = count();
+                }
+
+                return new Page<>(result, pageable, totalElements);
+            } catch (SQLException | ReflectiveOperationException e) {
+                throw new RuntimeException("Error finding page of entities", e);
+            }
+        } finally {
+            if (replicaRead) {
+                databaseConnector.endReplicaRead();
+            }
+            endOperation("findPage", start);
         }
-        return result;
     }
 
     @Override
-    public long count() {
+    public Slice<T> findAfter(Object lastKey, int size, Sort sort) {
+        long start = beginOperation("findAfter");
+        boolean replicaRead = databaseConnector.beginReplicaRead();
+        try {
+            if (size < 1) {
+                throw new IllegalArgumentException("Size must be greater than zero");
+            }
+            if (sort == null) {
+                sort = Sort.unsorted();
+            }
+
+            Field sortField = getSortField(sort);
+            String sortColumnName = new SQLNamesHelper(entityClass.getName()).getColumnName(sortField, "");
+
+            Connection connection = databaseConnector.getConnection();
+            String sql = SQLGenerator.generateSelectAfterSQL(tableName, fields, sortColumnName, idColumnName,
+                    sort.isAscending(), lastKey != null, ORMConfiguration.getInstance().getDialect().limit());
+
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                int paramIndex = 1;
+
+                if (lastKey != null) {
+                    paramIndex = bindKeysetValues(statement, paramIndex, lastKey, sortField);
+                }
+                statement.setInt(paramIndex, size + 1);
+
+                ResultSet resultSet = statement.executeQuery();
+
+                List<T> result = new ArrayList<>();
+                boolean hasNext = false;
+                while (resultSet.next()) {
+                    if (result.size() == size) {
+                        hasNext = true;
+                        break;
+                    }
+
+                    T entity = createEntityFromResultSet(resultSet);
+                    loadRelationships(entity);
+                    result.add(entity);
+                }
+
+                return new Slice<>(result, size, sort, hasNext);
+            } catch (SQLException | ReflectiveOperationException e) {
+                throw new RuntimeException("Error finding entities after key", e);
+            }
+        } finally {
+            if (replicaRead) {
+                databaseConnector.endReplicaRead();
+            }
+            endOperation("findAfter", start);
+        }
+    }
+
+    /**
+     * Uses a half-open range, which lines up with the bounds of range partitions, so PostgreSQL can prune
+     * partitions when the property is the partition key.
+     */
+    @Override
+    public List<T> findAllInRange(String property, Object fromInclusive, Object toExclusive) {
+        long start = beginOperation("findAllInRange");
+        boolean replicaRead = databaseConnector.beginReplicaRead();
+        try {
+            if (fromInclusive == null || toExclusive == null) {
+                throw new IllegalArgumentException("Range bounds must not be null");
+            }
+
+            Field field = getPropertyField(property);
+            String columnName = new SQLNamesHelper(entityClass.getName()).getColumnName(field, "");
+            Connection connection = databaseConnector.getConnection();
+            String sql = SQLGenerator.generateSelectRangeSQL(tableName, fields, columnName);
+
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setObject(1, fromInclusive);
+                statement.setObject(2, toExclusive);
+
+                ResultSet resultSet = statement.executeQuery();
+
+                List<T> result = new ArrayList<>();
+                while (resultSet.next()) {
+                    T entity = createEntityFromResultSet(resultSet);
+                    loadRelationships(entity);
+                    result.add(entity);
+                }
+
+                return result;
+            } catch (SQLException | ReflectiveOperationException e) {
+                throw new RuntimeException("Error finding entities in range", e);
+            }
+        } finally {
+            if (replicaRead) {
+                databaseConnector.endReplicaRead();
+            }
+            endOperation("findAllInRange", start);
+        }
+    }
+
+    /**
+     * Matches the text at a dotted path inside a {@code @Json} property, like {@code data ->> 'key'} on PostgreSQL.
+     */
+    @Override
+    public List<T> findAllByJsonPath(String property, String path, String value) {
+        long start = beginOperation("findAllByJsonPath");
+        boolean replicaRead = databaseConnector.beginReplicaRead();
+        try {
+            Field field = getPropertyField(property);
+            if (!field.isAnnotationPresent(Json.class)) {
+                throw new IllegalArgumentException("Property " + property + " is not annotated with @Json");
+            }
+
+            SQLDialect dialect = ORMConfiguration.getInstance().getDialect();
+            if (!dialect.supportsJsonPathQueries()) {
+                throw new UnsupportedOperationException(dialect.getClass().getSimpleName() + " does not support JSON path queries");
+            }
+
+            List<String> keys = JsonDocument.splitPath(path);
+            String columnName = new SQLNamesHelper(entityClass.getName()).getColumnName(field, "");
+            Connection connection = databaseConnector.getConnection();
+            String sql = SQLGenerator.generateSelectWhereSQL(tableName, fields,
+                    dialect.jsonPathCondition(columnName, keys.size()));
+
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                int index = 1;
+                for (String parameter : dialect.jsonPathParameters(keys)) {
+                    statement.setString(index++, parameter);
+                }
+                statement.setString(index, value);
+
+                ResultSet resultSet = statement.executeQuery();
+
+                List<T> result = new ArrayList<>();
+                while (resultSet.next()) {
+                    T entity = createEntityFromResultSet(resultSet);
+                    loadRelationships(entity);
+                    result.add(entity);
+                }
+
+                return result;
+            } catch (SQLException | ReflectiveOperationException e) {
+                throw new RuntimeException("Error finding entities by JSON path", e);
+            }
+        } finally {
+            if (replicaRead) {
+                databaseConnector.endReplicaRead();
+            }
+            endOperation("findAllByJsonPath", start);
+        }
+    }
+
+    private Field getSortField(Sort sort) {
+        if (sort.isUnsorted()) {
+            return idField;
+        }
+
+        return getPropertyField(sort.property());
+    }
+
+    private Field getPropertyField(String property) {
+        for (Field field : fields) {
+            if (field.getName().equals(property)) {
+                if (SQLAnnotationsHelper.hasForeignTableAnnotation(field) || SQLAnnotationsHelper.hasOneToManyAnnotation(field)) {
+                    throw new IllegalArgumentException("Cannot query by relationship field: " + property);
+                }
+                return field;
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown property " + property + " for entity " + entityClass.getName());
+    }
+
+    /**
+     * Binds the sort value and id of {@code lastKey} the way the columns are written, so converted types such as
+     * enums compare against their stored form. Returns the next parameter index.
+     */
+    private int bindKeysetValues(PreparedStatement statement, int paramIndex, Object lastKey, Field sortField)
+            throws SQLException, IllegalAccessException {
+        if (entityClass.isInstance(lastKey)) {
+            idField.setAccessible(true);
+            sortField.setAccessible(true);
+            Object idValue = idField.get(lastKey);
+
+            if (idValue == null) {
+                throw new IllegalArgumentException("Last key entity must have an ID");
+            }
+            if (!sortField.equals(idField)) {
+                Object sortValue = sortField.get(lastKey);
+                if (sortValue == null) {
+                    throw new IllegalArgumentException("Last key entity must have a value of " + sortField.getName());
+                }
+                bindKeysetValue(statement, paramIndex++, sortField, sortValue);
+            }
+            bindKeysetValue(statement, paramIndex++, idField, idValue);
+            return paramIndex;
+        }
+
+        if (sortField.equals(idField)) {
+            bindKeysetValue(statement, paramIndex++, idField, lastKey);
+            return paramIndex;
+        }
+
+        throw new IllegalArgumentException("Last key must be an entity of type " + entityClass.getName() +
+                " when sorting by " + sortField.getName());
+    }
+
+    private void bindKeysetValue(PreparedStatement statement, int index, Field field, Object value) throws SQLException {
+        TypeHandler typeHandler = typeHandlers[fields.indexOf(field)];
+        if (typeHandler != null) {
+            typeHandler.bind(statement, index, value);
+        } else {
+            statement.setObject(index, value);
+        }
+    }
+
+    @Override
+    public List<T> findAllById(Iterable<ID> ids) {
+        long start = beginOperation("findAllById");
+        boolean replicaRead = databaseConnector.beginReplicaRead();
+        try {
+            if (ids == null) {
+                throw new IllegalArgumentException("IDs must not be null");
+            }
+
+            List<ID> idList = new ArrayList<>();
+            ids.forEach(idList::add);
+            if (idList.isEmpty()) {
+                return new ArrayList<>();
+            }
+
+            if (idMapping.isComposite()) {
+                List<T> result = new ArrayList<>();
+                for (ID id : idList) {
+                    findById(id).ifPresent(result::add);
+                }
+                return result;
+            }
+
+            Map<Object, T> entitiesById = findAllByIdInOneQuery(new ArrayList<>(new LinkedHashSet<>(idList)));
+            List<T> result = new ArrayList<>();
+            for (ID id : idList) {
+                T entity = entitiesById.get(id);
+                if (entity != null) {
+                    result.add(entity);
+                }
+            }
+            return result;
+        } finally {
+            if (replicaRead) {
+                databaseConnector.endReplicaRead();
+            }
+            endOperation("findAllById", start);
+        }
+    }
+
+    /**
+     * Loads the entities with one statement, binding the ids as an array where the dialect supports it and as
+     * an IN list otherwise.
+     */
+    private Map<Object, T> findAllByIdInOneQuery(List<ID> ids) {
+        SQLDialect dialect = ORMConfiguration.getInstance().getDialect();
         Connection connection = databaseConnector.getConnection();
-        String sql = SQLGenerator.generateCountSQL(tableName);
+        String sql = SQLGenerator.generateSelectWhereSQL(tableName, fields, dialect.inCondition(idColumnName, ids.size()));
 
         try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            if (dialect.supportsArrayParameters()) {
+                statement.setArray(1, connection.createArrayOf(dialect.arrayElementType(idField.getType()), ids.toArray()));
+            } else {
+                int paramIndex = 1;
+                for (ID id : ids) {
+                    statement.setObject(paramIndex++, id);
+                }
+            }
+
             ResultSet resultSet = statement.executeQuery();
 
-            if (resultSet.next()) {
-                return resultSet.getLong(1);
-            } else {
-                return 0;
+            Map<Object, T> entitiesById = new LinkedHashMap<>();
+            idField.setAccessible(true);
+            while (resultSet.next()) {
+                T entity = createEntityFromResultSet(resultSet);
+                loadRelationships(entity);
+                entitiesById.put(idField.get(entity), entity);
             }
-        } catch (SQLException e) {
-            throw new RuntimeException("Error counting entities", e);
+
+            return entitiesById;
+        } catch (SQLException | ReflectiveOperationException | UnknownTypeException e) {
+            throw new RuntimeException("Error finding entities by IDs", e);
         }
     }
 
     @Override
-    public void deleteById(ID id) {
-        if (id == null) {
-            throw new IllegalArgumentException("ID must not be null");
+    public long count() {
+        long start = beginOperation("count");
+        boolean replicaRead = databaseConnector.beginReplicaRead();
+        try {
+            Connection connection = databaseConnector.getConnection();
+            String sql = countSQL;
+
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                ResultSet resultSet = statement.executeQuery();
+
+                if (resultSet.next()) {
+                    return resultSet.getLong(1);
+                } else {
+                    return 0;
+                }
+            } catch (SQLException e) {
+                throw new RuntimeException("Error counting entities", e);
+            }
+        } finally {
+            if (replicaRead) {
+                databaseConnector.endReplicaRead();
+            }
+            endOperation("count", start);
         }
+    }
 
-        Connection connection = databaseConnector.getConnection();
-        String sql = SQLGenerator.generateDeleteSQL(tableName, idField);
+    @Override
+    public void deleteById(ID id) {
+        long start = beginOperation("deleteById");
+        databaseConnector.recordWrite();
+        try {
+            if (id == null) {
+                throw new IllegalArgumentException("ID must not be null");
+            }
 
-        try (PreparedStatement statement = connection.prepareStatement(sql)) {
-            statement.setObject(1, id);
-            statement.executeUpdate();
-        } catch (SQLException e) {
-            throw new RuntimeException("Error deleting entity by ID", e);
+            Connection connection = databaseConnector.getConnection();
+            String sql = deleteByIdSQL;
+
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                idMapping.bind(statement, 1, id);
+                OrmFlushEvent flushEvent = new OrmFlushEvent();
+                flushEvent.begin();
+                recordWrite(flushEvent, "delete", statement.executeUpdate());
+            } catch (SQLException e) {
+                throw new RuntimeException("Error deleting entity by ID", e);
+            }
+        } finally {
+            endOperation("deleteById", start);
         }
     }
 
@@ -536,13 +1286,12 @@ public class CrudRepositoryImpl<T, ID> implements CrudRepository<T, ID> {
         }
 
         try {
-            idField.setAccessible(true);
-            ID id = (ID) idField.get(entity);
+            ID id = (ID) idMapping.getId(entity);
 
             if (id != null) {
                 deleteById(id);
             }
-        } catch (IllegalAccessException e) {
+        } catch (ReflectiveOperationException e) {
             throw new RuntimeException("Error accessing ID field", e);
         }
     }
@@ -571,56 +1320,72 @@ public class CrudRepositoryImpl<T, ID> implements CrudRepository<T, ID> {
 
     @Override
     public void deleteAll() {
-        Connection connection = databaseConnector.getConnection();
-        String sql = SQLGenerator.generateDeleteAllSQL(tableName);
+        long start = beginOperation("deleteAll");
+        databaseConnector.recordWrite();
+        try {
+            Connection connection = databaseConnector.getConnection();
+            String sql = SQLGenerator.generateDeleteAllSQL(tableName);
 
-        try (PreparedStatement statement = connection.prepareStatement(sql)) {
-            statement.executeUpdate();
-        } catch (SQLException e) {
-            throw new RuntimeException("Error deleting all entities", e);
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                OrmFlushEvent flushEvent = new OrmFlushEvent();
+                flushEvent.begin();
+                recordWrite(flushEvent, "deleteAll", statement.executeUpdate());
+            } catch (SQLException e) {
+                throw new RuntimeException("Error deleting all entities", e);
+            }
+        } finally {
+            endOperation("deleteAll", start);
         }
     }
 
-    private T createEntityFromResultSet(ResultSet resultSet) throws SQLException, ReflectiveOperationException {
-        Constructor<T> constructor = entityClass.getDeclaredConstructor();
-        constructor.setAccessible(true);
-        T entity = constructor.newInstance();
+    protected T createEntityFromResultSet(ResultSet resultSet) throws SQLException, ReflectiveOperationException {
+        OrmHydrationEvent event = new OrmHydrationEvent();
+        event.begin();
+        T entity = entityMapping.newInstance(resultSet);
+        event.complete(entityClass);
+        metrics().recordRowsRead(entityClass, 1);
+        return entity;
+    }
 
-        for (Field field : fields) {
-            if (!SQLAnnotationsHelper.hasForeignTableAnnotation(field) && !SQLAnnotationsHelper.hasOneToManyAnnotation(field)) {
-                field.setAccessible(true);
-                SQLNamesHelper sqlNamesHelper = new SQLNamesHelper(entityClass.getName());
-                String columnName = sqlNamesHelper.getColumnName(field, "");
-                Object value = resultSet.getObject(columnName);
+    private void recordWrite(OrmFlushEvent flushEvent, String operation, long rows) {
+        flushEvent.complete(entityClass, operation, rows);
+        metrics().recordRowsWritten(entityClass, rows);
+    }
 
-                if (value != null) {
-                    if (field.getType() == Double.class && value instanceof Float) {
-                        field.set(entity, ((Float) value).doubleValue());
-                    } else {
-                        field.set(entity, value);
-                    }
-                }
-            }
-        }
+    private OrmMetrics metrics() {
+        return ORMConfiguration.getInstance().getMetrics();
+    }
 
-        return entity;
+    private long beginOperation(String operation) {
+        QueryLog.getInstance().enter(getClass(), entityClass, operation);
+        return System.nanoTime();
+    }
+
+    private void endOperation(String operation, long start) {
+        metrics().recordOperation(entityClass, operation, System.nanoTime() - start);
+        QueryLog.getInstance().exit();
     }
 
     private void loadRelationships(T entity) throws IllegalAccessException {
-        for (Field field : fields) {
-            if (SQLAnnotationsHelper.hasForeignTableAnnotation(field)) {
-                field.setAccessible(true);
+        long start = beginOperation(QueryLog.LOAD_RELATIONSHIPS);
+        try {
+            for (Field field : fields) {
+                if (SQLAnnotationsHelper.hasForeignTableAnnotation(field)) {
+                    field.setAccessible(true);
 
-                if (field.isAnnotationPresent(OneToOne.class)) {
-                    loadOneToOneRelationship(entity, field);
-                } else if (field.isAnnotationPresent(OneToMany.class)) {
-                    loadOneToManyRelationship(entity, field);
-                } else if (field.isAnnotationPresent(ManyToOne.class)) {
-                    loadManyToOneRelationship(entity, field);
-                } else if (field.isAnnotationPresent(ManyToMany.class)) {
-                    loadManyToManyRelationship(entity, field);
+                    if (field.isAnnotationPresent(OneToOne.class)) {
+                        loadOneToOneRelationship(entity, field);
+                    } else if (field.isAnnotationPresent(OneToMany.class)) {
+                        loadOneToManyRelationship(entity, field);
+                    } else if (field.isAnnotationPresent(ManyToOne.class)) {
+                        loadManyToOneRelationship(entity, field);
+                    } else if (field.isAnnotationPresent(ManyToMany.class)) {
+                        loadManyToManyRelationship(entity, field);
+                    }
                 }
             }
+        } finally {
+            endOperation(QueryLog.LOAD_RELATIONSHIPS, start);
         }
     }
 
@@ -975,7 +1740,7 @@ public class CrudRepositoryImpl<T, ID> implements CrudRepository<T, ID> {
         }
 
         Connection connection = databaseConnector.getConnection();
-        String sql = SQLGenerator.generateSelectByIdSQL(tableName, fields, idField);
+        String sql = selectByIdSQL;
 
         try (PreparedStatement statement = connection.prepareStatement(sql)) {
             statement.setObject(1, id);
@@ -0,0 +1,165 @@
+package pl.kielce.tu.orm.repository.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pl.kielce.tu.orm.connector.DatabaseConnector;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Streams the rows of a query to a {@link Flow.Subscriber}. Every subscription reads on its own virtual thread
+ * from a server-side cursor (a pooled connection with auto-commit disabled) and only fetches rows that were
+ * requested; the fetch size follows the outstanding demand.
+ */
+class ResultSetPublisher<T> implements Flow.Publisher<T> {
+    private static final Logger log = LoggerFactory.getLogger(ResultSetPublisher.class);
+    private static final int MAX_FETCH_SIZE = 1000;
+
+    private final String sql;
+    private final Object[] parameters;
+    private final RowMapper<T> rowMapper;
+    private final DatabaseConnector databaseConnector;
+
+    ResultSetPublisher(String sql, Object[] parameters, RowMapper<T> rowMapper) {
+        this.sql = sql;
+        this.parameters = parameters != null ? parameters.clone() : new Object[0];
+        this.rowMapper = rowMapper;
+        this.databaseConnector = DatabaseConnector.getInstance();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber must not be null");
+        }
+
+        subscriber.onSubscribe(new CursorSubscription(subscriber));
+    }
+
+    @FunctionalInterface
+    interface RowMapper<T> {
+        T map(ResultSet resultSet) throws SQLException, ReflectiveOperationException;
+    }
+
+    private class CursorSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super T> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition demandAvailable = lock.newCondition();
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+
+        private CursorSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Requested number of rows must be positive, was " + n);
+                cancelled = true;
+            } else {
+                demand.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+
+            if (started.compareAndSet(false, true)) {
+                Thread.ofVirtual().name("orm-cursor").start(this::readRows);
+            }
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            signal();
+        }
+
+        private void signal() {
+            lock.lock();
+            try {
+                demandAvailable.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void readRows() {
+            if (invalidRequest != null) {
+                subscriber.onError(invalidRequest);
+                return;
+            }
+
+            Connection connection = null;
+            try {
+                connection = databaseConnector.acquireConnection();
+                connection.setAutoCommit(false);
+
+                try (PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                        ResultSet.CONCUR_READ_ONLY)) {
+                    statement.setFetchSize(getFetchSize());
+                    for (int i = 0; i < parameters.length; i++) {
+                        statement.setObject(i + 1, parameters[i]);
+                    }
+
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        emitRows(resultSet);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                subscriber.onError(e);
+            } catch (SQLException | ReflectiveOperationException | RuntimeException e) {
+                log.error("Error streaming rows for query {}", sql, e);
+                cancelled = true;
+                subscriber.onError(e);
+            } finally {
+                if (connection != null) {
+                    databaseConnector.releaseConnection(connection);
+                }
+            }
+        }
+
+        private void emitRows(ResultSet resultSet) throws SQLException, ReflectiveOperationException, InterruptedException {
+            while (awaitDemand()) {
+                resultSet.setFetchSize(getFetchSize());
+
+                if (!resultSet.next()) {
+                    subscriber.onComplete();
+                    return;
+                }
+
+                demand.decrementAndGet();
+                subscriber.onNext(rowMapper.map(resultSet));
+            }
+
+            if (invalidRequest != null) {
+                subscriber.onError(invalidRequest);
+            }
+        }
+
+        private boolean awaitDemand() throws InterruptedException {
+            lock.lock();
+            try {
+                while (demand.get() == 0 && !cancelled) {
+                    demandAvailable.await();
+                }
+                return !cancelled;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int getFetchSize() {
+            return (int) Math.max(1, Math.min(demand.get(), MAX_FETCH_SIZE));
+        }
+    }
+}
@@ -31,9 +31,20 @@ public class UserRepositoryImpl extends CrudRepositoryImpl<User, Long> implement
             throw new IllegalArgumentException("Name must not be null");
         }
 
+        DatabaseConnector databaseConnector = DatabaseConnector.getInstance();
+        boolean replicaRead = databaseConnector.beginReplicaRead();
+        try {
+            return findByName(databaseConnector.getConnection(), name);
+        } finally {
+            if (replicaRead) {
+                databaseConnector.endReplicaRead();
+            }
+        }
+    }
+
+    private List<User> findByName(Connection connection, String name) {
         Entity entityAnnotation = User.class.getAnnotation(Entity.class);
 
-        Connection connection = DatabaseConnector.getInstance().getConnection();
         String tableName = new SQLNamesHelper(User.class.getName()).getTableName(User.class, entityAnnotation.name());
 
         Field nameField = null;
@@ -67,21 +78,4 @@ public class UserRepositoryImpl extends CrudRepositoryImpl<User, Long> implement
             throw new RuntimeException("Error finding users by name", e);
         }
     }
-
-    private User createEntityFromResultSet(ResultSet resultSet) throws SQLException, ReflectiveOperationException {
-        User user = new User();
-
-        for (Field field : User.class.getDeclaredFields()) {
-            field.setAccessible(true);
-            SQLNamesHelper sqlNamesHelper = new SQLNamesHelper(User.class.getName());
-            String columnName = sqlNamesHelper.getColumnName(field, "");
-            Object value = resultSet.getObject(columnName);
-
-            if (value != null) {
-                field.set(user, value);
-            }
-        }
-
-        return user;
-    }
 }
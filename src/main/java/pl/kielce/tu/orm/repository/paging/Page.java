@@ -0,0 +1,26 @@
+package pl.kielce.tu.orm.repository.paging;
+
+import java.util.List;
+
+public record Page<T>(List<T> content, Pageable pageable, long totalElements) {
+
+    public Page {
+        content = List.copyOf(content);
+    }
+
+    public int totalPages() {
+        return (int) ((totalElements + pageable.size() - 1) / pageable.size());
+    }
+
+    public boolean hasNext() {
+        return pageable.offset() + content.size() < totalElements;
+    }
+
+    public boolean hasPrevious() {
+        return pageable.page() > 0;
+    }
+
+    public boolean isEmpty() {
+        return content.isEmpty();
+    }
+}
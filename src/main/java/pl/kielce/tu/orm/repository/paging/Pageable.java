@@ -0,0 +1,36 @@
+package pl.kielce.tu.orm.repository.paging;
+
+public record Pageable(int page, int size, Sort sort) {
+
+    public Pageable {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page index must not be negative");
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be greater than zero");
+        }
+        if (sort == null) {
+            sort = Sort.unsorted();
+        }
+    }
+
+    public static Pageable of(int page, int size) {
+        return new Pageable(page, size, Sort.unsorted());
+    }
+
+    public static Pageable of(int page, int size, Sort sort) {
+        return new Pageable(page, size, sort);
+    }
+
+    public long offset() {
+        return (long) page * size;
+    }
+
+    public Pageable next() {
+        return new Pageable(page + 1, size, sort);
+    }
+
+    public Pageable previous() {
+        return page == 0 ? this : new Pageable(page - 1, size, sort);
+    }
+}
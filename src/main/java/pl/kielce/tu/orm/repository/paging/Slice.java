@@ -0,0 +1,21 @@
+package pl.kielce.tu.orm.repository.paging;
+
+import java.util.List;
+
+/**
+ * Result of a keyset query. {@link #lastKey()} is the key for the next {@code findAfter} call.
+ */
+public record Slice<T>(List<T> content, int size, Sort sort, boolean hasNext) {
+
+    public Slice {
+        content = List.copyOf(content);
+    }
+
+    public T lastKey() {
+        return content.isEmpty() ? null : content.get(content.size() - 1);
+    }
+
+    public boolean isEmpty() {
+        return content.isEmpty();
+    }
+}
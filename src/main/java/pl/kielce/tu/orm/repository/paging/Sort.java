@@ -0,0 +1,50 @@
+package pl.kielce.tu.orm.repository.paging;
+
+/**
+ * Ordering by an entity field name. The id column is always appended as a tie-breaker,
+ * a {@code null} property orders by the id only.
+ */
+public record Sort(String property, Direction direction) {
+
+    public enum Direction {
+        ASC,
+        DESC
+    }
+
+    public Sort {
+        if (property != null && property.isBlank()) {
+            throw new IllegalArgumentException("Sort property must not be blank");
+        }
+        if (direction == null) {
+            direction = Direction.ASC;
+        }
+    }
+
+    public static Sort unsorted() {
+        return new Sort(null, Direction.ASC);
+    }
+
+    public static Sort by(String property) {
+        return new Sort(property, Direction.ASC);
+    }
+
+    public static Sort by(String property, Direction direction) {
+        return new Sort(property, direction);
+    }
+
+    public Sort ascending() {
+        return new Sort(property, Direction.ASC);
+    }
+
+    public Sort descending() {
+        return new Sort(property, Direction.DESC);
+    }
+
+    public boolean isAscending() {
+        return direction == Direction.ASC;
+    }
+
+    public boolean isUnsorted() {
+        return property == null;
+    }
+}
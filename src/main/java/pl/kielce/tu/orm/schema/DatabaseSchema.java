@@ -0,0 +1,102 @@
+package pl.kielce.tu.orm.schema;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pl.kielce.tu.orm.dialects.SQLDialect;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Snapshot of the tables, columns, constraint names and primary keys that already exist in the database.
+ * Names are kept in lower case because PostgreSQL folds unquoted identifiers.
+ */
+public class DatabaseSchema {
+    private static final Logger log = LoggerFactory.getLogger(DatabaseSchema.class);
+    private final Map<String, Set<String>> tableColumns;
+    private final Set<String> constraintNames;
+    private final Set<String> primaryKeyTables;
+
+    /**
+     * Every table is taken to have a primary key.
+     */
+    public DatabaseSchema(Map<String, Set<String>> tableColumns, Set<String> constraintNames) {
+        this(tableColumns, constraintNames, tableColumns.keySet());
+    }
+
+    public DatabaseSchema(Map<String, Set<String>> tableColumns, Set<String> constraintNames,
+                          Set<String> primaryKeyTables) {
+        this.tableColumns = new HashMap<>();
+        tableColumns.forEach((table, columns) -> this.tableColumns.put(normalize(table),
+                columns.stream().map(DatabaseSchema::normalize).collect(HashSet::new, Set::add, Set::addAll)));
+        this.constraintNames = new HashSet<>();
+        constraintNames.forEach(name -> this.constraintNames.add(normalize(name)));
+        this.primaryKeyTables = new HashSet<>();
+        primaryKeyTables.forEach(table -> this.primaryKeyTables.add(normalize(table)));
+    }
+
+    public static DatabaseSchema empty() {
+        return new DatabaseSchema(Map.of(), Set.of());
+    }
+
+    public static DatabaseSchema read(Connection connection, SQLDialect dialect) {
+        Map<String, Set<String>> tableColumns = new HashMap<>();
+        Set<String> constraintNames = new HashSet<>();
+        Set<String> primaryKeyTables = new HashSet<>();
+
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet resultSet = statement.executeQuery(dialect.selectTableColumns())) {
+                while (resultSet.next()) {
+                    tableColumns.computeIfAbsent(resultSet.getString(1), table -> new HashSet<>())
+                            .add(resultSet.getString(2));
+                }
+            }
+            try (ResultSet resultSet = statement.executeQuery(dialect.selectConstraintNames())) {
+                while (resultSet.next()) {
+                    constraintNames.add(resultSet.getString(1));
+                }
+            }
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String table : tableColumns.keySet()) {
+                try (ResultSet resultSet = metaData.getPrimaryKeys(null, connection.getSchema(), table)) {
+                    if (resultSet.next()) {
+                        primaryKeyTables.add(table);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            log.error("Cannot read existing database schema, assuming an empty database", e);
+            return empty();
+        }
+
+        return new DatabaseSchema(tableColumns, constraintNames, primaryKeyTables);
+    }
+
+    public boolean hasTable(String tableName) {
+        return tableColumns.containsKey(normalize(tableName));
+    }
+
+    public boolean hasColumn(String tableName, String columnName) {
+        return tableColumns.getOrDefault(normalize(tableName), Set.of()).contains(normalize(columnName));
+    }
+
+    public boolean hasPrimaryKey(String tableName) {
+        return primaryKeyTables.contains(normalize(tableName));
+    }
+
+    public boolean hasConstraint(String constraintName) {
+        return constraintNames.contains(normalize(constraintName));
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,184 @@
+package pl.kielce.tu.orm.schema;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pl.kielce.tu.orm.annotations.Entity;
+import pl.kielce.tu.orm.annotations.Partitioned;
+import pl.kielce.tu.orm.connector.DatabaseConnector;
+import pl.kielce.tu.orm.dialects.SQLDialect;
+import pl.kielce.tu.orm.sql.SQLNamesHelper;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maintains the partitions of {@link Partitioned} entities. Range partitions are named
+ * {@code <table>_p<yyyyMMdd>} after their lower bound, which lets old partitions be found and detached by name.
+ */
+public class PartitionManager {
+    private static final Logger log = LoggerFactory.getLogger(PartitionManager.class);
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+    private final SQLDialect dialect;
+
+    public PartitionManager(SQLDialect dialect) {
+        if (!dialect.supportsPartitioning()) {
+            throw new UnsupportedOperationException(dialect.getClass().getSimpleName() + " does not support table partitioning");
+        }
+        this.dialect = dialect;
+    }
+
+    /**
+     * Range partitions cover the current interval and {@code premake} upcoming ones. A default partition takes rows
+     * outside of them, such as backdated ones, which would otherwise fail to insert. PostgreSQL cannot create a
+     * range partition while the default one holds rows in its range, so such rows have to be moved out first.
+     */
+    public List<String> getCreateStatements(Class<?> entityClass, LocalDate today) {
+        Partitioned partitioned = getPartitioned(entityClass);
+        String tableName = getTableName(entityClass);
+        List<String> statements = new ArrayList<>();
+
+        switch (partitioned.by()) {
+            case RANGE -> {
+                LocalDate from = getPartitionStart(today, partitioned.interval());
+                for (int i = 0; i <= partitioned.premake(); i++) {
+                    LocalDate to = next(from, partitioned.interval());
+                    statements.add(dialect.createRangePartition(tableName, getPartitionName(tableName, from),
+                            from.toString(), to.toString()));
+                    from = to;
+                }
+                statements.add(dialect.createDefaultPartition(tableName, getDefaultPartitionName(tableName)));
+            }
+            case HASH -> {
+                for (int remainder = 0; remainder < partitioned.partitions(); remainder++) {
+                    statements.add(dialect.createHashPartition(tableName, tableName.toLowerCase() + "_p" + remainder,
+                            partitioned.partitions(), remainder));
+                }
+            }
+            case LIST -> statements.add(dialect.createDefaultPartition(tableName, getDefaultPartitionName(tableName)));
+        }
+
+        return statements;
+    }
+
+    public void createPartitions(Class<?> entityClass) {
+        Connection connection = DatabaseConnector.getInstance().getConnection();
+
+        for (String partition : getCreateStatements(entityClass, LocalDate.now(ZoneOffset.UTC))) {
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate(partition);
+            } catch (SQLException e) {
+                log.error("Cannot execute create partition SQL statement {}", partition, e);
+            }
+        }
+    }
+
+    /**
+     * Detaches range partitions whose whole range lies before {@code cutoff} and returns their names.
+     * Detached tables are kept, so they can be archived or dropped separately.
+     */
+    public List<String> detachPartitionsBefore(Class<?> entityClass, LocalDate cutoff) {
+        Partitioned partitioned = getPartitioned(entityClass);
+        if (partitioned.by() != Partitioned.Strategy.RANGE) {
+            throw new IllegalArgumentException("Only range partitions can be detached by date: " + entityClass.getName());
+        }
+
+        String tableName = getTableName(entityClass);
+        Connection connection = DatabaseConnector.getInstance().getConnection();
+        List<String> detached = new ArrayList<>();
+
+        try {
+            for (String partitionName : getPartitionNames(connection, tableName)) {
+                LocalDate from = parsePartitionStart(tableName, partitionName);
+                if (from != null && !next(from, partitioned.interval()).isAfter(cutoff)) {
+                    try (Statement statement = connection.createStatement()) {
+                        statement.executeUpdate(dialect.detachPartition(tableName, partitionName));
+                    }
+                    detached.add(partitionName);
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Error detaching partitions of table " + tableName, e);
+        }
+
+        return detached;
+    }
+
+    public static LocalDate getPartitionStart(LocalDate date, Partitioned.Interval interval) {
+        return switch (interval) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+            case YEAR -> date.withDayOfYear(1);
+        };
+    }
+
+    private static LocalDate next(LocalDate from, Partitioned.Interval interval) {
+        return switch (interval) {
+            case DAY -> from.plusDays(1);
+            case WEEK -> from.plusWeeks(1);
+            case MONTH -> from.plusMonths(1);
+            case YEAR -> from.plusYears(1);
+        };
+    }
+
+    private List<String> getPartitionNames(Connection connection, String tableName) throws SQLException {
+        List<String> names = new ArrayList<>();
+
+        try (PreparedStatement statement = connection.prepareStatement(dialect.selectPartitionNames())) {
+            statement.setString(1, tableName);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    names.add(resultSet.getString(1));
+                }
+            }
+        }
+
+        return names;
+    }
+
+    private static LocalDate parsePartitionStart(String tableName, String partitionName) {
+        String prefix = tableName.toLowerCase() + "_p";
+        if (!partitionName.toLowerCase().startsWith(prefix)) {
+            return null;
+        }
+
+        try {
+            return LocalDate.parse(partitionName.substring(prefix.length()), PARTITION_SUFFIX);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static String getPartitionName(String tableName, LocalDate from) {
+        return tableName.toLowerCase() + "_p" + PARTITION_SUFFIX.format(from);
+    }
+
+    private static String getDefaultPartitionName(String tableName) {
+        return tableName.toLowerCase() + "_default";
+    }
+
+    private static Partitioned getPartitioned(Class<?> entityClass) {
+        Partitioned partitioned = entityClass.getAnnotation(Partitioned.class);
+        if (partitioned == null) {
+            throw new IllegalArgumentException("Entity " + entityClass.getName() + " is not partitioned");
+        }
+
+        return partitioned;
+    }
+
+    private static String getTableName(Class<?> entityClass) {
+        Entity entityAnnotation = entityClass.getAnnotation(Entity.class);
+        return new SQLNamesHelper(entityClass.getName()).getTableName(entityClass, entityAnnotation.name());
+    }
+}
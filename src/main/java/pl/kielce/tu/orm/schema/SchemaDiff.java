@@ -0,0 +1,74 @@
+package pl.kielce.tu.orm.schema;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pl.kielce.tu.orm.definitions.ColumnDefinition;
+import pl.kielce.tu.orm.definitions.ConstraintDefinition;
+import pl.kielce.tu.orm.definitions.IndexDefinition;
+import pl.kielce.tu.orm.dialects.SQLDialect;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Compares mapped tables with a {@link DatabaseSchema} and produces only the DDL that is still missing.
+ * Columns are never dropped or altered, the diff is additive only.
+ */
+public class SchemaDiff {
+    private static final Logger log = LoggerFactory.getLogger(SchemaDiff.class);
+    private final DatabaseSchema schema;
+    private final SQLDialect dialect;
+
+    public SchemaDiff(DatabaseSchema schema, SQLDialect dialect) {
+        this.schema = schema;
+        this.dialect = dialect;
+    }
+
+    public boolean hasTable(String tableName) {
+        return schema.hasTable(tableName);
+    }
+
+    public List<String> getMissingColumnStatements(String tableName, List<ColumnDefinition> columns) {
+        return columns.stream()
+                .filter(column -> !schema.hasColumn(tableName, column.name()))
+                .map(column -> getAddColumnStatement(tableName, column))
+                .toList();
+    }
+
+    /**
+     * Existing rows have no value for a new column, so a {@code NOT NULL} column without a default is added as
+     * nullable. It has to be backfilled and made {@code NOT NULL} by hand.
+     */
+    private String getAddColumnStatement(String tableName, ColumnDefinition column) {
+        String notNull = " " + dialect.notNull();
+        String definition = column.definition();
+
+        if (definition.contains(notNull) && !definition.contains(" DEFAULT ")) {
+            log.warn("Column {} is added to table {} as nullable because it has no default. Backfill it and make it {}",
+                    column.name(), tableName, dialect.notNull());
+            definition = definition.replace(notNull, "");
+        }
+
+        return dialect.addColumn(tableName, column.name(), definition);
+    }
+
+    /**
+     * An existing table without a primary key gets a unique index over the key columns instead, because not every
+     * dialect can add a primary key to an existing table. Upserts resolve conflicts against either. Creating the
+     * index fails while the table still holds duplicate keys.
+     */
+    public Optional<String> getMissingKeyStatement(IndexDefinition key) {
+        if (!schema.hasTable(key.tableName()) || schema.hasPrimaryKey(key.tableName())) {
+            return Optional.empty();
+        }
+
+        log.warn("Table {} has no primary key, adding unique index {} on {}", key.tableName(), key.name(), key.columns());
+        return Optional.of(dialect.createIndex(key, false));
+    }
+
+    public List<ConstraintDefinition> getMissingConstraints(List<ConstraintDefinition> constraints) {
+        return constraints.stream()
+                .filter(constraint -> !schema.hasConstraint(constraint.name()))
+                .toList();
+    }
+}
@@ -28,6 +28,12 @@ public class SQLAnnotationsHelper {
         return oneToOneAnnotation != null;
     }
 
+    public static boolean hasManyToOneAnnotation(Field field) {
+        ManyToOne manyToOneAnnotation = field.getAnnotation(ManyToOne.class);
+
+        return manyToOneAnnotation != null;
+    }
+
     public static boolean hasManyToManyAnnotation(Field field) {
         ManyToMany manyToManyAnnotation = field.getAnnotation(ManyToMany.class);
 
@@ -1,7 +1,9 @@
 package pl.kielce.tu.orm.sql;
 
 import pl.kielce.tu.orm.annotations.Id;
+import pl.kielce.tu.orm.annotations.Lob;
 import pl.kielce.tu.orm.annotations.ManyToOne;
+import pl.kielce.tu.orm.annotations.Version;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
@@ -48,43 +50,152 @@ public class SQLGenerator {
     }
 
     public static String generateUpdateSQL(String tableName, List<Field> fields, Field idField) {
+        return generateUpdateSQL(tableName, fields, List.of(idField), null);
+    }
+
+    /**
+     * Null values keep the stored column value through {@code COALESCE}, so the update needs no prior read.
+     * A version column is incremented in place and checked in the WHERE clause.
+     */
+    public static String generateUpdateSQL(String tableName, List<Field> fields, List<Field> idFields, Field versionField) {
         StringJoiner setClause = new StringJoiner(", ");
+        String versionColumnName = null;
 
         for (Field field : fields) {
-            if (!field.equals(idField)) {
+            if (!idFields.contains(field)) {
                 SQLNamesHelper sqlNamesHelper = new SQLNamesHelper(field.getDeclaringClass().getName());
                 String columnName = sqlNamesHelper.getColumnName(field, "");
 
-                if (SQLAnnotationsHelper.hasForeignTableAnnotation(field)) {
+                if (field.equals(versionField)) {
+                    versionColumnName = columnName;
+                    setClause.add(columnName + " = " + columnName + " + 1");
+                } else if (SQLAnnotationsHelper.hasForeignTableAnnotation(field)) {
                     if (SQLAnnotationsHelper.hasOneToOneAnnotation(field) || field.isAnnotationPresent(ManyToOne.class)) {
-                        setClause.add(columnName + " = ?");
+                        setClause.add(columnName + " = COALESCE(?, " + columnName + ")");
                     }
                 } else if (!SQLAnnotationsHelper.hasOneToManyAnnotation(field)) {
-                    setClause.add(columnName + " = ?");
+                    setClause.add(columnName + " = COALESCE(?, " + columnName + ")");
                 }
             }
         }
 
-        SQLNamesHelper sqlNamesHelper = new SQLNamesHelper(idField.getDeclaringClass().getName());
-        String idColumnName = sqlNamesHelper.getColumnName(idField, "");
-        return "UPDATE " + tableName + " SET " + setClause + " WHERE " + idColumnName + " = ?";
+        String whereClause = generateIdWhereClause(idFields);
+        if (versionColumnName != null) {
+            whereClause += " AND " + versionColumnName + " = ?";
+        }
+
+        return "UPDATE " + tableName + " SET " + setClause + " WHERE " + whereClause;
     }
 
     public static String generateSelectSQL(String tableName, List<Field> fields) {
-        return "SELECT * FROM " + tableName;
+        StringJoiner columns = new StringJoiner(", ");
+
+        for (Field field : fields) {
+            if (isColumnField(field)) {
+                SQLNamesHelper sqlNamesHelper = new SQLNamesHelper(field.getDeclaringClass().getName());
+                columns.add(sqlNamesHelper.getColumnName(field, ""));
+            }
+        }
+
+        return "SELECT " + columns + " FROM " + tableName;
+    }
+
+    public static String generateSelectColumnsSQL(String tableName, List<String> columnNames) {
+        return "SELECT " + String.join(", ", columnNames) + " FROM " + tableName;
     }
 
     public static String generateSelectByIdSQL(String tableName, List<Field> fields, Field idField) {
-        String selectSQL = generateSelectSQL(tableName, fields);
-        SQLNamesHelper sqlNamesHelper = new SQLNamesHelper(idField.getDeclaringClass().getName());
-        String idColumnName = sqlNamesHelper.getColumnName(idField, "");
-        return selectSQL + " WHERE " + idColumnName + " = ?";
+        return generateSelectByIdSQL(tableName, fields, List.of(idField));
+    }
+
+    public static String generateSelectByIdSQL(String tableName, List<Field> fields, List<Field> idFields) {
+        return generateSelectSQL(tableName, fields) + " WHERE " + generateIdWhereClause(idFields);
+    }
+
+    public static String generateSelectByIdForUpdateSQL(String tableName, List<Field> fields, List<Field> idFields,
+                                                        String lockClause) {
+        return generateSelectByIdSQL(tableName, fields, idFields) + " " + lockClause;
+    }
+
+    public static String generateSelectForUpdateSQL(String tableName, List<Field> fields, String idColumnName,
+                                                    String limitClause, String lockClause) {
+        return generateSelectSQL(tableName, fields) + " ORDER BY " + idColumnName + " " + limitClause + " " + lockClause;
+    }
+
+    public static String generateSelectWhereSQL(String tableName, List<Field> fields, String condition) {
+        return generateSelectSQL(tableName, fields) + " WHERE " + condition;
+    }
+
+    public static String generateSelectRangeSQL(String tableName, List<Field> fields, String columnName) {
+        return generateSelectSQL(tableName, fields) + " WHERE " + columnName + " >= ? AND " + columnName + " < ?";
+    }
+
+    public static String generateSelectPageSQL(String tableName, List<Field> fields, String sortColumnName,
+                                               String idColumnName, boolean ascending, String limitOffsetClause) {
+        return generateSelectSQL(tableName, fields) +
+                generateOrderByClause(sortColumnName, idColumnName, ascending) +
+                " " + limitOffsetClause;
+    }
+
+    /**
+     * The row value comparison is never true for a NULL sort column, so rows with one are left out of the first
+     * slice as well instead of ending up only there.
+     */
+    public static String generateSelectAfterSQL(String tableName, List<Field> fields, String sortColumnName,
+                                                String idColumnName, boolean ascending, boolean hasLastKey,
+                                                String limitClause) {
+        StringBuilder sql = new StringBuilder(generateSelectSQL(tableName, fields));
+
+        if (!hasLastKey && !sortColumnName.equals(idColumnName)) {
+            sql.append(" WHERE ").append(sortColumnName).append(" IS NOT NULL");
+        } else if (hasLastKey) {
+            String operator = ascending ? " > " : " < ";
+            sql.append(" WHERE ");
+            if (sortColumnName.equals(idColumnName)) {
+                sql.append(idColumnName).append(operator).append("?");
+            } else {
+                sql.append("(").append(sortColumnName).append(", ").append(idColumnName).append(")")
+                        .append(operator)
+                        .append("(?, ?)");
+            }
+        }
+
+        return sql.append(generateOrderByClause(sortColumnName, idColumnName, ascending))
+                .append(" ")
+                .append(limitClause)
+                .toString();
+    }
+
+    private static String generateOrderByClause(String sortColumnName, String idColumnName, boolean ascending) {
+        String direction = ascending ? " ASC" : " DESC";
+        if (sortColumnName.equals(idColumnName)) {
+            return " ORDER BY " + idColumnName + direction;
+        }
+
+        return " ORDER BY " + sortColumnName + direction + ", " + idColumnName + direction;
     }
 
     public static String generateDeleteSQL(String tableName, Field idField) {
-        SQLNamesHelper sqlNamesHelper = new SQLNamesHelper(idField.getDeclaringClass().getName());
-        String idColumnName = sqlNamesHelper.getColumnName(idField, "");
-        return "DELETE FROM " + tableName + " WHERE " + idColumnName + " = ?";
+        return generateDeleteSQL(tableName, List.of(idField));
+    }
+
+    public static String generateDeleteSQL(String tableName, List<Field> idFields) {
+        return "DELETE FROM " + tableName + " WHERE " + generateIdWhereClause(idFields);
+    }
+
+    private static String generateIdWhereClause(List<Field> idFields) {
+        StringJoiner whereClause = new StringJoiner(" AND ");
+
+        for (Field idField : idFields) {
+            SQLNamesHelper sqlNamesHelper = new SQLNamesHelper(idField.getDeclaringClass().getName());
+            whereClause.add(sqlNamesHelper.getColumnName(idField, "") + " = ?");
+        }
+
+        return whereClause.toString();
+    }
+
+    public static String generateExistsByIdSQL(String tableName, List<Field> idFields) {
+        return "SELECT 1 FROM " + tableName + " WHERE " + generateIdWhereClause(idFields);
     }
 
     public static String generateDeleteAllSQL(String tableName) {
@@ -104,6 +215,15 @@ public class SQLGenerator {
         throw new IllegalArgumentException("No @Id field found in class: " + entityClass.getName());
     }
 
+    public static Field getVersionField(Class<?> entityClass) {
+        for (Field field : entityClass.getDeclaredFields()) {
+            if (field.isAnnotationPresent(Version.class)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
     public static List<Field> getFields(Class<?> entityClass) {
         List<Field> fields = new ArrayList<>();
         for (Field field : entityClass.getDeclaredFields()) {
@@ -112,6 +232,33 @@ public class SQLGenerator {
         return fields;
     }
 
+    public static List<Field> getColumnFields(Class<?> entityClass) {
+        return getFields(entityClass).stream()
+                .filter(SQLGenerator::isColumnField)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Columns hydrated with the entity. {@code @Lob} columns are loaded on demand and left out.
+     */
+    private static boolean isColumnField(Field field) {
+        return !SQLAnnotationsHelper.hasForeignTableAnnotation(field) && !SQLAnnotationsHelper.hasOneToManyAnnotation(field)
+                && !field.isAnnotationPresent(Lob.class);
+    }
+
+    public static List<Field> getLobFields(Class<?> entityClass) {
+        return getFields(entityClass).stream()
+                .filter(field -> field.isAnnotationPresent(Lob.class))
+                .collect(Collectors.toList());
+    }
+
+    public static String generateSelectLobSQL(String tableName, Field lobField, List<Field> idFields) {
+        SQLNamesHelper sqlNamesHelper = new SQLNamesHelper(lobField.getDeclaringClass().getName());
+
+        return "SELECT " + sqlNamesHelper.getColumnName(lobField, "") + " FROM " + tableName + " WHERE " +
+                generateIdWhereClause(idFields);
+    }
+
     public static List<Field> getNonRelationshipFields(Class<?> entityClass) {
         return getFields(entityClass).stream()
                 .filter(field -> !SQLAnnotationsHelper.hasForeignTableAnnotation(field))
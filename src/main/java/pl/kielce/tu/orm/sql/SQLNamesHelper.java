@@ -4,9 +4,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Default names are derived once per class and field and cached, so resolving names while building statements
+ * or reading rows neither logs nor allocates.
+ */
 public class SQLNamesHelper {
     private static final Logger log = LoggerFactory.getLogger(SQLNamesHelper.class);
+    private static final Map<Class<?>, String> DEFAULT_TABLE_NAMES = new ConcurrentHashMap<>();
+    private static final Map<Field, String> DEFAULT_COLUMN_NAMES = new ConcurrentHashMap<>();
     private final String className;
 
     public SQLNamesHelper(String className) {
@@ -14,13 +22,16 @@ public class SQLNamesHelper {
     }
 
     public String getTableName(Class<?> entityClass, String tableName) {
-        String result = tableName;
         if (tableName == null || tableName.isBlank()) {
-            log.info("Table name is null or empty for class: {}. Use default table name", className);
-            result = toUnderscoreName(entityClass.getSimpleName());
+            String defaultName = DEFAULT_TABLE_NAMES.get(entityClass);
+            return defaultName != null ? defaultName : DEFAULT_TABLE_NAMES.computeIfAbsent(entityClass, key -> {
+                String name = toUnderscoreName(key.getSimpleName()).toUpperCase();
+                log.debug("No table name given for class {}, using default table name {}", className, name);
+                return name;
+            });
         }
 
-        return result.toUpperCase();
+        return tableName.toUpperCase();
     }
 
     public String toUnderscoreName(String name) {
@@ -37,12 +48,16 @@ public class SQLNamesHelper {
     }
 
     public String getColumnName(Field field, String columnName) {
-        String result = columnName;
         if (columnName == null || columnName.isBlank()) {
-            log.info("Column name is null or empty for class: {}. Use default table name", className);
-            result = toUnderscoreName(field.getName());
+            String defaultName = DEFAULT_COLUMN_NAMES.get(field);
+            return defaultName != null ? defaultName : DEFAULT_COLUMN_NAMES.computeIfAbsent(field, key -> {
+                String name = toUnderscoreName(key.getName());
+                log.debug("No column name given for field {} of class {}, using default column name {}",
+                        key.getName(), className, name);
+                return name;
+            });
         }
 
-        return result;
+        return columnName;
     }
 }
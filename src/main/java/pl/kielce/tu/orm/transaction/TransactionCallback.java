@@ -0,0 +1,6 @@
+package pl.kielce.tu.orm.transaction;
+
+@FunctionalInterface
+public interface TransactionCallback<R> {
+    R doInTransaction() throws Exception;
+}
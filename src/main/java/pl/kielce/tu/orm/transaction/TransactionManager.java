@@ -0,0 +1,97 @@
+package pl.kielce.tu.orm.transaction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pl.kielce.tu.orm.connector.DatabaseConnector;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Runs a callback in a database transaction bound to the current thread, so every repository call made by the
+ * callback uses the same connection. Nested calls join the outer transaction.
+ */
+public final class TransactionManager {
+    private static final Logger log = LoggerFactory.getLogger(TransactionManager.class);
+
+    private TransactionManager() {}
+
+    public static <R> R execute(TransactionCallback<R> callback) {
+        DatabaseConnector connector = DatabaseConnector.getInstance();
+        if (connector.isInTransaction()) {
+            return invoke(callback);
+        }
+
+        Connection boundConnection = connector.getBoundConnection();
+        Connection connection = boundConnection;
+        try {
+            if (connection == null) {
+                connection = connector.acquireConnection();
+                connector.bindConnection(connection);
+            }
+            connection.setAutoCommit(false);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a database connection", e);
+        } catch (SQLException e) {
+            release(connector, boundConnection, connection);
+            throw new RuntimeException("Could not begin transaction", e);
+        }
+
+        try {
+            R result = invoke(callback);
+            connection.commit();
+            connector.recordWrite();
+            return result;
+        } catch (SQLException e) {
+            rollback(connection);
+            throw new RuntimeException("Could not commit transaction", e);
+        } catch (RuntimeException | Error e) {
+            rollback(connection);
+            throw e;
+        } finally {
+            release(connector, boundConnection, connection);
+        }
+    }
+
+    public static void run(Runnable operation) {
+        execute(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    private static <R> R invoke(TransactionCallback<R> callback) {
+        try {
+            return callback.doInTransaction();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("Transaction callback failed", e);
+        }
+    }
+
+    private static void rollback(Connection connection) {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            log.error("Could not roll back transaction", e);
+        }
+    }
+
+    private static void release(DatabaseConnector connector, Connection boundConnection, Connection connection) {
+        if (boundConnection != null) {
+            try {
+                boundConnection.setAutoCommit(true);
+            } catch (SQLException e) {
+                log.error("Could not restore auto-commit on bound connection", e);
+            }
+            return;
+        }
+
+        if (connection != null) {
+            connector.unbindConnection();
+            connector.releaseConnection(connection);
+        }
+    }
+}
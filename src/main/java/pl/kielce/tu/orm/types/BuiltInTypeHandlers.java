@@ -0,0 +1,598 @@
+package pl.kielce.tu.orm.types;
+
+import pl.kielce.tu.orm.config.ORMConfiguration;
+import pl.kielce.tu.orm.dialects.SQLDialect;
+import pl.kielce.tu.orm.exceptions.UnknownTypeException;
+import pl.kielce.tu.orm.json.JsonDocument;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+final class BuiltInTypeHandlers {
+    private BuiltInTypeHandlers() {
+    }
+
+    static final class LongHandler implements TypeHandler {
+        private final boolean primitive;
+
+        LongHandler(boolean primitive) {
+            this.primitive = primitive;
+        }
+
+        @Override
+        public String columnType(SQLDialect dialect) throws UnknownTypeException {
+            return dialect.dataType(long.class);
+        }
+
+        @Override
+        public void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+            if (value == null) {
+                statement.setNull(index, Types.BIGINT);
+            } else {
+                statement.setLong(index, ((Number) value).longValue());
+            }
+        }
+
+        @Override
+        public void bindField(PreparedStatement statement, int index, Field field, Object entity)
+                throws SQLException, IllegalAccessException {
+            if (primitive) {
+                statement.setLong(index, field.getLong(entity));
+            } else {
+                bind(statement, index, field.get(entity));
+            }
+        }
+
+        @Override
+        public Object read(ResultSet resultSet, int index) throws SQLException {
+            long value = resultSet.getLong(index);
+            return primitive || !resultSet.wasNull() ? value : null;
+        }
+
+        @Override
+        public void readField(ResultSet resultSet, int index, Field field, Object entity)
+                throws SQLException, IllegalAccessException {
+            long value = resultSet.getLong(index);
+            if (primitive) {
+                field.setLong(entity, value);
+            } else if (!resultSet.wasNull()) {
+                field.set(entity, value);
+            }
+        }
+    }
+
+    static final class IntegerHandler implements TypeHandler {
+        private final boolean primitive;
+
+        IntegerHandler(boolean primitive) {
+            this.primitive = primitive;
+        }
+
+        @Override
+        public String columnType(SQLDialect dialect) throws UnknownTypeException {
+            return dialect.dataType(int.class);
+        }
+
+        @Override
+        public void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+            if (value == null) {
+                statement.setNull(index, Types.INTEGER);
+            } else {
+                statement.setInt(index, ((Number) value).intValue());
+            }
+        }
+
+        @Override
+        public void bindField(PreparedStatement statement, int index, Field field, Object entity)
+                throws SQLException, IllegalAccessException {
+            if (primitive) {
+                statement.setInt(index, field.getInt(entity));
+            } else {
+                bind(statement, index, field.get(entity));
+            }
+        }
+
+        @Override
+        public Object read(ResultSet resultSet, int index) throws SQLException {
+            int value = resultSet.getInt(index);
+            return primitive || !resultSet.wasNull() ? value : null;
+        }
+
+        @Override
+        public void readField(ResultSet resultSet, int index, Field field, Object entity)
+                throws SQLException, IllegalAccessException {
+            int value = resultSet.getInt(index);
+            if (primitive) {
+                field.setInt(entity, value);
+            } else if (!resultSet.wasNull()) {
+                field.set(entity, value);
+            }
+        }
+    }
+
+    static final class ShortHandler implements TypeHandler {
+        private final boolean primitive;
+
+        ShortHandler(boolean primitive) {
+            this.primitive = primitive;
+        }
+
+        @Override
+        public String columnType(SQLDialect dialect) throws UnknownTypeException {
+            return dialect.dataType(short.class);
+        }
+
+        @Override
+        public void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+            if (value == null) {
+                statement.setNull(index, Types.SMALLINT);
+            } else {
+                statement.setShort(index, ((Number) value).shortValue());
+            }
+        }
+
+        @Override
+        public void bindField(PreparedStatement statement, int index, Field field, Object entity)
+                throws SQLException, IllegalAccessException {
+            if (primitive) {
+                statement.setShort(index, field.getShort(entity));
+            } else {
+                bind(statement, index, field.get(entity));
+            }
+        }
+
+        @Override
+        public Object read(ResultSet resultSet, int index) throws SQLException {
+            short value = resultSet.getShort(index);
+            return primitive || !resultSet.wasNull() ? value : null;
+        }
+
+        @Override
+        public void readField(ResultSet resultSet, int index, Field field, Object entity)
+                throws SQLException, IllegalAccessException {
+            short value = resultSet.getShort(index);
+            if (primitive) {
+                field.setShort(entity, value);
+            } else if (!resultSet.wasNull()) {
+                field.set(entity, value);
+            }
+        }
+    }
+
+    static final class DoubleHandler implements TypeHandler {
+        private final boolean primitive;
+
+        DoubleHandler(boolean primitive) {
+            this.primitive = primitive;
+        }
+
+        @Override
+        public String columnType(SQLDialect dialect) throws UnknownTypeException {
+            return dialect.dataType(double.class);
+        }
+
+        @Override
+        public void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+            if (value == null) {
+                statement.setNull(index, Types.DOUBLE);
+            } else {
+                statement.setDouble(index, ((Number) value).doubleValue());
+            }
+        }
+
+        @Override
+        public void bindField(PreparedStatement statement, int index, Field field, Object entity)
+                throws SQLException, IllegalAccessException {
+            if (primitive) {
+                statement.setDouble(index, field.getDouble(entity));
+            } else {
+                bind(statement, index, field.get(entity));
+            }
+        }
+
+        @Override
+        public Object read(ResultSet resultSet, int index) throws SQLException {
+            double value = resultSet.getDouble(index);
+            return primitive || !resultSet.wasNull() ? value : null;
+        }
+
+        @Override
+        public void readField(ResultSet resultSet, int index, Field field, Object entity)
+                throws SQLException, IllegalAccessException {
+            double value = resultSet.getDouble(index);
+            if (primitive) {
+                field.setDouble(entity, value);
+            } else if (!resultSet.wasNull()) {
+                field.set(entity, value);
+            }
+        }
+    }
+
+    static final class FloatHandler implements TypeHandler {
+        private final boolean primitive;
+
+        FloatHandler(boolean primitive) {
+            this.primitive = primitive;
+        }
+
+        @Override
+        public String columnType(SQLDialect dialect) throws UnknownTypeException {
+            return dialect.dataType(float.class);
+        }
+
+        @Override
+        public void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+            if (value == null) {
+                statement.setNull(index, Types.REAL);
+            } else {
+                statement.setFloat(index, ((Number) value).floatValue());
+            }
+        }
+
+        @Override
+        public void bindField(PreparedStatement statement, int index, Field field, Object entity)
+                throws SQLException, IllegalAccessException {
+            if (primitive) {
+                statement.setFloat(index, field.getFloat(entity));
+            } else {
+                bind(statement, index, field.get(entity));
+            }
+        }
+
+        @Override
+        public Object read(ResultSet resultSet, int index) throws SQLException {
+            float value = resultSet.getFloat(index);
+            return primitive || !resultSet.wasNull() ? value : null;
+        }
+
+        @Override
+        public void readField(ResultSet resultSet, int index, Field field, Object entity)
+                throws SQLException, IllegalAccessException {
+            float value = resultSet.getFloat(index);
+            if (primitive) {
+                field.setFloat(entity, value);
+            } else if (!resultSet.wasNull()) {
+                field.set(entity, value);
+            }
+        }
+    }
+
+    static final class BooleanHandler implements TypeHandler {
+        private final boolean primitive;
+
+        BooleanHandler(boolean primitive) {
+            this.primitive = primitive;
+        }
+
+        @Override
+        public String columnType(SQLDialect dialect) throws UnknownTypeException {
+            return dialect.dataType(boolean.class);
+        }
+
+        @Override
+        public void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+            if (value == null) {
+                statement.setNull(index, Types.BOOLEAN);
+            } else {
+                statement.setBoolean(index, (Boolean) value);
+            }
+        }
+
+        @Override
+        public void bindField(PreparedStatement statement, int index, Field field, Object entity)
+                throws SQLException, IllegalAccessException {
+            if (primitive) {
+                statement.setBoolean(index, field.getBoolean(entity));
+            } else {
+                bind(statement, index, field.get(entity));
+            }
+        }
+
+        @Override
+        public Object read(ResultSet resultSet, int index) throws SQLException {
+            boolean value = resultSet.getBoolean(index);
+            return primitive || !resultSet.wasNull() ? value : null;
+        }
+
+        @Override
+        public void readField(ResultSet resultSet, int index, Field field, Object entity)
+                throws SQLException, IllegalAccessException {
+            boolean value = resultSet.getBoolean(index);
+            if (primitive) {
+                field.setBoolean(entity, value);
+            } else if (!resultSet.wasNull()) {
+                field.set(entity, value);
+            }
+        }
+    }
+
+    static final class StringHandler implements TypeHandler {
+        @Override
+        public String columnType(SQLDialect dialect) throws UnknownTypeException {
+            return dialect.dataType(String.class);
+        }
+
+        @Override
+        public void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+            if (value == null) {
+                statement.setNull(index, Types.VARCHAR);
+            } else {
+                statement.setString(index, (String) value);
+            }
+        }
+
+        @Override
+        public Object read(ResultSet resultSet, int index) throws SQLException {
+            return resultSet.getString(index);
+        }
+    }
+
+    static final class BigDecimalHandler implements TypeHandler {
+        @Override
+        public String columnType(SQLDialect dialect) throws UnknownTypeException {
+            return dialect.dataType(BigDecimal.class);
+        }
+
+        @Override
+        public void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+            if (value == null) {
+                statement.setNull(index, Types.NUMERIC);
+            } else {
+                statement.setBigDecimal(index, (BigDecimal) value);
+            }
+        }
+
+        @Override
+        public Object read(ResultSet resultSet, int index) throws SQLException {
+            return resultSet.getBigDecimal(index);
+        }
+    }
+
+    static final class BytesHandler implements TypeHandler {
+        @Override
+        public String columnType(SQLDialect dialect) throws UnknownTypeException {
+            return dialect.dataType(byte[].class);
+        }
+
+        @Override
+        public void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+            if (value == null) {
+                statement.setNull(index, Types.BINARY);
+            } else {
+                statement.setBytes(index, (byte[]) value);
+            }
+        }
+
+        @Override
+        public Object read(ResultSet resultSet, int index) throws SQLException {
+            return resultSet.getBytes(index);
+        }
+    }
+
+    static final class InstantHandler implements TypeHandler {
+        @Override
+        public String columnType(SQLDialect dialect) throws UnknownTypeException {
+            return dialect.dataType(Instant.class);
+        }
+
+        @Override
+        public void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+            if (value == null) {
+                statement.setNull(index, Types.TIMESTAMP);
+            } else {
+                statement.setTimestamp(index, Timestamp.from((Instant) value));
+            }
+        }
+
+        @Override
+        public Object read(ResultSet resultSet, int index) throws SQLException {
+            Timestamp value = resultSet.getTimestamp(index);
+            return value != null ? value.toInstant() : null;
+        }
+    }
+
+    /**
+     * Types the JDBC driver converts itself, such as {@code LocalDate}, {@code OffsetDateTime} and {@code UUID}.
+     * Types without a built-in handler are read untyped, as before handlers existed.
+     */
+    static final class ObjectHandler implements TypeHandler {
+        private final Class<?> type;
+        private final boolean typed;
+
+        ObjectHandler(Class<?> type, boolean typed) {
+            this.type = type;
+            this.typed = typed;
+        }
+
+        @Override
+        public String columnType(SQLDialect dialect) throws UnknownTypeException {
+            return dialect.dataType(type);
+        }
+
+        @Override
+        public void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+            if (value == null) {
+                statement.setNull(index, Types.OTHER);
+            } else {
+                statement.setObject(index, value);
+            }
+        }
+
+        @Override
+        public Object read(ResultSet resultSet, int index) throws SQLException {
+            return typed ? resultSet.getObject(index, type) : resultSet.getObject(index);
+        }
+    }
+
+    static final class EnumOrdinalHandler implements TypeHandler {
+        private final Object[] constants;
+
+        EnumOrdinalHandler(Class<?> type) {
+            this.constants = type.getEnumConstants();
+        }
+
+        @Override
+        public String columnType(SQLDialect dialect) throws UnknownTypeException {
+            return dialect.dataType(short.class);
+        }
+
+        @Override
+        public void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+            if (value == null) {
+                statement.setNull(index, Types.SMALLINT);
+            } else {
+                statement.setShort(index, (short) ((Enum<?>) value).ordinal());
+            }
+        }
+
+        @Override
+        public Object read(ResultSet resultSet, int index) throws SQLException {
+            short ordinal = resultSet.getShort(index);
+            return resultSet.wasNull() ? null : constants[ordinal];
+        }
+    }
+
+    static final class EnumStringHandler implements TypeHandler {
+        private final Map<String, Object> constants = new HashMap<>();
+
+        EnumStringHandler(Class<?> type) {
+            for (Object constant : type.getEnumConstants()) {
+                constants.put(((Enum<?>) constant).name(), constant);
+            }
+        }
+
+        @Override
+        public String columnType(SQLDialect dialect) throws UnknownTypeException {
+            return dialect.dataType(String.class);
+        }
+
+        @Override
+        public void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+            if (value == null) {
+                statement.setNull(index, Types.VARCHAR);
+            } else {
+                statement.setString(index, ((Enum<?>) value).name());
+            }
+        }
+
+        @Override
+        public Object read(ResultSet resultSet, int index) throws SQLException {
+            String name = resultSet.getString(index);
+            if (name == null) {
+                return null;
+            }
+
+            Object constant = constants.get(name);
+            if (constant == null) {
+                throw new SQLException("Unknown enum constant: " + name);
+            }
+            return constant;
+        }
+    }
+
+    static final class JsonDocumentHandler implements TypeHandler {
+        static final JsonDocumentHandler INSTANCE = new JsonDocumentHandler();
+
+        @Override
+        public String columnType(SQLDialect dialect) {
+            return dialect.jsonType();
+        }
+
+        @Override
+        public void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+            JsonHandler.INSTANCE.bind(statement, index, value != null ? ((JsonDocument) value).toJson() : null);
+        }
+
+        @Override
+        public Object read(ResultSet resultSet, int index) throws SQLException {
+            String json = resultSet.getString(index);
+            return json != null ? JsonDocument.of(json) : null;
+        }
+    }
+
+    /**
+     * Streams a binary {@code @Lob}. Entities never read it through the handler, they get a lazy stream instead.
+     */
+    static final class BinaryLobHandler implements TypeHandler {
+        static final BinaryLobHandler INSTANCE = new BinaryLobHandler();
+
+        @Override
+        public String columnType(SQLDialect dialect) {
+            return dialect.binaryLobType();
+        }
+
+        @Override
+        public void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+            if (value == null) {
+                statement.setNull(index, Types.BINARY);
+            } else {
+                statement.setBinaryStream(index, (InputStream) value);
+            }
+        }
+
+        @Override
+        public Object read(ResultSet resultSet, int index) throws SQLException {
+            return resultSet.getBinaryStream(index);
+        }
+    }
+
+    static final class CharacterLobHandler implements TypeHandler {
+        static final CharacterLobHandler INSTANCE = new CharacterLobHandler();
+
+        @Override
+        public String columnType(SQLDialect dialect) {
+            return dialect.characterLobType();
+        }
+
+        @Override
+        public void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+            if (value == null) {
+                statement.setNull(index, Types.LONGVARCHAR);
+            } else {
+                statement.setCharacterStream(index, (Reader) value);
+            }
+        }
+
+        @Override
+        public Object read(ResultSet resultSet, int index) throws SQLException {
+            return resultSet.getCharacterStream(index);
+        }
+    }
+
+    /**
+     * JSON text bound with the parameter type of the configured dialect.
+     */
+    static final class JsonHandler implements TypeHandler {
+        static final JsonHandler INSTANCE = new JsonHandler();
+
+        @Override
+        public String columnType(SQLDialect dialect) {
+            return dialect.jsonType();
+        }
+
+        @Override
+        public void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+            int parameterType = ORMConfiguration.getInstance().getDialect().jsonParameterType();
+            if (value == null) {
+                statement.setNull(index, parameterType);
+            } else {
+                statement.setObject(index, value, parameterType);
+            }
+        }
+
+        @Override
+        public Object read(ResultSet resultSet, int index) throws SQLException {
+            return resultSet.getString(index);
+        }
+    }
+}
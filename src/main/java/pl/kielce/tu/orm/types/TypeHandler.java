@@ -0,0 +1,43 @@
+package pl.kielce.tu.orm.types;
+
+import pl.kielce.tu.orm.dialects.SQLDialect;
+import pl.kielce.tu.orm.exceptions.UnknownTypeException;
+
+import java.lang.reflect.Field;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Converts between a Java type and a column. Handlers for primitives bind from and read into the entity field with
+ * the type-specific accessors, so those values are never boxed.
+ */
+public interface TypeHandler {
+    String columnType(SQLDialect dialect) throws UnknownTypeException;
+
+    /**
+     * Binds {@code value}, which may be {@code null}.
+     */
+    void bind(PreparedStatement statement, int index, Object value) throws SQLException;
+
+    default void bindField(PreparedStatement statement, int index, Field field, Object entity)
+            throws SQLException, IllegalAccessException {
+        bind(statement, index, field.get(entity));
+    }
+
+    /**
+     * Returns the column value, or {@code null} for SQL NULL.
+     */
+    Object read(ResultSet resultSet, int index) throws SQLException;
+
+    /**
+     * Sets the field from the column. SQL NULL leaves the field unchanged.
+     */
+    default void readField(ResultSet resultSet, int index, Field field, Object entity)
+            throws SQLException, IllegalAccessException {
+        Object value = read(resultSet, index);
+        if (value != null) {
+            field.set(entity, value);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package pl.kielce.tu.orm.types;
+
+import pl.kielce.tu.orm.annotations.EnumType;
+import pl.kielce.tu.orm.annotations.Enumerated;
+import pl.kielce.tu.orm.annotations.Json;
+import pl.kielce.tu.orm.annotations.Lob;
+import pl.kielce.tu.orm.json.JsonDocument;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of {@link TypeHandler}s. Handlers registered with {@link #register} take precedence over the built-in
+ * ones. Types without a handler are bound and read as plain objects, but have no column type.
+ */
+public final class TypeHandlers {
+    private static final Map<Class<?>, TypeHandler> BUILT_IN = Map.ofEntries(
+            Map.entry(long.class, new BuiltInTypeHandlers.LongHandler(true)),
+            Map.entry(Long.class, new BuiltInTypeHandlers.LongHandler(false)),
+            Map.entry(int.class, new BuiltInTypeHandlers.IntegerHandler(true)),
+            Map.entry(Integer.class, new BuiltInTypeHandlers.IntegerHandler(false)),
+            Map.entry(short.class, new BuiltInTypeHandlers.ShortHandler(true)),
+            Map.entry(Short.class, new BuiltInTypeHandlers.ShortHandler(false)),
+            Map.entry(double.class, new BuiltInTypeHandlers.DoubleHandler(true)),
+            Map.entry(Double.class, new BuiltInTypeHandlers.DoubleHandler(false)),
+            Map.entry(float.class, new BuiltInTypeHandlers.FloatHandler(true)),
+            Map.entry(Float.class, new BuiltInTypeHandlers.FloatHandler(false)),
+            Map.entry(boolean.class, new BuiltInTypeHandlers.BooleanHandler(true)),
+            Map.entry(Boolean.class, new BuiltInTypeHandlers.BooleanHandler(false)),
+            Map.entry(String.class, new BuiltInTypeHandlers.StringHandler()),
+            Map.entry(BigDecimal.class, new BuiltInTypeHandlers.BigDecimalHandler()),
+            Map.entry(byte[].class, new BuiltInTypeHandlers.BytesHandler()),
+            Map.entry(Instant.class, new BuiltInTypeHandlers.InstantHandler()),
+            Map.entry(LocalDate.class, new BuiltInTypeHandlers.ObjectHandler(LocalDate.class, true)),
+            Map.entry(OffsetDateTime.class, new BuiltInTypeHandlers.ObjectHandler(OffsetDateTime.class, true)),
+            Map.entry(UUID.class, new BuiltInTypeHandlers.ObjectHandler(UUID.class, true))
+    );
+    private static final Map<Class<?>, TypeHandler> REGISTERED = new ConcurrentHashMap<>();
+    private static final Map<Field, TypeHandler> FIELD_HANDLERS = new ConcurrentHashMap<>();
+
+    private TypeHandlers() {
+    }
+
+    public static void register(Class<?> type, TypeHandler handler) {
+        REGISTERED.put(type, handler);
+        FIELD_HANDLERS.clear();
+    }
+
+    public static TypeHandler forField(Field field) {
+        TypeHandler handler = FIELD_HANDLERS.get(field);
+
+        return handler != null ? handler : FIELD_HANDLERS.computeIfAbsent(field, TypeHandlers::resolve);
+    }
+
+    public static TypeHandler forType(Class<?> type) {
+        TypeHandler handler = REGISTERED.get(type);
+        if (handler == null) {
+            handler = BUILT_IN.get(type);
+        }
+        if (handler == null && type.isEnum()) {
+            handler = new BuiltInTypeHandlers.EnumOrdinalHandler(type);
+        }
+
+        return handler != null ? handler : new BuiltInTypeHandlers.ObjectHandler(type, false);
+    }
+
+    private static TypeHandler resolve(Field field) {
+        Class<?> type = field.getType();
+
+        if (field.isAnnotationPresent(Json.class)) {
+            if (type == JsonDocument.class) {
+                return BuiltInTypeHandlers.JsonDocumentHandler.INSTANCE;
+            } else if (type == String.class) {
+                return BuiltInTypeHandlers.JsonHandler.INSTANCE;
+            }
+            throw new IllegalArgumentException("@Json field " + field.getName() + " must be a JsonDocument or a String");
+        }
+
+        if (field.isAnnotationPresent(Lob.class)) {
+            if (type == InputStream.class) {
+                return BuiltInTypeHandlers.BinaryLobHandler.INSTANCE;
+            } else if (type == Reader.class) {
+                return BuiltInTypeHandlers.CharacterLobHandler.INSTANCE;
+            }
+            throw new IllegalArgumentException("@Lob field " + field.getName() + " must be an InputStream or a Reader");
+        }
+
+        Enumerated enumerated = field.getAnnotation(Enumerated.class);
+        if (enumerated != null && !type.isEnum()) {
+            throw new IllegalArgumentException("@Enumerated field " + field.getName() + " must be an enum");
+        }
+        if (enumerated != null && enumerated.value() == EnumType.STRING && !REGISTERED.containsKey(type)) {
+            return new BuiltInTypeHandlers.EnumStringHandler(type);
+        }
+
+        return forType(type);
+    }
+}
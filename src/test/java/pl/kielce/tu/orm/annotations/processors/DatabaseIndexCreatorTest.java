@@ -0,0 +1,61 @@
+package pl.kielce.tu.orm.annotations.processors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import pl.kielce.tu.orm.annotations.processors.db.index.Author;
+import pl.kielce.tu.orm.annotations.processors.db.index.Book;
+import pl.kielce.tu.orm.annotations.processors.db.manytomany.FirstEntity;
+import pl.kielce.tu.orm.annotations.processors.db.manytomany.SecondEntity;
+import pl.kielce.tu.orm.cache.ManyToManyTables;
+import pl.kielce.tu.orm.definitions.ManyToManyColumnDefinition;
+import pl.kielce.tu.orm.dialects.PostgreSQLDialect;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DatabaseIndexCreatorTest {
+
+    @AfterEach
+    void cleanup() {
+        ManyToManyTables.getInstance().clear();
+    }
+
+    @Test
+    void shouldCreateDeclaredIndexes() throws Exception {
+        DatabaseIndexCreator creator = new DatabaseIndexCreator(Author.class.getName());
+
+        List<String> statements = creator.getSQLStatements(false);
+
+        assertEquals(List.of(
+                "CREATE INDEX IF NOT EXISTS idx_author_name ON AUTHOR USING btree (name);",
+                "CREATE UNIQUE INDEX IF NOT EXISTS ux_author_email_active ON AUTHOR USING btree (email) WHERE active = true;"
+        ), statements);
+    }
+
+    @Test
+    void shouldIndexManyToOneColumnConcurrently() throws Exception {
+        DatabaseIndexCreator creator = new DatabaseIndexCreator(Book.class.getName());
+
+        List<String> statements = creator.getSQLStatements(true);
+
+        assertEquals(List.of(
+                "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_book_published_at ON BOOK USING brin (published_at);",
+                "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_book_author ON BOOK USING btree (author);"
+        ), statements);
+    }
+
+    @Test
+    void shouldAddReverseIndexForJunctionTable() {
+        ManyToManyCreator creator = new ManyToManyCreator(new ManyToManyColumnDefinition(FirstEntity.class, SecondEntity.class));
+
+        List<String> statements = creator.getIndexDefinitions().stream()
+                .map(index -> new PostgreSQLDialect().createIndex(index, false))
+                .toList();
+
+        assertEquals(List.of(
+                "CREATE INDEX IF NOT EXISTS idx_first_entity_second_entity_second_entity_id_first_entity_id " +
+                        "ON FIRST_ENTITY_SECOND_ENTITY USING btree (second_entity_id, first_entity_id);"
+        ), statements);
+    }
+}
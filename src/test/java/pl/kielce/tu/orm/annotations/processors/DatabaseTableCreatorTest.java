@@ -2,9 +2,17 @@ package pl.kielce.tu.orm.annotations.processors;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import pl.kielce.tu.orm.annotations.processors.db.compositeid.Enrollment;
+import pl.kielce.tu.orm.annotations.processors.db.manytomanyids.Article;
+import pl.kielce.tu.orm.annotations.processors.db.manytomanyids.Tag;
+import pl.kielce.tu.orm.annotations.processors.db.partitioned.Invoice;
+import pl.kielce.tu.orm.annotations.processors.db.partitioned.InvoiceLine;
+import pl.kielce.tu.orm.annotations.processors.db.partitioned.Payment;
+import pl.kielce.tu.orm.annotations.processors.db.types.Measurement;
 import pl.kielce.tu.orm.cache.EntitiesWithFK;
 import pl.kielce.tu.orm.cache.ManyToManyTables;
 import pl.kielce.tu.orm.classloader.EntitiesClassLoader;
+import pl.kielce.tu.orm.definitions.ManyToManyColumnDefinition;
 
 import java.util.Comparator;
 import java.util.List;
@@ -197,6 +205,73 @@ CREATE TABLE IF NOT EXISTS PARENT (
         assertEquals("ALTER TABLE CHILD ADD CONSTRAINT fk_child_parent FOREIGN KEY (parent) REFERENCES PARENT(id);", sqlStatement);
     }
 
+    @Test
+    void shouldCreateCompositePrimaryKeyForIdClassEntity() throws Exception {
+        DatabaseTableCreator creator = new DatabaseTableCreator(Enrollment.class.getName());
+
+        String sqlStatement = creator.getSQLStatement();
+
+        assertEquals("""
+CREATE TABLE IF NOT EXISTS ENROLLMENT (
+\tstudent_id bigint NOT NULL,
+\tcourse_id bigint NOT NULL,
+\tgrade integer NOT NULL,
+\tPRIMARY KEY (student_id, course_id)
+);""", sqlStatement);
+    }
+
+    @Test
+    void shouldMapColumnTypesThroughTypeHandlers() throws Exception {
+        DatabaseTableCreator creator = new DatabaseTableCreator(Measurement.class.getName());
+
+        String sqlStatement = creator.getSQLStatement();
+
+        assertEquals("""
+CREATE TABLE IF NOT EXISTS MEASUREMENT (
+\tid bigserial PRIMARY KEY NOT NULL,
+\tsequence bigint NOT NULL,
+\treading double precision NOT NULL,
+\tprice numeric NOT NULL,
+\tchecksum bytea NOT NULL,
+\tunit smallint NOT NULL,
+\tdisplay_unit varchar(255) NOT NULL,
+\ttaken_on date NOT NULL,
+\tsynced_at timestamp with time zone,
+\tattributes jsonb
+);""", sqlStatement);
+    }
+
+    @Test
+    void shouldCreatePartitionedTableWithPartitionKeyInPrimaryKey() throws Exception {
+        DatabaseTableCreator creator = new DatabaseTableCreator(Invoice.class.getName());
+
+        String sqlStatement = creator.getSQLStatement();
+
+        assertEquals("""
+CREATE TABLE IF NOT EXISTS INVOICE (
+\tid bigserial NOT NULL,
+\tnumber varchar(255) NOT NULL,
+\tissued_at timestamp NOT NULL,
+\tPRIMARY KEY (id, issued_at)
+) PARTITION BY RANGE (issued_at);""", sqlStatement);
+    }
+
+    @Test
+    void shouldRejectPartitionKeyThatIsNotAMappedProperty() {
+        DatabaseTableCreator creator = new DatabaseTableCreator(Payment.class.getName());
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, creator::getSQLStatement);
+        assertTrue(exception.getMessage().contains("paid_at"));
+    }
+
+    @Test
+    void shouldRejectRelationshipsToPartitionedEntities() {
+        DatabaseTableCreator creator = new DatabaseTableCreator(InvoiceLine.class.getName());
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, creator::getSQLStatement);
+        assertTrue(exception.getMessage().contains(Invoice.class.getName()));
+    }
+
     @Test
     void shouldAddTablesWithManyToManyForeignKeysToCache() {
         String packageName = "pl.kielce.tu.orm.annotations.processors.db.manytomany";
@@ -279,11 +354,24 @@ CREATE TABLE IF NOT EXISTS SECOND_ENTITY (
             assertNotNull(sqlStatement);
             assertEquals("""
 CREATE TABLE IF NOT EXISTS FIRST_ENTITY_SECOND_ENTITY (
-first_entity_id bigserial NOT NULL,
-second_entity_id bigserial NOT NULL
+first_entity_id bigint NOT NULL,
+second_entity_id bigint NOT NULL,
+PRIMARY KEY (first_entity_id, second_entity_id)
 );
 ALTER TABLE FIRST_ENTITY_SECOND_ENTITY ADD CONSTRAINT fk_first_entity_second_entity_first_entity FOREIGN KEY (first_entity_id) REFERENCES FIRST_ENTITY(id);
 ALTER TABLE FIRST_ENTITY_SECOND_ENTITY ADD CONSTRAINT fk_first_entity_second_entity_second_entity FOREIGN KEY (second_entity_id) REFERENCES SECOND_ENTITY(id);""", sqlStatement);
         });
     }
+
+    @Test
+    void shouldTypeJoinColumnsAfterReferencedIds() {
+        ManyToManyCreator creator = new ManyToManyCreator(new ManyToManyColumnDefinition(Tag.class, Article.class));
+
+        assertEquals("""
+CREATE TABLE IF NOT EXISTS ARTICLE_TAG (
+article_id uuid NOT NULL,
+tag_id varchar(255) NOT NULL,
+PRIMARY KEY (article_id, tag_id)
+);""", creator.getCreateTableStatement());
+    }
 }
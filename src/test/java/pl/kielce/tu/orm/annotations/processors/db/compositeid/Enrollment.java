@@ -0,0 +1,37 @@
+package pl.kielce.tu.orm.annotations.processors.db.compositeid;
+
+import pl.kielce.tu.orm.annotations.*;
+
+@Entity
+@IdClass(EnrollmentId.class)
+public class Enrollment {
+    @Id
+    private Long studentId;
+    @Id
+    private Long courseId;
+    private Integer grade;
+
+    public Enrollment() {}
+
+    public Enrollment(Long studentId, Long courseId, Integer grade) {
+        this.studentId = studentId;
+        this.courseId = courseId;
+        this.grade = grade;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public Integer getGrade() {
+        return grade;
+    }
+
+    public void setGrade(Integer grade) {
+        this.grade = grade;
+    }
+}
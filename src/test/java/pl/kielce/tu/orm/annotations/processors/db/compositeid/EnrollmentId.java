@@ -0,0 +1,35 @@
+package pl.kielce.tu.orm.annotations.processors.db.compositeid;
+
+import java.util.Objects;
+
+public class EnrollmentId {
+    private Long studentId;
+    private Long courseId;
+
+    public EnrollmentId() {}
+
+    public EnrollmentId(Long studentId, Long courseId) {
+        this.studentId = studentId;
+        this.courseId = courseId;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EnrollmentId that)) return false;
+        return Objects.equals(studentId, that.studentId) && Objects.equals(courseId, that.courseId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(studentId, courseId);
+    }
+}
@@ -0,0 +1,48 @@
+package pl.kielce.tu.orm.annotations.processors.db.index;
+
+import pl.kielce.tu.orm.annotations.*;
+
+@Entity
+@Index(columns = "name")
+@Index(name = "ux_author_email_active", columns = {"email"}, unique = true, where = "active = true")
+public class Author {
+    @Id
+    private Long id;
+    private String name;
+    private String email;
+    private Boolean active;
+
+    public Author() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+}
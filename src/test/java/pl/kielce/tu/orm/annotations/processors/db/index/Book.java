@@ -0,0 +1,48 @@
+package pl.kielce.tu.orm.annotations.processors.db.index;
+
+import pl.kielce.tu.orm.annotations.*;
+
+@Entity
+@Index(columns = {"published_at"}, method = Index.Method.BRIN)
+public class Book {
+    @Id
+    private Long id;
+    private String title;
+    private Long publishedAt;
+    @ManyToOne(entity = Author.class)
+    private Author author;
+
+    public Book() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public Long getPublishedAt() {
+        return publishedAt;
+    }
+
+    public void setPublishedAt(Long publishedAt) {
+        this.publishedAt = publishedAt;
+    }
+
+    public Author getAuthor() {
+        return author;
+    }
+
+    public void setAuthor(Author author) {
+        this.author = author;
+    }
+}
@@ -0,0 +1,36 @@
+package pl.kielce.tu.orm.annotations.processors.db.lob;
+
+import pl.kielce.tu.orm.annotations.*;
+
+import java.io.InputStream;
+import java.io.Reader;
+
+@Entity
+public class Document {
+    @Id
+    private Long id;
+    private String title;
+    @Lob
+    private InputStream content;
+    @Lob
+    @Column(nullable = true)
+    private Reader summary;
+
+    public Document() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public InputStream getContent() {
+        return content;
+    }
+
+    public Reader getSummary() {
+        return summary;
+    }
+}
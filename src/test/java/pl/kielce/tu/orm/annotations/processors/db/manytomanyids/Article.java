@@ -0,0 +1,16 @@
+package pl.kielce.tu.orm.annotations.processors.db.manytomanyids;
+
+import pl.kielce.tu.orm.annotations.Entity;
+import pl.kielce.tu.orm.annotations.Id;
+import pl.kielce.tu.orm.annotations.ManyToMany;
+
+import java.util.List;
+import java.util.UUID;
+
+@Entity
+public class Article {
+    @Id
+    private UUID id;
+    @ManyToMany(entity = Tag.class, mappedBy = "articles")
+    private List<Tag> tags;
+}
@@ -0,0 +1,15 @@
+package pl.kielce.tu.orm.annotations.processors.db.manytomanyids;
+
+import pl.kielce.tu.orm.annotations.Entity;
+import pl.kielce.tu.orm.annotations.Id;
+import pl.kielce.tu.orm.annotations.ManyToMany;
+
+import java.util.List;
+
+@Entity
+public class Tag {
+    @Id
+    private String id;
+    @ManyToMany(entity = Article.class, mappedBy = "tags")
+    private List<Article> articles;
+}
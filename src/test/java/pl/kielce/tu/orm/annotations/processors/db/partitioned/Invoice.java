@@ -0,0 +1,40 @@
+package pl.kielce.tu.orm.annotations.processors.db.partitioned;
+
+import pl.kielce.tu.orm.annotations.*;
+
+import java.time.Instant;
+
+@Entity
+@Partitioned(property = "issuedAt", interval = Partitioned.Interval.MONTH, premake = 2)
+public class Invoice {
+    @Id
+    private Long id;
+    private String number;
+    private Instant issuedAt;
+
+    public Invoice() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getNumber() {
+        return number;
+    }
+
+    public void setNumber(String number) {
+        this.number = number;
+    }
+
+    public Instant getIssuedAt() {
+        return issuedAt;
+    }
+
+    public void setIssuedAt(Instant issuedAt) {
+        this.issuedAt = issuedAt;
+    }
+}
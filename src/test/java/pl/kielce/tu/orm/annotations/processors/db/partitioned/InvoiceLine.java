@@ -0,0 +1,29 @@
+package pl.kielce.tu.orm.annotations.processors.db.partitioned;
+
+import pl.kielce.tu.orm.annotations.*;
+
+@Entity
+public class InvoiceLine {
+    @Id
+    private Long id;
+    @ManyToOne(entity = Invoice.class)
+    private Invoice invoice;
+
+    public InvoiceLine() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Invoice getInvoice() {
+        return invoice;
+    }
+
+    public void setInvoice(Invoice invoice) {
+        this.invoice = invoice;
+    }
+}
@@ -0,0 +1,31 @@
+package pl.kielce.tu.orm.annotations.processors.db.partitioned;
+
+import pl.kielce.tu.orm.annotations.*;
+
+import java.time.Instant;
+
+@Entity
+@Partitioned(property = "paid_at")
+public class Payment {
+    @Id
+    private Long id;
+    private Instant paidAt;
+
+    public Payment() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Instant getPaidAt() {
+        return paidAt;
+    }
+
+    public void setPaidAt(Instant paidAt) {
+        this.paidAt = paidAt;
+    }
+}
@@ -0,0 +1,53 @@
+package pl.kielce.tu.orm.annotations.processors.db.types;
+
+import pl.kielce.tu.orm.annotations.*;
+import pl.kielce.tu.orm.json.JsonDocument;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+@Entity
+public class Measurement {
+    public enum Unit {
+        CELSIUS, KELVIN
+    }
+
+    @Id
+    private Long id;
+    private long sequence;
+    private double reading;
+    private BigDecimal price;
+    private byte[] checksum;
+    private Unit unit;
+    @Enumerated(EnumType.STRING)
+    private Unit displayUnit;
+    private LocalDate takenOn;
+    @Column(nullable = true)
+    private OffsetDateTime syncedAt;
+    @Json
+    @Column(nullable = true)
+    private JsonDocument attributes;
+
+    public Measurement() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public double getReading() {
+        return reading;
+    }
+
+    public Unit getUnit() {
+        return unit;
+    }
+
+    public Unit getDisplayUnit() {
+        return displayUnit;
+    }
+}
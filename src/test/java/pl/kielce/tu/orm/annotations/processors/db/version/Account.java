@@ -0,0 +1,34 @@
+package pl.kielce.tu.orm.annotations.processors.db.version;
+
+import pl.kielce.tu.orm.annotations.*;
+
+@Entity
+public class Account {
+    @Id
+    private Long id;
+    private String owner;
+    @Version
+    private Long version;
+
+    public Account() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,39 @@
+package pl.kielce.tu.orm.classloader;
+
+import org.junit.jupiter.api.Test;
+import pl.kielce.tu.orm.annotations.processors.db.defaultname.TestDefaultName;
+import pl.kielce.tu.orm.classloader.db.TestEntity;
+import pl.kielce.tu.orm.classloader.db.inherit.InheritTestEntity;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClassFileAnnotationReaderTest {
+    private static final String ENTITY_DESCRIPTOR = "Lpl/kielce/tu/orm/annotations/Entity;";
+
+    @Test
+    void shouldDetectEntityAnnotationFromClassBytes() throws IOException {
+        assertTrue(ClassFileAnnotationReader.hasClassAnnotation(readClass(TestEntity.class), ENTITY_DESCRIPTOR));
+    }
+
+    @Test
+    void shouldNotDetectEntityAnnotationOnPlainClass() throws IOException {
+        assertFalse(ClassFileAnnotationReader.hasClassAnnotation(readClass(InheritTestEntity.class), ENTITY_DESCRIPTOR));
+    }
+
+    @Test
+    void shouldNotTreatFieldAnnotationsAsClassAnnotations() throws IOException {
+        String idDescriptor = "Lpl/kielce/tu/orm/annotations/Id;";
+
+        assertFalse(ClassFileAnnotationReader.hasClassAnnotation(readClass(TestDefaultName.class), idDescriptor));
+    }
+
+    private static byte[] readClass(Class<?> type) throws IOException {
+        try (InputStream input = type.getResourceAsStream(type.getSimpleName() + ".class")) {
+            return input.readAllBytes();
+        }
+    }
+}
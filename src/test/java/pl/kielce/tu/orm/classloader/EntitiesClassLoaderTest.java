@@ -1,12 +1,42 @@
 package pl.kielce.tu.orm.classloader;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class EntitiesClassLoaderTest {
+    private static final String ENTITY_SOURCE = """
+            package %s;
+
+            @pl.kielce.tu.orm.annotations.Entity
+            public class %s {
+            }
+            """;
+    private static final String PLAIN_SOURCE = """
+            package %s;
+
+            public class %s {
+            }
+            """;
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void cleanup() {
+        EntitiesClassLoader.clearCache();
+    }
 
     @Test
     void shouldReadAllClassesFromPackage() {
@@ -27,4 +57,75 @@ class EntitiesClassLoaderTest {
 
         assertEquals(1, classes.size());
     }
+
+    @Test
+    void shouldFindEntitiesInJarFiles() throws Exception {
+        Path classes = TestClasses.compile(directory.resolve("jar"), Map.of(
+                "jarscan.Order", ENTITY_SOURCE.formatted("jarscan", "Order"),
+                "jarscan.Helper", PLAIN_SOURCE.formatted("jarscan", "Helper")), false);
+        Path jar = TestClasses.jar(classes, directory.resolve("entities.jar"));
+
+        try (URLClassLoader classLoader = classLoader(jar)) {
+            Set<Class<?>> entities = new EntitiesClassLoader(classLoader).findEntities("jarscan");
+
+            assertEquals(Set.of("jarscan.Order"), names(entities));
+        }
+    }
+
+    @Test
+    void shouldScanClasspathRootsNotCoveredByIndex() throws Exception {
+        Path indexedClasses = TestClasses.compile(directory.resolve("indexed"), Map.of(
+                "mixed.Order", ENTITY_SOURCE.formatted("mixed", "Order")), true);
+        Path indexedJar = TestClasses.jar(indexedClasses, directory.resolve("indexed.jar"));
+        Path scannedClasses = TestClasses.compile(directory.resolve("scanned"), Map.of(
+                "mixed.Customer", ENTITY_SOURCE.formatted("mixed", "Customer"),
+                "mixed.Helper", PLAIN_SOURCE.formatted("mixed", "Helper")), false);
+
+        try (URLClassLoader classLoader = classLoader(indexedJar, scannedClasses)) {
+            Set<Class<?>> entities = new EntitiesClassLoader(classLoader).findEntities("mixed");
+
+            assertEquals(Set.of("mixed.Order", "mixed.Customer"), names(entities));
+        }
+    }
+
+    @Test
+    void shouldIgnoreStaleIndexEntries() throws Exception {
+        Path classes = TestClasses.compile(directory, Map.of(
+                "stale.Order", ENTITY_SOURCE.formatted("stale", "Order"),
+                "stale.Helper", PLAIN_SOURCE.formatted("stale", "Helper")), true);
+        Files.writeString(classes.resolve(EntityIndex.LOCATION), "stale.Helper\nstale.Removed\n",
+                StandardOpenOption.APPEND);
+
+        try (URLClassLoader classLoader = classLoader(classes)) {
+            Set<Class<?>> entities = new EntitiesClassLoader(classLoader).findEntities("stale");
+
+            assertEquals(Set.of("stale.Order"), names(entities));
+        }
+    }
+
+    @Test
+    void shouldNotShareFoundEntitiesBetweenClassLoaders() throws Exception {
+        Path firstClasses = TestClasses.compile(directory.resolve("first"), Map.of(
+                "shared.Order", ENTITY_SOURCE.formatted("shared", "Order")), false);
+        Path secondClasses = TestClasses.compile(directory.resolve("second"), Map.of(
+                "shared.Customer", ENTITY_SOURCE.formatted("shared", "Customer")), false);
+
+        try (URLClassLoader first = classLoader(firstClasses); URLClassLoader second = classLoader(secondClasses)) {
+            assertEquals(Set.of("shared.Order"), names(new EntitiesClassLoader(first).findEntities("shared")));
+            assertEquals(Set.of("shared.Customer"), names(new EntitiesClassLoader(second).findEntities("shared")));
+        }
+    }
+
+    private static URLClassLoader classLoader(Path... roots) throws Exception {
+        URL[] urls = new URL[roots.length];
+        for (int i = 0; i < roots.length; i++) {
+            urls[i] = roots[i].toUri().toURL();
+        }
+
+        return new URLClassLoader(urls, EntitiesClassLoaderTest.class.getClassLoader());
+    }
+
+    private static Set<String> names(Set<Class<?>> classes) {
+        return classes.stream().map(Class::getName).collect(Collectors.toSet());
+    }
 }
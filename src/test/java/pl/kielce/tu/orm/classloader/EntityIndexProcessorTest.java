@@ -0,0 +1,63 @@
+package pl.kielce.tu.orm.classloader;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class EntityIndexProcessorTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldIndexEntityClassesByBinaryName() throws Exception {
+        Path classes = TestClasses.compile(directory, Map.of(
+                "indexed.Order", """
+                        package indexed;
+
+                        @pl.kielce.tu.orm.annotations.Entity
+                        public class Order {
+                            @pl.kielce.tu.orm.annotations.Entity
+                            public static class Line {
+                            }
+                        }
+                        """,
+                "indexed.Customer", """
+                        package indexed;
+
+                        @pl.kielce.tu.orm.annotations.Entity
+                        public class Customer {
+                        }
+                        """,
+                "indexed.Helper", """
+                        package indexed;
+
+                        public class Helper {
+                        }
+                        """), true);
+
+        List<String> index = Files.readAllLines(classes.resolve(EntityIndex.LOCATION));
+
+        assertEquals(List.of("indexed.Customer", "indexed.Order", "indexed.Order$Line"), index);
+    }
+
+    @Test
+    void shouldNotWriteIndexWithoutEntities() throws Exception {
+        Path classes = TestClasses.compile(directory, Map.of(
+                "indexed.Helper", """
+                        package indexed;
+
+                        public class Helper {
+                        }
+                        """), true);
+
+        assertFalse(Files.exists(classes.resolve(EntityIndex.LOCATION)));
+    }
+}
@@ -0,0 +1,69 @@
+package pl.kielce.tu.orm.classloader;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Compiles test sources into a directory or JAR file outside the test classpath.
+ */
+final class TestClasses {
+
+    private TestClasses() {}
+
+    /**
+     * Sources are given as class name to source code. The entity index is written only when {@code indexed} is set.
+     */
+    static Path compile(Path directory, Map<String, String> sources, boolean indexed) throws IOException {
+        Path sourceDirectory = Files.createDirectories(directory.resolve("src"));
+        Path classesDirectory = Files.createDirectories(directory.resolve("classes"));
+
+        List<String> arguments = new ArrayList<>(List.of("-d", classesDirectory.toString(),
+                "-cp", System.getProperty("java.class.path")));
+        if (indexed) {
+            arguments.addAll(List.of("-processor", EntityIndexProcessor.class.getName()));
+        } else {
+            arguments.add("-proc:none");
+        }
+
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            Path sourceFile = sourceDirectory.resolve(source.getKey().replace('.', '/') + ".java");
+            Files.createDirectories(sourceFile.getParent());
+            Files.writeString(sourceFile, source.getValue());
+            arguments.add(sourceFile.toString());
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler.run(null, null, null, arguments.toArray(String[]::new)) != 0) {
+            throw new IllegalStateException("Cannot compile test sources " + sources.keySet());
+        }
+
+        return classesDirectory;
+    }
+
+    static Path jar(Path classesDirectory, Path jarFile) throws IOException {
+        try (JarOutputStream jar = new JarOutputStream(Files.newOutputStream(jarFile));
+             Stream<Path> files = Files.walk(classesDirectory)) {
+            for (Path file : files.filter(file -> !file.equals(classesDirectory)).toList()) {
+                String name = classesDirectory.relativize(file).toString().replace('\\', '/');
+                if (Files.isDirectory(file)) {
+                    jar.putNextEntry(new JarEntry(name + "/"));
+                } else {
+                    jar.putNextEntry(new JarEntry(name));
+                    Files.copy(file, jar);
+                }
+                jar.closeEntry();
+            }
+        }
+
+        return jarFile;
+    }
+}
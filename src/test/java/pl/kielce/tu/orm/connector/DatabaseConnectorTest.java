@@ -0,0 +1,113 @@
+package pl.kielce.tu.orm.connector;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DatabaseConnectorTest {
+    private DatabaseConnector connector;
+
+    @BeforeEach
+    void setUp() {
+        connector = new DatabaseConnector("jdbc:h2:mem:pool;DB_CLOSE_DELAY=-1", "sa", "", "org.h2.Driver", 2, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connector.closeConnection();
+    }
+
+    @Test
+    void shouldReuseReleasedConnections() throws Exception {
+        Connection first = connector.acquireConnection();
+        connector.releaseConnection(first);
+
+        Connection second = connector.acquireConnection();
+        try {
+            assertSame(first, second);
+            assertEquals(1, connector.getAvailableConnections());
+        } finally {
+            connector.releaseConnection(second);
+        }
+    }
+
+    @Test
+    void shouldWaitForReleaseWhenPoolIsExhausted() throws Exception {
+        Connection first = connector.acquireConnection();
+        Connection second = connector.acquireConnection();
+        assertEquals(0, connector.getAvailableConnections());
+
+        CompletableFuture<Connection> third = CompletableFuture.supplyAsync(() -> {
+            try {
+                return connector.acquireConnection();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThrows(TimeoutException.class, () -> third.get(100, TimeUnit.MILLISECONDS));
+
+        connector.releaseConnection(first);
+        assertSame(first, third.get(5, TimeUnit.SECONDS));
+
+        connector.releaseConnection(second);
+        connector.releaseConnection(third.get());
+        assertEquals(2, connector.getAvailableConnections());
+    }
+
+    @Test
+    void shouldRollBackUncommittedWorkOnRelease() throws Exception {
+        Connection connection = connector.acquireConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("CREATE TABLE IF NOT EXISTS pool_row (id integer PRIMARY KEY)");
+            statement.executeUpdate("DELETE FROM pool_row");
+        }
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("INSERT INTO pool_row VALUES (1)");
+        }
+
+        connector.releaseConnection(connection);
+
+        Connection reused = connector.acquireConnection();
+        try (Statement statement = reused.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM pool_row")) {
+            resultSet.next();
+            assertTrue(reused.getAutoCommit());
+            assertEquals(0, resultSet.getInt(1));
+        } finally {
+            connector.releaseConnection(reused);
+        }
+    }
+
+    @Test
+    void shouldBindConnectionToCurrentThreadOnly() throws Exception {
+        Connection connection = connector.acquireConnection();
+        connector.bindConnection(connection);
+        try {
+            AtomicReference<Connection> seenByOtherThread = new AtomicReference<>(connection);
+            Thread.ofVirtual().start(() -> seenByOtherThread.set(connector.getBoundConnection())).join();
+
+            assertSame(connection, connector.getConnection());
+            assertNull(seenByOtherThread.get());
+        } finally {
+            connector.unbindConnection();
+            connector.releaseConnection(connection);
+        }
+
+        assertNull(connector.getBoundConnection());
+    }
+}
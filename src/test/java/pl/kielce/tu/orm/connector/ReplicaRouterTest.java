@@ -0,0 +1,107 @@
+package pl.kielce.tu.orm.connector;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.kielce.tu.orm.config.ORMConfiguration;
+import pl.kielce.tu.orm.dialects.PostgreSQLDialect;
+import pl.kielce.tu.orm.dialects.SQLDialect;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReplicaRouterTest {
+    private static final String DRIVER = StubDriver.class.getName();
+    private static final String FIRST_REPLICA = "jdbc:stub:replica1";
+    private static final String SECOND_REPLICA = "jdbc:stub:replica2";
+
+    private SQLDialect previousDialect;
+
+    @BeforeEach
+    void setUp() {
+        previousDialect = ORMConfiguration.getInstance().getDialect();
+        ORMConfiguration.getInstance().setDialect(new PostgreSQLDialect());
+        StubDriver.LAG_MILLIS.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ORMConfiguration.getInstance().setDialect(previousDialect);
+    }
+
+    @Test
+    void shouldBalanceReadsAcrossReplicas() throws SQLException {
+        DatabaseConnector primary = primary(0);
+
+        assertEquals(FIRST_REPLICA, readCatalog(primary));
+        assertEquals(SECOND_REPLICA, readCatalog(primary));
+        assertEquals(FIRST_REPLICA, readCatalog(primary));
+        assertNull(primary.getBoundConnection());
+    }
+
+    @Test
+    void shouldSkipReplicasBeyondLagTolerance() throws SQLException {
+        StubDriver.LAG_MILLIS.put(FIRST_REPLICA, 5000L);
+        DatabaseConnector primary = primary(0);
+
+        assertEquals(SECOND_REPLICA, readCatalog(primary));
+        assertEquals(SECOND_REPLICA, readCatalog(primary));
+
+        StubDriver.LAG_MILLIS.put(SECOND_REPLICA, 5000L);
+        DatabaseConnector lagging = primary(0);
+
+        assertFalse(lagging.beginReplicaRead());
+    }
+
+    @Test
+    void shouldReadOwnWritesFromPrimary() {
+        DatabaseConnector sticky = primary(60_000);
+        DatabaseConnector nonSticky = primary(0);
+
+        sticky.recordWrite();
+        nonSticky.recordWrite();
+
+        assertFalse(sticky.beginReplicaRead());
+        assertTrue(nonSticky.beginReplicaRead());
+        nonSticky.endReplicaRead();
+    }
+
+    @Test
+    void shouldKeepReadsOnBoundConnection() throws Exception {
+        DatabaseConnector primary = primary(0);
+        Connection transactionConnection = primary.acquireConnection();
+        primary.bindConnection(transactionConnection);
+
+        try {
+            assertFalse(primary.beginReplicaRead());
+            assertEquals("jdbc:stub:primary", primary.getConnection().getCatalog());
+        } finally {
+            primary.unbindConnection();
+            primary.releaseConnection(transactionConnection);
+        }
+    }
+
+    private static String readCatalog(DatabaseConnector primary) throws SQLException {
+        assertTrue(primary.beginReplicaRead());
+        try {
+            return primary.getConnection().getCatalog();
+        } finally {
+            primary.endReplicaRead();
+        }
+    }
+
+    private static DatabaseConnector primary(long readYourWritesMillis) {
+        List<DatabaseConnector> replicas = List.of(
+                new DatabaseConnector(FIRST_REPLICA, "sa", "", DRIVER, 2, null),
+                new DatabaseConnector(SECOND_REPLICA, "sa", "", DRIVER, 2, null));
+        ReplicaRouter router = new ReplicaRouter(replicas, 1000, 60_000, readYourWritesMillis);
+
+        return new DatabaseConnector("jdbc:stub:primary", "sa", "", DRIVER, 2, router);
+    }
+}
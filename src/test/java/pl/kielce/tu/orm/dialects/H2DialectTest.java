@@ -0,0 +1,37 @@
+package pl.kielce.tu.orm.dialects;
+
+import org.junit.jupiter.api.Test;
+import pl.kielce.tu.orm.definitions.IndexDefinition;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class H2DialectTest {
+    private final H2Dialect dialect = new H2Dialect();
+
+    @Test
+    void shouldMergeOnKeyColumns() {
+        String sql = dialect.upsert("FIRST_ENTITY_SECOND_ENTITY", List.of("first_entity_id", "second_entity_id"),
+                List.of("first_entity_id", "second_entity_id"));
+
+        assertEquals("MERGE INTO FIRST_ENTITY_SECOND_ENTITY (first_entity_id, second_entity_id) " +
+                "KEY (first_entity_id, second_entity_id) VALUES (?, ?)", sql);
+    }
+
+    @Test
+    void shouldCreatePartialIndexOverAllRows() {
+        IndexDefinition index = new IndexDefinition("AUTHOR", "ux_author_email_active", List.of("email"), true,
+                "active = true", "btree");
+
+        assertEquals("CREATE INDEX IF NOT EXISTS ux_author_email_active ON AUTHOR (email);",
+                dialect.createIndex(index, true));
+    }
+
+    @Test
+    void shouldBindIdsAsArray() {
+        assertEquals("id = ANY (?)", dialect.inCondition("id", 3));
+        assertFalse(dialect.supportsPartitioning());
+    }
+}
@@ -0,0 +1,23 @@
+package pl.kielce.tu.orm.dialects;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PostgreSQLDialectTest {
+    private final PostgreSQLDialect dialect = new PostgreSQLDialect();
+
+    @Test
+    void shouldBindJsonPathAsSingleTextArray() {
+        assertEquals("attributes #>> ?::text[] = ?", dialect.jsonPathCondition("attributes", 2));
+        assertEquals(List.of("{\"tags\",\"0\"}"), dialect.jsonPathParameters(List.of("tags", "0")));
+    }
+
+    @Test
+    void shouldQuoteJsonPathKeys() {
+        assertEquals(List.of("{\"a,b\",\"say \\\"hi\\\"\",\"back\\\\slash\"}"),
+                dialect.jsonPathParameters(List.of("a,b", "say \"hi\"", "back\\slash")));
+    }
+}
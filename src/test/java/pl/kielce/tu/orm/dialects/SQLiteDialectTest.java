@@ -0,0 +1,48 @@
+package pl.kielce.tu.orm.dialects;
+
+import org.junit.jupiter.api.Test;
+import pl.kielce.tu.orm.definitions.IndexDefinition;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SQLiteDialectTest {
+    private final SQLiteDialect dialect = new SQLiteDialect();
+
+    @Test
+    void shouldUpsertOnConflict() {
+        String sql = dialect.upsert("ACCOUNT", List.of("id", "owner"), List.of("id"));
+
+        assertEquals("INSERT INTO ACCOUNT (id, owner) VALUES (?, ?) ON CONFLICT (id) DO UPDATE SET owner = excluded.owner", sql);
+    }
+
+    @Test
+    void shouldExpandInConditionWithoutArrays() {
+        assertFalse(dialect.supportsArrayParameters());
+        assertEquals("id IN (?, ?, ?)", dialect.inCondition("id", 3));
+    }
+
+    @Test
+    void shouldKeepPartialIndexCondition() {
+        IndexDefinition index = new IndexDefinition("AUTHOR", "ux_author_email_active", List.of("email"), true,
+                "active = true", "btree");
+
+        assertEquals("CREATE UNIQUE INDEX IF NOT EXISTS ux_author_email_active ON AUTHOR (email) WHERE active = true;",
+                dialect.createIndex(index, true));
+    }
+
+    @Test
+    void shouldExtractJsonPathAsSingleParameter() {
+        assertEquals("CAST(json_extract(attributes, ?) AS TEXT) = ?", dialect.jsonPathCondition("attributes", 2));
+        assertEquals(List.of("$.\"address\".\"city\""), dialect.jsonPathParameters(List.of("address", "city")));
+        assertEquals(List.of("$.\"tags\"[1]"), dialect.jsonPathParameters(List.of("tags", "1")));
+    }
+
+    @Test
+    void shouldRejectSequences() {
+        assertThrows(UnsupportedOperationException.class, () -> dialect.nextSequenceValue("account_seq"));
+    }
+}
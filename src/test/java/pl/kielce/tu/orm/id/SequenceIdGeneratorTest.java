@@ -0,0 +1,56 @@
+package pl.kielce.tu.orm.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SequenceIdGeneratorTest {
+
+    @Test
+    void shouldHandOutWholeBlockBeforeCallingSequence() {
+        AtomicLong sequence = new AtomicLong(1);
+        AtomicLong calls = new AtomicLong();
+        SequenceIdGenerator generator = new SequenceIdGenerator(3, () -> {
+            calls.incrementAndGet();
+            return sequence.getAndAdd(3);
+        });
+
+        List<Long> ids = IntStream.range(0, 7).mapToObj(i -> generator.nextId()).toList();
+
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L), ids);
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void shouldNotRepeatIdsAcrossThreads() throws Exception {
+        AtomicLong sequence = new AtomicLong(1);
+        SequenceIdGenerator generator = new SequenceIdGenerator(50, () -> sequence.getAndAdd(50));
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                executor.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        ids.add(generator.nextId());
+                    }
+                });
+            }
+        }
+
+        assertEquals(8000, ids.size());
+    }
+
+    @Test
+    void shouldRejectNonPositiveAllocationSize() {
+        assertThrows(IllegalArgumentException.class, () -> new SequenceIdGenerator(0, () -> 1L));
+    }
+}
@@ -0,0 +1,66 @@
+package pl.kielce.tu.orm.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UuidV7GeneratorTest {
+    private final UuidV7Generator generator = new UuidV7Generator();
+
+    @Test
+    void shouldGenerateVersion7Uuid() {
+        UUID uuid = generator.nextId();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    void shouldEncodeCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = generator.nextId();
+
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+
+        assertTrue(timestamp >= before);
+        assertTrue(timestamp <= System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    void shouldGenerateIncreasingIds() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.nextId());
+        }
+
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(Long.compareUnsigned(ids.get(i - 1).getMostSignificantBits(), ids.get(i).getMostSignificantBits()) < 0);
+        }
+    }
+
+    @Test
+    void shouldNotRepeatIdsAcrossThreads() {
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                executor.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        ids.add(generator.nextId());
+                    }
+                });
+            }
+        }
+
+        assertEquals(8000, ids.size());
+    }
+}
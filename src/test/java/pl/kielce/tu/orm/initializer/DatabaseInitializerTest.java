@@ -0,0 +1,42 @@
+package pl.kielce.tu.orm.initializer;
+
+import org.junit.jupiter.api.Test;
+import pl.kielce.tu.orm.annotations.Entity;
+import pl.kielce.tu.orm.annotations.GeneratedValue;
+import pl.kielce.tu.orm.annotations.Id;
+import pl.kielce.tu.orm.dialects.H2Dialect;
+import pl.kielce.tu.orm.dialects.SQLiteDialect;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DatabaseInitializerTest {
+
+    @Test
+    void shouldCreateSequenceForSequenceIds() {
+        SchemaGraph schemaGraph = new SchemaGraph();
+
+        DatabaseInitializer.createSequences(Set.of(Invoice.class), schemaGraph, new H2Dialect());
+
+        assertEquals(1, schemaGraph.getLevels().size());
+        assertTrue(schemaGraph.getLevels().get(0).get(0).statement().startsWith("CREATE SEQUENCE"));
+    }
+
+    @Test
+    void shouldRejectSequenceIdsWithoutSequenceSupport() {
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> DatabaseInitializer.createSequences(Set.of(Invoice.class), new SchemaGraph(), new SQLiteDialect()));
+
+        assertTrue(exception.getMessage().contains(Invoice.class.getName()));
+    }
+
+    @Entity
+    static class Invoice {
+        @Id
+        @GeneratedValue(strategy = GeneratedValue.Strategy.SEQUENCE)
+        private Long id;
+    }
+}
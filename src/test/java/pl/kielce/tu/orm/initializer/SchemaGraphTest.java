@@ -0,0 +1,55 @@
+package pl.kielce.tu.orm.initializer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SchemaGraphTest {
+
+    @Test
+    void shouldPutIndependentTablesOnTheSameLevel() {
+        SchemaGraph schemaGraph = new SchemaGraph();
+        schemaGraph.addNode("FIRST_ENTITY", "CREATE TABLE FIRST_ENTITY", Set.of());
+        schemaGraph.addNode("SECOND_ENTITY", "CREATE TABLE SECOND_ENTITY", Set.of());
+
+        List<List<SchemaGraph.Node>> levels = schemaGraph.getLevels();
+
+        assertEquals(1, levels.size());
+        assertEquals(2, levels.get(0).size());
+    }
+
+    @Test
+    void shouldCreateJunctionTableAfterReferencedTables() {
+        SchemaGraph schemaGraph = new SchemaGraph();
+        schemaGraph.addNode("FIRST_ENTITY_SECOND_ENTITY", "CREATE TABLE FIRST_ENTITY_SECOND_ENTITY",
+                Set.of("FIRST_ENTITY", "SECOND_ENTITY"));
+        schemaGraph.addNode("FIRST_ENTITY", "CREATE TABLE FIRST_ENTITY", Set.of());
+        schemaGraph.addNode("SECOND_ENTITY", "CREATE TABLE SECOND_ENTITY", Set.of());
+
+        List<List<SchemaGraph.Node>> levels = schemaGraph.getLevels();
+
+        assertEquals(2, levels.size());
+        assertEquals("FIRST_ENTITY_SECOND_ENTITY", levels.get(1).get(0).name());
+    }
+
+    @Test
+    void shouldIgnoreDependenciesOutsideOfTheGraph() {
+        SchemaGraph schemaGraph = new SchemaGraph();
+        schemaGraph.addNode("CHILD", "CREATE TABLE CHILD", Set.of("EXISTING_TABLE"));
+
+        assertEquals(1, schemaGraph.getLevels().size());
+    }
+
+    @Test
+    void shouldRejectDependencyCycle() {
+        SchemaGraph schemaGraph = new SchemaGraph();
+        schemaGraph.addNode("PARENT", "CREATE TABLE PARENT", Set.of("CHILD"));
+        schemaGraph.addNode("CHILD", "CREATE TABLE CHILD", Set.of("PARENT"));
+
+        assertThrows(IllegalStateException.class, schemaGraph::getLevels);
+    }
+}
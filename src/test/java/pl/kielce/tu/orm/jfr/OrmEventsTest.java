@@ -0,0 +1,58 @@
+package pl.kielce.tu.orm.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import pl.kielce.tu.orm.annotations.processors.db.version.Account;
+import pl.kielce.tu.orm.mapping.EntityMapping;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrmEventsTest {
+
+    @Test
+    void shouldRecordCacheLookups() throws Exception {
+        Path file = Files.createTempFile("orm", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(OrmCacheLookupEvent.class).withoutThreshold();
+            recording.start();
+            EntityMapping.of(Account.class);
+            EntityMapping.of(Account.class);
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals("pl.kielce.tu.orm.OrmCacheLookup"))
+                    .toList();
+
+            assertEquals(2, events.size());
+            assertEquals("entityMapping", events.get(1).getString("cache"));
+            assertTrue(events.get(1).getBoolean("hit"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void shouldShipSettingsForAllEvents() throws Exception {
+        try (Reader reader = new InputStreamReader(getClass().getResourceAsStream("/jfr/orm.jfc"), StandardCharsets.UTF_8)) {
+            Configuration configuration = Configuration.create(reader);
+
+            for (String event : List.of("OrmQuery", "OrmHydration", "OrmFlush", "OrmPoolAcquire", "OrmCacheLookup")) {
+                assertNotNull(configuration.getSettings().get("pl.kielce.tu.orm." + event + "#enabled"));
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package pl.kielce.tu.orm.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonDocumentTest {
+    private static final String JSON = "{ \"address\": {\"city\": \"Kielce\", \"zip\": 25314}, \"tags\": [\"a\", \"b\"] }";
+
+    @Test
+    void shouldKeepTextUntilAccessed() {
+        JsonDocument document = JsonDocument.of(JSON);
+
+        assertFalse(document.isParsed());
+        assertSame(JSON, document.toJson());
+
+        assertEquals("Kielce", document.getString("address.city"));
+        assertTrue(document.isParsed());
+        assertSame(JSON, document.toJson());
+    }
+
+    @Test
+    void shouldReadPathsLikeTextOperator() {
+        JsonDocument document = JsonDocument.of(JSON);
+
+        assertEquals("25314", document.getString("address.zip"));
+        assertEquals("b", document.getString("tags.1"));
+        assertEquals("[\"a\",\"b\"]", document.getString("tags"));
+        assertNull(document.get("address.street"));
+        assertEquals(List.of("a", "b"), document.get("tags"));
+    }
+
+    @Test
+    void shouldSerializeOnlyWhenModified() {
+        JsonDocument document = JsonDocument.of(JSON);
+
+        document.set("address.city", "Warszawa").set("owner.name", "Jan").remove("tags");
+
+        assertTrue(document.isModified());
+        assertEquals("{\"address\":{\"city\":\"Warszawa\",\"zip\":25314},\"owner\":{\"name\":\"Jan\"}}",
+                document.toJson());
+        assertFalse(document.isModified());
+    }
+
+    @Test
+    void shouldRejectInvalidPaths() {
+        JsonDocument document = JsonDocument.empty();
+
+        assertThrows(IllegalArgumentException.class, () -> document.get("address..city"));
+        assertThrows(IllegalArgumentException.class, () -> document.set("", "value"));
+    }
+
+    @Test
+    void shouldRejectMalformedJsonOnFirstAccess() {
+        JsonDocument document = JsonDocument.of("{\"city\": ");
+
+        assertThrows(IllegalArgumentException.class, () -> document.get("city"));
+    }
+}
@@ -0,0 +1,78 @@
+package pl.kielce.tu.orm.mapping;
+
+import org.junit.jupiter.api.Test;
+import pl.kielce.tu.orm.annotations.processors.db.defaultname.TestDefaultName;
+import pl.kielce.tu.orm.annotations.processors.db.lob.Document;
+import pl.kielce.tu.orm.annotations.processors.db.onetomany.Child;
+import pl.kielce.tu.orm.lob.LazyBinaryStream;
+import pl.kielce.tu.orm.lob.LazyCharacterStream;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class EntityMappingTest {
+
+    @Test
+    void shouldComputeColumnOrderOncePerEntity() {
+        assertSame(EntityMapping.of(TestDefaultName.class), EntityMapping.of(TestDefaultName.class));
+        assertEquals(List.of("id", "name", "age"), EntityMapping.of(TestDefaultName.class).getColumnNames());
+    }
+
+    @Test
+    void shouldSkipRelationshipColumns() {
+        assertEquals(List.of("id", "name"), EntityMapping.of(Child.class).getColumnNames());
+    }
+
+    @Test
+    void shouldHydrateEntityByColumnIndex() throws Exception {
+        TestDefaultName entity = EntityMapping.of(TestDefaultName.class).newInstance(resultSet(7L, "John", 42));
+
+        assertEquals(7L, entity.getId());
+        assertEquals("John", entity.getName());
+        assertEquals(42, entity.getAge());
+    }
+
+    @Test
+    void shouldLeaveNullColumnsUnset() throws Exception {
+        TestDefaultName entity = EntityMapping.of(TestDefaultName.class).newInstance(resultSet(7L, null, 42));
+
+        assertNull(entity.getName());
+    }
+
+    @Test
+    void shouldHydrateLobsAsUnreadLazyStreams() throws Exception {
+        EntityMapping<Document> mapping = EntityMapping.of(Document.class);
+
+        Document document = mapping.newInstance(resultSet(3L, "Report"));
+
+        assertEquals(List.of("id", "title"), mapping.getColumnNames());
+        LazyBinaryStream content = assertInstanceOf(LazyBinaryStream.class, document.getContent());
+        assertFalse(content.isOpened());
+        assertFalse(assertInstanceOf(LazyCharacterStream.class, document.getSummary()).isOpened());
+    }
+
+    private static ResultSet resultSet(Object... row) {
+        Object[] lastValue = new Object[1];
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("wasNull")) {
+                        return lastValue[0] == null;
+                    }
+                    Object value = row[(Integer) args[0] - 1];
+                    lastValue[0] = value;
+                    return switch (method.getName()) {
+                        case "getLong" -> value == null ? 0L : value;
+                        case "getInt" -> value == null ? 0 : value;
+                        case "getString", "getObject" -> value;
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    };
+                });
+    }
+}
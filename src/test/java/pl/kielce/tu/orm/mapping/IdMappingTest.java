@@ -0,0 +1,41 @@
+package pl.kielce.tu.orm.mapping;
+
+import org.junit.jupiter.api.Test;
+import pl.kielce.tu.orm.annotations.processors.db.compositeid.Enrollment;
+import pl.kielce.tu.orm.annotations.processors.db.compositeid.EnrollmentId;
+import pl.kielce.tu.orm.annotations.processors.db.defaultname.TestDefaultName;
+import pl.kielce.tu.orm.sql.SQLGenerator;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdMappingTest {
+
+    @Test
+    void shouldUseSingleIdField() {
+        IdMapping idMapping = IdMapping.of(TestDefaultName.class);
+
+        assertFalse(idMapping.isComposite());
+        assertEquals(List.of("id"), idMapping.getColumnNames());
+    }
+
+    @Test
+    void shouldBuildIdClassFromCompositeKey() throws Exception {
+        IdMapping idMapping = IdMapping.of(Enrollment.class);
+
+        Object id = idMapping.getId(new Enrollment(1L, 2L, 5));
+
+        assertTrue(idMapping.isComposite());
+        assertEquals(new EnrollmentId(1L, 2L), id);
+    }
+
+    @Test
+    void shouldGenerateCompositeKeyWhereClause() {
+        String sql = SQLGenerator.generateDeleteSQL("ENROLLMENT", IdMapping.of(Enrollment.class).getIdFields());
+
+        assertEquals("DELETE FROM ENROLLMENT WHERE student_id = ? AND course_id = ?", sql);
+    }
+}
@@ -0,0 +1,119 @@
+package pl.kielce.tu.orm.mapping;
+
+import org.junit.jupiter.api.Test;
+import pl.kielce.tu.orm.annotations.processors.db.defaultname.TestDefaultName;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProjectionMappingTest {
+
+    record NameAndAge(String name, Integer age) {
+    }
+
+    interface NameView {
+        String getName();
+    }
+
+    interface LabelView {
+        String getName();
+
+        default String label() {
+            return getName() + "!";
+        }
+    }
+
+    interface NameViewWithFactory {
+        String getName();
+
+        static String getDefaultName() {
+            return "unknown";
+        }
+    }
+
+    record UnknownProperty(String email) {
+    }
+
+    @Test
+    void shouldSelectOnlyRecordComponentColumns() {
+        ProjectionMapping<NameAndAge> mapping = ProjectionMapping.of(TestDefaultName.class, NameAndAge.class);
+
+        assertEquals(List.of("name", "age"), mapping.getColumnNames());
+    }
+
+    @Test
+    void shouldCacheMappingPerEntityAndProjection() {
+        assertSame(ProjectionMapping.of(TestDefaultName.class, NameAndAge.class),
+                ProjectionMapping.of(TestDefaultName.class, NameAndAge.class));
+    }
+
+    @Test
+    void shouldMapRecordByColumnIndex() throws Exception {
+        ProjectionMapping<NameAndAge> mapping = ProjectionMapping.of(TestDefaultName.class, NameAndAge.class);
+
+        NameAndAge result = mapping.map(resultSet("John", 42));
+
+        assertEquals(new NameAndAge("John", 42), result);
+    }
+
+    @Test
+    void shouldMapInterfaceProjection() throws Exception {
+        ProjectionMapping<NameView> mapping = ProjectionMapping.of(TestDefaultName.class, NameView.class);
+
+        NameView result = mapping.map(resultSet("John"));
+
+        assertEquals(List.of("name"), mapping.getColumnNames());
+        assertEquals("John", result.getName());
+    }
+
+    @Test
+    void shouldInvokeDefaultInterfaceMethods() throws Exception {
+        ProjectionMapping<LabelView> mapping = ProjectionMapping.of(TestDefaultName.class, LabelView.class);
+
+        LabelView result = mapping.map(resultSet("John"));
+
+        assertEquals(List.of("name"), mapping.getColumnNames());
+        assertEquals("John!", result.label());
+    }
+
+    @Test
+    void shouldIgnoreStaticInterfaceMethods() throws Exception {
+        ProjectionMapping<NameViewWithFactory> mapping =
+                ProjectionMapping.of(TestDefaultName.class, NameViewWithFactory.class);
+
+        NameViewWithFactory result = mapping.map(resultSet("John"));
+
+        assertEquals(List.of("name"), mapping.getColumnNames());
+        assertEquals("John", result.getName());
+    }
+
+    @Test
+    void shouldRejectPropertyWithoutColumn() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ProjectionMapping.of(TestDefaultName.class, UnknownProperty.class));
+    }
+
+    private static ResultSet resultSet(Object... row) {
+        Object[] lastValue = new Object[1];
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("wasNull")) {
+                        return lastValue[0] == null;
+                    }
+                    Object value = row[(Integer) args[0] - 1];
+                    lastValue[0] = value;
+                    return switch (method.getName()) {
+                        case "getInt" -> value == null ? 0 : value;
+                        case "getDouble" -> value == null ? 0.0 : value;
+                        case "getShort" -> value == null ? (short) 0 : value;
+                        case "getString", "getObject" -> value;
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    };
+                });
+    }
+}
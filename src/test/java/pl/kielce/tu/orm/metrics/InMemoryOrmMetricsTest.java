@@ -0,0 +1,96 @@
+package pl.kielce.tu.orm.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+import pl.kielce.tu.orm.annotations.processors.db.defaultname.TestDefaultName;
+import pl.kielce.tu.orm.config.ORMConfiguration;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryOrmMetricsTest {
+
+    @Test
+    void shouldRecordOperationLatenciesPerEntity() {
+        InMemoryOrmMetrics metrics = new InMemoryOrmMetrics();
+
+        metrics.recordOperation(TestDefaultName.class, "findById", 1_000);
+        metrics.recordOperation(TestDefaultName.class, "findById", 3_000);
+        metrics.recordOperation(TestDefaultName.class, "save", 2_000);
+
+        assertEquals(2, metrics.getOperationLatency(TestDefaultName.class, "findById").getTotalCount());
+        Histogram findById = metrics.getOperationLatency(TestDefaultName.class, "findById");
+        assertTrue(findById.valuesAreEquivalent(3_000, findById.getMaxValue()));
+        assertEquals(1, metrics.getOperationLatency(TestDefaultName.class, "save").getTotalCount());
+        assertEquals(0, metrics.getOperationLatency(TestDefaultName.class, "count").getTotalCount());
+    }
+
+    @Test
+    void shouldCountRowsAndCacheLookups() {
+        InMemoryOrmMetrics metrics = new InMemoryOrmMetrics();
+
+        metrics.recordRowsRead(TestDefaultName.class, 5);
+        metrics.recordRowsWritten(TestDefaultName.class, 2);
+        metrics.recordCacheLookup("entityMapping", true);
+        metrics.recordCacheLookup("entityMapping", true);
+        metrics.recordCacheLookup("entityMapping", true);
+        metrics.recordCacheLookup("entityMapping", false);
+
+        assertEquals(5, metrics.getRowsRead(TestDefaultName.class));
+        assertEquals(2, metrics.getRowsWritten(TestDefaultName.class));
+        assertEquals(0.75, metrics.getCacheHitRate("entityMapping"));
+
+        String dump = metrics.dump();
+        assertTrue(dump.contains("rows TestDefaultName read=5 written=2"));
+        assertTrue(dump.contains("cache entityMapping hits=3 misses=1"));
+
+        metrics.reset();
+        assertEquals(0, metrics.getRowsRead(TestDefaultName.class));
+    }
+
+    @Test
+    void shouldCountStatementsExecutedThroughInstrumentedConnection() throws Exception {
+        InMemoryOrmMetrics metrics = new InMemoryOrmMetrics();
+        OrmMetrics previous = ORMConfiguration.getInstance().getMetrics();
+        ORMConfiguration.getInstance().setMetrics(metrics);
+
+        PreparedStatement statement = (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {PreparedStatement.class},
+                (proxy, method, args) -> method.getName().equals("executeUpdate") ? 1 : null);
+        Connection connection = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {Connection.class},
+                (proxy, method, args) -> method.getName().equals("prepareStatement") ? statement : null);
+
+        try {
+            Connection instrumented = InstrumentedConnection.wrap(connection);
+            try (PreparedStatement prepared = instrumented.prepareStatement("DELETE FROM t")) {
+                prepared.setLong(1, 1L);
+                prepared.executeUpdate();
+                prepared.executeUpdate();
+            }
+
+            assertEquals(2, metrics.getStatementCount());
+            assertSame(instrumented, InstrumentedConnection.wrap(instrumented));
+        } finally {
+            ORMConfiguration.getInstance().setMetrics(previous);
+        }
+    }
+
+    @Test
+    void shouldLeaveConnectionUnwrappedWhenNothingIsInstrumented() {
+        Connection connection = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {Connection.class}, (proxy, method, args) -> null);
+        QueryLog disabled = new QueryLog(false, 500, 10, false, 0);
+        QueryLog enabled = new QueryLog(true, 500, 10, false, 0);
+
+        assertSame(connection, InstrumentedConnection.wrapIfInstrumented(connection, NoOpOrmMetrics.getInstance(), disabled));
+        assertNotSame(connection, InstrumentedConnection.wrapIfInstrumented(connection, NoOpOrmMetrics.getInstance(), enabled));
+        assertNotSame(connection, InstrumentedConnection.wrapIfInstrumented(connection, new InMemoryOrmMetrics(), disabled));
+    }
+}
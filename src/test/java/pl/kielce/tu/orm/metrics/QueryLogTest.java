@@ -0,0 +1,78 @@
+package pl.kielce.tu.orm.metrics;
+
+import org.junit.jupiter.api.Test;
+import pl.kielce.tu.orm.annotations.processors.db.defaultname.TestDefaultName;
+import pl.kielce.tu.orm.exceptions.NPlusOneQueryException;
+import pl.kielce.tu.orm.repository.impl.CrudRepositoryImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class QueryLogTest {
+
+    @Test
+    void shouldNormalizeStatementShapes() {
+        assertEquals("SELECT * FROM t WHERE id = ? AND name = ?",
+                QueryLog.shapeOf("SELECT *  FROM t\n WHERE id = 42 AND name = 'it''s'"));
+        assertEquals("SELECT * FROM t1 WHERE id IN (?)", QueryLog.shapeOf("SELECT * FROM t1 WHERE id IN (?, ?,?)"));
+    }
+
+    @Test
+    void shouldRecordCallSiteOfStatements() {
+        QueryLog queryLog = new QueryLog(true, 500, 10, false, 0);
+        List<StatementRecord> statements = new ArrayList<>();
+        queryLog.addListener(statements::add);
+
+        queryLog.record("CREATE TABLE t (id bigint)", 0, 1_000);
+        queryLog.enter(CrudRepositoryImpl.class, TestDefaultName.class, "findById");
+        queryLog.record("SELECT * FROM t WHERE id = ?", 1, 2_000);
+        queryLog.exit();
+
+        assertEquals(2, statements.size());
+        assertNull(statements.get(0).method());
+        assertEquals("findById", statements.get(1).method());
+        assertEquals(TestDefaultName.class, statements.get(1).entityClass());
+        assertEquals(1, statements.get(1).parameterCount());
+    }
+
+    @Test
+    void shouldFailOnRepeatedStatementShapeInStrictMode() {
+        QueryLog queryLog = new QueryLog(true, 500, 3, true, 0);
+
+        queryLog.enter(CrudRepositoryImpl.class, TestDefaultName.class, "findAll");
+        queryLog.enter(CrudRepositoryImpl.class, TestDefaultName.class, "loadRelationships");
+        for (int i = 0; i < 3; i++) {
+            queryLog.record("SELECT * FROM t WHERE id = " + i, 0, 1_000);
+        }
+        assertThrows(NPlusOneQueryException.class, () -> queryLog.record("SELECT * FROM t WHERE id = 3", 0, 1_000));
+        queryLog.exit();
+        queryLog.exit();
+
+        queryLog.enter(CrudRepositoryImpl.class, TestDefaultName.class, "findAll");
+        assertDoesNotThrow(() -> queryLog.record("SELECT * FROM t WHERE id = 4", 0, 1_000));
+        queryLog.exit();
+    }
+
+    @Test
+    void shouldNotCountWritesOrQueriesOutsideRelationshipLoaders() {
+        QueryLog queryLog = new QueryLog(true, 500, 3, true, 0);
+
+        queryLog.enter(CrudRepositoryImpl.class, TestDefaultName.class, "saveAll");
+        queryLog.enter(CrudRepositoryImpl.class, TestDefaultName.class, QueryLog.LOAD_RELATIONSHIPS);
+        for (int i = 0; i < 5; i++) {
+            int id = i;
+            assertDoesNotThrow(() -> queryLog.record("INSERT INTO t (id) VALUES (" + id + ")", 0, 1_000));
+        }
+        queryLog.exit();
+        for (int i = 0; i < 5; i++) {
+            int id = i;
+            assertDoesNotThrow(() -> queryLog.record("SELECT * FROM t WHERE id = " + id, 0, 1_000));
+        }
+        queryLog.exit();
+    }
+}
@@ -0,0 +1,168 @@
+package pl.kielce.tu.orm.repository.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.kielce.tu.orm.annotations.Entity;
+import pl.kielce.tu.orm.annotations.Id;
+import pl.kielce.tu.orm.config.ORMConfiguration;
+import pl.kielce.tu.orm.connector.DatabaseConnector;
+import pl.kielce.tu.orm.repository.AsyncCrudRepository;
+import pl.kielce.tu.orm.repository.CrudRepository;
+import pl.kielce.tu.orm.repository.RepositoryFactory;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AsyncCrudRepositoryImplTest {
+    private DatabaseConnector connector;
+    private int available;
+
+    @BeforeEach
+    void setUp() {
+        connector = TestDatabase.initialize();
+        TestDatabase.execute("DELETE FROM async_task");
+        available = connector.getAvailableConnections();
+    }
+
+    @Test
+    void shouldSaveAndFindOnVirtualThreads() throws Exception {
+        AsyncCrudRepositoryImpl<Task, Long> repository = new AsyncCrudRepositoryImpl<>(new CrudRepositoryImpl<>(Task.class));
+
+        Task saved = repository.save(new Task("report")).get(5, TimeUnit.SECONDS);
+        Task found = repository.findById(saved.id).get(5, TimeUnit.SECONDS).orElseThrow();
+
+        assertEquals("report", found.name);
+        assertEquals(1L, repository.count().get(5, TimeUnit.SECONDS));
+        assertEquals(available, connector.getAvailableConnections());
+        assertNull(connector.getBoundConnection());
+    }
+
+    @Test
+    void shouldReleaseConnectionWhenOperationFails() {
+        AsyncCrudRepositoryImpl<Task, Long> repository = new AsyncCrudRepositoryImpl<>(new CrudRepositoryImpl<>(Task.class));
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> repository.findById(null).get(5, TimeUnit.SECONDS));
+
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        assertEquals(available, connector.getAvailableConnections());
+    }
+
+    @Test
+    void shouldLimitConcurrencyAndGiveEachOperationItsOwnConnection() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicBoolean sharedConnection = new AtomicBoolean();
+        Set<Connection> connectionsInUse = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+        CountDownLatch release = new CountDownLatch(1);
+
+        CrudRepository<Task, Long> blocking = repository((method, args) -> {
+            Connection connection = connector.getBoundConnection();
+            if (connection == null || !connectionsInUse.add(connection)) {
+                sharedConnection.set(true);
+            }
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } finally {
+                running.decrementAndGet();
+                connectionsInUse.remove(connection);
+            }
+            return 0L;
+        });
+        AsyncCrudRepositoryImpl<Task, Long> repository = new AsyncCrudRepositoryImpl<>(blocking, 2);
+
+        List<CompletableFuture<Long>> counts = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            counts.add(repository.count());
+        }
+        awaitRunning(running, 2);
+        Thread.sleep(100);
+        assertEquals(2, running.get());
+        assertEquals(available - 2, connector.getAvailableConnections());
+
+        release.countDown();
+        CompletableFuture.allOf(counts.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, maxRunning.get());
+        assertFalse(sharedConnection.get());
+        assertEquals(available, connector.getAvailableConnections());
+    }
+
+    @Test
+    void shouldUnbindConnectionAfterEachOperation() throws Exception {
+        AtomicReference<Connection> used = new AtomicReference<>();
+        AsyncCrudRepositoryImpl<Task, Long> repository = new AsyncCrudRepositoryImpl<>(repository((method, args) -> {
+            used.set(connector.getBoundConnection());
+            throw new IllegalStateException("failed");
+        }), 1);
+
+        assertThrows(ExecutionException.class, () -> repository.count().get(5, TimeUnit.SECONDS));
+
+        AtomicReference<Connection> seenAfterwards = new AtomicReference<>(used.get());
+        Thread.ofVirtual().start(() -> seenAfterwards.set(connector.getBoundConnection())).join();
+        assertNull(seenAfterwards.get());
+        assertNull(connector.getBoundConnection());
+        assertEquals(available, connector.getAvailableConnections());
+    }
+
+    @Test
+    void shouldCreateAsyncRepositoryWithConfiguredConcurrency() {
+        ORMConfiguration.getInstance().addProperty("async.maxConcurrency.Task", "3");
+
+        AsyncCrudRepository<Task, Long> repository = RepositoryFactory.getInstance().getAsyncRepositoryForEntity(Task.class);
+
+        assertSame(repository, RepositoryFactory.getInstance().getAsyncRepositoryForEntity(Task.class));
+        assertEquals(3, ((AsyncCrudRepositoryImpl<Task, Long>) repository).getMaxConcurrency());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CrudRepository<Task, Long> repository(Operation operation) {
+        return (CrudRepository<Task, Long>) Proxy.newProxyInstance(CrudRepository.class.getClassLoader(),
+                new Class<?>[] {CrudRepository.class}, (proxy, method, args) -> operation.invoke(method.getName(), args));
+    }
+
+    private static void awaitRunning(AtomicInteger running, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (running.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        Object invoke(String method, Object[] args) throws Exception;
+    }
+
+    @Entity(name = "async_task")
+    static class Task {
+        @Id
+        private Long id;
+        private String name;
+
+        Task() {}
+
+        Task(String name) {
+            this.name = name;
+        }
+    }
+}
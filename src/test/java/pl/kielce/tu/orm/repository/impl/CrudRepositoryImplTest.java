@@ -1,57 +1,63 @@
 package pl.kielce.tu.orm.repository.impl;
 
 import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import pl.kielce.tu.orm.annotations.Entity;
 import pl.kielce.tu.orm.annotations.Id;
 import pl.kielce.tu.orm.annotations.OneToOne;
-import pl.kielce.tu.orm.connector.DatabaseConnector;
-import pl.kielce.tu.orm.dialects.PostgreSQLDialect;
-import pl.kielce.tu.orm.initializer.DatabaseInitializer;
+import pl.kielce.tu.orm.config.ORMConfiguration;
+import pl.kielce.tu.orm.metrics.QueryLog;
 
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class CrudRepositoryImplTest {
 
     private CrudRepositoryImpl<ParentEntity, Long> parentRepository;
     private CrudRepositoryImpl<ChildEntity, Long> childRepository;
-    private DatabaseConnector databaseConnector;
 
     @BeforeEach
-    void setUp() throws SQLException {
-        // Initialize database with connection parameters
-        DatabaseInitializer.initialize(
-            "jdbc:postgresql://localhost:5432/test",
-            "postgres",
-            "postgres",
-            "org.postgresql.Driver",
-                new PostgreSQLDialect()
-        );
-
-        // Get database connection
-        databaseConnector = DatabaseConnector.getInstance();
-        Connection connection = databaseConnector.getConnection();
-
-        // Drop tables if they exist
-        try (PreparedStatement statement = connection.prepareStatement("DROP TABLE IF EXISTS child_entity")) {
-            statement.executeUpdate();
-        }
-        try (PreparedStatement statement = connection.prepareStatement("DROP TABLE IF EXISTS parent_entity")) {
-            statement.executeUpdate();
-        }
+    void setUp() {
+        TestDatabase.initialize();
+        // The two tables reference each other
+        TestDatabase.execute("SET REFERENTIAL_INTEGRITY FALSE", "DELETE FROM child_entity", "DELETE FROM parent_entity",
+                "SET REFERENTIAL_INTEGRITY TRUE");
 
-        // Create repositories
         parentRepository = new CrudRepositoryImpl<>(ParentEntity.class);
         childRepository = new CrudRepositoryImpl<>(ChildEntity.class);
     }
 
     @Test
-    @Disabled
+    void shouldRejectPrimitiveGeneratedId() {
+        assertThrows(IllegalArgumentException.class, () -> new CrudRepositoryImpl<>(PrimitiveIdEntity.class));
+    }
+
+    @Test
+    void shouldSaveManyEntitiesWithStrictQueryLog() {
+        ORMConfiguration.getInstance().addProperty("queryLog.strict", "true");
+        QueryLog.reload();
+        try {
+            // More inserts than the default N+1 threshold of 10
+            List<ParentEntity> parents = new ArrayList<>();
+            for (int i = 0; i < 11; i++) {
+                ParentEntity parent = new ParentEntity();
+                parent.setName("Parent " + i);
+                parents.add(parent);
+            }
+
+            assertEquals(11, parentRepository.saveAll(parents).size());
+            assertEquals(11, parentRepository.count());
+        } finally {
+            ORMConfiguration.getInstance().addProperty("queryLog.strict", "false");
+            QueryLog.reload();
+        }
+    }
+
+    @Test
     void testOneToOneRelationship() {
         // Create parent and child
         ParentEntity parent = new ParentEntity();
@@ -62,19 +68,20 @@ public class CrudRepositoryImplTest {
         child.setId(1L);
         child.setName("Child 1");
 
-        // Set relationships
-        parent.setChild(child);
-        child.setParent(parent);
+        // Save child first, each side references a row that must already exist
+        ChildEntity savedChild = childRepository.save(child);
+        assertNotNull(savedChild);
+        assertNotNull(savedChild.getId());
 
-        // Save parent first
+        // Save parent referencing the child
+        parent.setChild(child);
         ParentEntity savedParent = parentRepository.save(parent);
         assertNotNull(savedParent);
         assertNotNull(savedParent.getId());
 
-        // Save child
-        ChildEntity savedChild = childRepository.save(child);
-        assertNotNull(savedChild);
-        assertNotNull(savedChild.getId());
+        // Link child back to parent
+        child.setParent(parent);
+        savedChild = childRepository.save(child);
         assertNotNull(savedChild.getParent());
 
         // Verify relationships
@@ -152,4 +159,11 @@ public class CrudRepositoryImplTest {
             this.parent = parent;
         }
     }
+
+    @Entity(name = "primitive_id_entity")
+    static class PrimitiveIdEntity {
+        @Id
+        private long id;
+        private String name;
+    }
 }
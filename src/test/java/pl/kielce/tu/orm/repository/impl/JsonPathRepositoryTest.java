@@ -0,0 +1,94 @@
+package pl.kielce.tu.orm.repository.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.kielce.tu.orm.annotations.Column;
+import pl.kielce.tu.orm.annotations.Entity;
+import pl.kielce.tu.orm.annotations.Id;
+import pl.kielce.tu.orm.annotations.Json;
+import pl.kielce.tu.orm.config.ORMConfiguration;
+import pl.kielce.tu.orm.connector.DatabaseConnector;
+import pl.kielce.tu.orm.dialects.H2Dialect;
+import pl.kielce.tu.orm.dialects.SQLiteDialect;
+import pl.kielce.tu.orm.json.JsonDocument;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * H2 has no JSON path operators, so the finder runs on an in-memory SQLite connection bound to the test thread.
+ */
+class JsonPathRepositoryTest {
+    private DatabaseConnector connector;
+    private Connection connection;
+    private CrudRepositoryImpl<Profile, Long> repository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connector = TestDatabase.initialize();
+        connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("CREATE TABLE json_profile (id integer PRIMARY KEY, name text NOT NULL, attributes text)");
+            statement.executeUpdate("INSERT INTO json_profile VALUES " +
+                    "(1, 'Jan', '{\"address\": {\"city\": \"Kielce\"}, \"tags\": [\"admin\", \"user\"], \"qty\": 5}'), " +
+                    "(2, 'Anna', '{\"address\": {\"city\": \"Warszawa\"}, \"tags\": [\"user\", \"admin\"], \"qty\": 12}')");
+        }
+        ORMConfiguration.getInstance().setDialect(new SQLiteDialect());
+        connector.bindConnection(connection);
+        repository = new CrudRepositoryImpl<>(Profile.class);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connector.unbindConnection();
+        connection.close();
+        ORMConfiguration.getInstance().setDialect(new H2Dialect());
+    }
+
+    @Test
+    void shouldFindByNestedKey() {
+        List<Profile> profiles = repository.findAllByJsonPath("attributes", "address.city", "Kielce");
+
+        assertEquals(List.of("Jan"), profiles.stream().map(profile -> profile.name).toList());
+    }
+
+    @Test
+    void shouldIndexArraysWithNumericKeys() {
+        List<Profile> profiles = repository.findAllByJsonPath("attributes", "tags.0", "admin");
+
+        assertEquals(List.of("Jan"), profiles.stream().map(profile -> profile.name).toList());
+    }
+
+    @Test
+    void shouldCompareNumbersAsText() {
+        List<Profile> profiles = repository.findAllByJsonPath("attributes", "qty", "5");
+
+        assertEquals(List.of("Jan"), profiles.stream().map(profile -> profile.name).toList());
+    }
+
+    @Test
+    void shouldRejectDialectsWithoutJsonPaths() {
+        ORMConfiguration.getInstance().setDialect(new H2Dialect());
+
+        assertThrows(UnsupportedOperationException.class,
+                () -> repository.findAllByJsonPath("attributes", "address.city", "Kielce"));
+    }
+
+    @Entity(name = "json_profile")
+    static class Profile {
+        @Id
+        private Long id;
+        private String name;
+        @Json
+        @Column(nullable = true)
+        private JsonDocument attributes;
+
+        Profile() {}
+    }
+}
@@ -0,0 +1,90 @@
+package pl.kielce.tu.orm.repository.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.kielce.tu.orm.annotations.Entity;
+import pl.kielce.tu.orm.annotations.Id;
+import pl.kielce.tu.orm.annotations.Lob;
+import pl.kielce.tu.orm.connector.DatabaseConnector;
+import pl.kielce.tu.orm.lob.LazyBinaryStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LobRepositoryTest {
+    private DatabaseConnector connector;
+    private CrudRepositoryImpl<Attachment, Long> repository;
+
+    @BeforeEach
+    void setUp() {
+        connector = TestDatabase.initialize();
+        TestDatabase.execute("DELETE FROM lob_attachment");
+        repository = new CrudRepositoryImpl<>(Attachment.class);
+    }
+
+    @Test
+    void shouldLoadLobOnFirstRead() throws Exception {
+        Attachment attachment = repository.save(new Attachment("report", "first"));
+        int available = connector.getAvailableConnections();
+
+        Attachment loaded = repository.findById(attachment.id).orElseThrow();
+        TestDatabase.execute("UPDATE lob_attachment SET content = X'7365636f6e64' WHERE id = " + attachment.id);
+
+        LazyBinaryStream content = (LazyBinaryStream) loaded.content;
+        assertFalse(content.isOpened());
+        assertEquals(available, connector.getAvailableConnections());
+        try (InputStream stream = loaded.content) {
+            assertEquals("second", new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+            assertTrue(content.isOpened());
+        }
+    }
+
+    @Test
+    void shouldKeepUnreadLobOnUpdate() throws Exception {
+        Attachment attachment = repository.save(new Attachment("report", "content"));
+
+        Attachment loaded = repository.findById(attachment.id).orElseThrow();
+        loaded.name = "renamed";
+        repository.save(loaded);
+
+        Attachment updated = repository.findById(attachment.id).orElseThrow();
+        assertEquals("renamed", updated.name);
+        try (InputStream stream = updated.content) {
+            assertEquals("content", new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void shouldReleasePooledConnectionOnClose() throws Exception {
+        Attachment attachment = repository.save(new Attachment("report", "content"));
+        Attachment loaded = repository.findById(attachment.id).orElseThrow();
+        int available = connector.getAvailableConnections();
+
+        assertEquals('c', loaded.content.read());
+        assertEquals(available - 1, connector.getAvailableConnections());
+
+        loaded.content.close();
+        assertEquals(available, connector.getAvailableConnections());
+    }
+
+    @Entity(name = "lob_attachment")
+    static class Attachment {
+        @Id
+        private Long id;
+        private String name;
+        @Lob
+        private InputStream content;
+
+        Attachment() {}
+
+        Attachment(String name, String content) {
+            this.name = name;
+            this.content = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
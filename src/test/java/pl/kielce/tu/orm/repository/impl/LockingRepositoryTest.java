@@ -0,0 +1,101 @@
+package pl.kielce.tu.orm.repository.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.kielce.tu.orm.annotations.Entity;
+import pl.kielce.tu.orm.annotations.Id;
+import pl.kielce.tu.orm.exceptions.PessimisticLockException;
+import pl.kielce.tu.orm.transaction.TransactionManager;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LockingRepositoryTest {
+    private CrudRepositoryImpl<Job, Long> repository;
+
+    @BeforeEach
+    void setUp() {
+        TestDatabase.initialize();
+        TestDatabase.execute("DELETE FROM locking_job",
+                "INSERT INTO locking_job (id, name) VALUES (1, 'a'), (2, 'b'), (3, 'c'), (4, 'd')");
+        repository = new CrudRepositoryImpl<>(Job.class);
+    }
+
+    @Test
+    void shouldRequireTransactionForRowLocks() {
+        assertThrows(IllegalStateException.class, () -> repository.findByIdForUpdate(1L));
+        assertThrows(IllegalStateException.class, () -> repository.findAllForUpdate(10, true));
+        assertThrows(IllegalStateException.class, () -> repository.findAllForUpdateNoWait(10));
+    }
+
+    @Test
+    void shouldClaimDisjointRowsWithSkipLocked() throws Exception {
+        CountDownLatch firstClaimed = new CountDownLatch(1);
+        CountDownLatch secondClaimed = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<List<Job>> first = executor.submit(() -> TransactionManager.execute(() -> {
+                List<Job> jobs = repository.findAllForUpdate(2, true);
+                firstClaimed.countDown();
+                assertTrue(secondClaimed.await(5, TimeUnit.SECONDS));
+                return jobs;
+            }));
+            Future<List<Job>> second = executor.submit(() -> {
+                assertTrue(firstClaimed.await(5, TimeUnit.SECONDS));
+                return TransactionManager.execute(() -> {
+                    List<Job> jobs = repository.findAllForUpdate(2, true);
+                    secondClaimed.countDown();
+                    return jobs;
+                });
+            });
+
+            Set<Long> claimed = new HashSet<>();
+            first.get(10, TimeUnit.SECONDS).forEach(job -> claimed.add(job.id));
+            second.get(10, TimeUnit.SECONDS).forEach(job -> claimed.add(job.id));
+
+            assertEquals(Set.of(1L, 2L, 3L, 4L), claimed);
+        }
+    }
+
+    @Test
+    void shouldFailFastOnLockedRowWithNoWait() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch attempted = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<?> holder = executor.submit(() -> TransactionManager.execute(() -> {
+                repository.findByIdForUpdate(1L);
+                locked.countDown();
+                return attempted.await(5, TimeUnit.SECONDS);
+            }));
+
+            try {
+                assertTrue(locked.await(5, TimeUnit.SECONDS));
+                assertThrows(PessimisticLockException.class,
+                        () -> TransactionManager.execute(() -> repository.findByIdForUpdateNoWait(1L)));
+            } finally {
+                attempted.countDown();
+            }
+            holder.get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Entity(name = "locking_job")
+    static class Job {
+        @Id
+        private Long id;
+        private String name;
+
+        Job() {}
+    }
+}
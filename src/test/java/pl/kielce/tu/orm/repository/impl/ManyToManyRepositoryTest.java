@@ -1,18 +1,11 @@
 package pl.kielce.tu.orm.repository.impl;
 
 import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import pl.kielce.tu.orm.annotations.Entity;
 import pl.kielce.tu.orm.annotations.Id;
 import pl.kielce.tu.orm.annotations.ManyToMany;
-import pl.kielce.tu.orm.connector.DatabaseConnector;
-import pl.kielce.tu.orm.dialects.PostgreSQLDialect;
-import pl.kielce.tu.orm.initializer.DatabaseInitializer;
 
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -24,41 +17,18 @@ public class ManyToManyRepositoryTest {
 
     private CrudRepositoryImpl<FirstEntity, Long> firstRepository;
     private CrudRepositoryImpl<SecondEntity, Long> secondRepository;
-    private DatabaseConnector databaseConnector;
 
     @BeforeEach
-    void setUp() throws SQLException {
-        // Initialize database with connection parameters
-        DatabaseInitializer.initialize(
-            "jdbc:postgresql://localhost:5432/test",
-            "postgres",
-            "postgres",
-            "org.postgresql.Driver",
-                new PostgreSQLDialect()
-        );
-
-        // Get database connection
-        databaseConnector = DatabaseConnector.getInstance();
-        Connection connection = databaseConnector.getConnection();
-
-        // Drop tables if they exist
-        try (PreparedStatement statement = connection.prepareStatement("DROP TABLE IF EXISTS first_entity_second_entity")) {
-            statement.executeUpdate();
-        }
-        try (PreparedStatement statement = connection.prepareStatement("DROP TABLE IF EXISTS first_entity")) {
-            statement.executeUpdate();
-        }
-        try (PreparedStatement statement = connection.prepareStatement("DROP TABLE IF EXISTS second_entity")) {
-            statement.executeUpdate();
-        }
+    void setUp() {
+        TestDatabase.initialize();
+        TestDatabase.execute("DELETE FROM first_entity_second_entity", "DELETE FROM first_entity",
+                "DELETE FROM second_entity");
 
-        // Create repositories
         firstRepository = new CrudRepositoryImpl<>(FirstEntity.class);
         secondRepository = new CrudRepositoryImpl<>(SecondEntity.class);
     }
 
     @Test
-    @Disabled
     void testManyToManyRelationship() {
         // Create first entities
         FirstEntity first1 = new FirstEntity();
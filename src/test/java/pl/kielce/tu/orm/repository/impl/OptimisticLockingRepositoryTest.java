@@ -0,0 +1,81 @@
+package pl.kielce.tu.orm.repository.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.kielce.tu.orm.annotations.Column;
+import pl.kielce.tu.orm.annotations.Entity;
+import pl.kielce.tu.orm.annotations.Id;
+import pl.kielce.tu.orm.annotations.Version;
+import pl.kielce.tu.orm.exceptions.OptimisticLockException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OptimisticLockingRepositoryTest {
+    private CrudRepositoryImpl<Account, Long> repository;
+
+    @BeforeEach
+    void setUp() {
+        TestDatabase.initialize();
+        TestDatabase.execute("DELETE FROM versioned_account");
+        repository = new CrudRepositoryImpl<>(Account.class);
+    }
+
+    @Test
+    void shouldIncrementVersionOnUpdate() {
+        Account account = repository.save(new Account("Jan", "first"));
+        assertEquals(0L, account.version);
+
+        account.owner = "Anna";
+        repository.save(account);
+
+        Account stored = repository.findById(account.id).orElseThrow();
+        assertEquals(1L, account.version);
+        assertEquals(1L, stored.version);
+        assertEquals("Anna", stored.owner);
+    }
+
+    @Test
+    void shouldRejectStaleVersion() {
+        Account account = repository.save(new Account("Jan", "first"));
+        Account first = repository.findById(account.id).orElseThrow();
+        Account second = repository.findById(account.id).orElseThrow();
+
+        first.owner = "Anna";
+        repository.save(first);
+        second.owner = "Piotr";
+
+        assertThrows(OptimisticLockException.class, () -> repository.save(second));
+        Account stored = repository.findById(account.id).orElseThrow();
+        assertEquals("Anna", stored.owner);
+        assertEquals(1L, stored.version);
+    }
+
+    @Test
+    void shouldKeepStoredValueOfNullFieldOnUpdate() {
+        Account account = repository.save(new Account("Jan", "first"));
+
+        account.note = null;
+        repository.save(account);
+
+        assertEquals("first", repository.findById(account.id).orElseThrow().note);
+    }
+
+    @Entity(name = "versioned_account")
+    static class Account {
+        @Id
+        private Long id;
+        @Version
+        private Long version;
+        private String owner;
+        @Column(nullable = true)
+        private String note;
+
+        Account() {}
+
+        Account(String owner, String note) {
+            this.owner = owner;
+            this.note = note;
+        }
+    }
+}
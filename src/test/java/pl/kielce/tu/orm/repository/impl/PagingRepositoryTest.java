@@ -0,0 +1,129 @@
+package pl.kielce.tu.orm.repository.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.kielce.tu.orm.annotations.Column;
+import pl.kielce.tu.orm.annotations.EnumType;
+import pl.kielce.tu.orm.annotations.Enumerated;
+import pl.kielce.tu.orm.annotations.Entity;
+import pl.kielce.tu.orm.annotations.Id;
+import pl.kielce.tu.orm.repository.paging.Page;
+import pl.kielce.tu.orm.repository.paging.Pageable;
+import pl.kielce.tu.orm.repository.paging.Slice;
+import pl.kielce.tu.orm.repository.paging.Sort;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PagingRepositoryTest {
+    private CrudRepositoryImpl<Task, Long> repository;
+    private List<Task> tasks;
+
+    @BeforeEach
+    void setUp() {
+        TestDatabase.initialize();
+        TestDatabase.execute("DELETE FROM paged_task");
+        repository = new CrudRepositoryImpl<>(Task.class);
+
+        tasks = new ArrayList<>();
+        tasks.add(repository.save(new Task(2, Status.OPEN)));
+        tasks.add(repository.save(new Task(1, Status.DONE)));
+        tasks.add(repository.save(new Task(2, Status.OPEN)));
+        tasks.add(repository.save(new Task(2, Status.DONE)));
+        tasks.add(repository.save(new Task(1, Status.OPEN)));
+        tasks.add(repository.save(new Task(null, Status.OPEN)));
+    }
+
+    @Test
+    void shouldPageThroughTiesInSortOrder() {
+        List<Long> expected = ids(tasks.stream()
+                .filter(task -> task.priority != null)
+                .sorted(Comparator.comparing((Task task) -> task.priority).thenComparing(task -> task.id))
+                .toList());
+
+        assertEquals(expected, collectIds(Sort.by("priority")));
+    }
+
+    @Test
+    void shouldPageThroughTiesInDescendingOrder() {
+        List<Long> expected = ids(tasks.stream()
+                .filter(task -> task.priority != null)
+                .sorted(Comparator.comparing((Task task) -> task.priority).thenComparing(task -> task.id).reversed())
+                .toList());
+
+        assertEquals(expected, collectIds(Sort.by("priority", Sort.Direction.DESC)));
+    }
+
+    @Test
+    void shouldBindConvertedSortValues() {
+        List<Long> expected = ids(tasks.stream()
+                .sorted(Comparator.comparing((Task task) -> task.status.name()).thenComparing(task -> task.id))
+                .toList());
+
+        assertEquals(expected, collectIds(Sort.by("status")));
+    }
+
+    @Test
+    void shouldEndWithEmptyLastPage() {
+        Pageable pageable = Pageable.of(0, 2, Sort.by("id"));
+        List<Long> pagedIds = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++) {
+            Page<Task> page = repository.findPage(pageable);
+            assertEquals(6, page.totalElements());
+            assertEquals(i < 2, page.hasNext());
+            pagedIds.addAll(ids(page.content()));
+            pageable = pageable.next();
+        }
+
+        Page<Task> lastPage = repository.findPage(pageable);
+        assertTrue(lastPage.isEmpty());
+        assertFalse(lastPage.hasNext());
+        assertEquals(6, lastPage.totalElements());
+        assertEquals(ids(tasks), pagedIds);
+    }
+
+    private List<Long> collectIds(Sort sort) {
+        List<Long> result = new ArrayList<>();
+        Slice<Task> slice = repository.findAfter(null, 2, sort);
+        result.addAll(ids(slice.content()));
+
+        while (slice.hasNext()) {
+            slice = repository.findAfter(slice.lastKey(), 2, sort);
+            result.addAll(ids(slice.content()));
+        }
+
+        return result;
+    }
+
+    private static List<Long> ids(List<Task> tasks) {
+        return tasks.stream().map(task -> task.id).toList();
+    }
+
+    enum Status {
+        OPEN, DONE
+    }
+
+    @Entity(name = "paged_task")
+    static class Task {
+        @Id
+        private Long id;
+        @Column(nullable = true)
+        private Integer priority;
+        @Enumerated(EnumType.STRING)
+        private Status status;
+
+        Task() {
+        }
+
+        Task(Integer priority, Status status) {
+            this.priority = priority;
+            this.status = status;
+        }
+    }
+}
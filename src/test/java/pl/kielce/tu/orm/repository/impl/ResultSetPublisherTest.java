@@ -0,0 +1,153 @@
+package pl.kielce.tu.orm.repository.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.kielce.tu.orm.connector.DatabaseConnector;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResultSetPublisherTest {
+    private static final String SELECT = "SELECT id FROM publisher_row ORDER BY id";
+
+    private DatabaseConnector connector;
+    private int available;
+
+    @BeforeEach
+    void setUp() {
+        connector = TestDatabase.initialize();
+        TestDatabase.execute("CREATE TABLE IF NOT EXISTS publisher_row (id integer PRIMARY KEY)",
+                "DELETE FROM publisher_row",
+                "INSERT INTO publisher_row VALUES (1), (2), (3), (4), (5)");
+        available = connector.getAvailableConnections();
+    }
+
+    @Test
+    void shouldDeliverOnlyRequestedRows() throws Exception {
+        TestSubscriber subscriber = new TestSubscriber();
+        new ResultSetPublisher<>(SELECT, null, resultSet -> resultSet.getInt(1)).subscribe(subscriber);
+
+        subscriber.subscription.request(2);
+        subscriber.awaitItems(2);
+        Thread.sleep(100);
+
+        assertEquals(List.of(1, 2), subscriber.items);
+        assertEquals(0, subscriber.completions.get());
+
+        subscriber.subscription.request(2);
+        subscriber.awaitItems(4);
+        Thread.sleep(100);
+
+        assertEquals(List.of(1, 2, 3, 4), subscriber.items);
+        subscriber.subscription.cancel();
+        awaitConnectionsReleased();
+    }
+
+    @Test
+    void shouldCompleteExactlyOnce() throws Exception {
+        TestSubscriber subscriber = new TestSubscriber();
+        new ResultSetPublisher<>(SELECT, null, resultSet -> resultSet.getInt(1)).subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertTrue(subscriber.terminated.await(5, TimeUnit.SECONDS));
+        subscriber.subscription.request(1);
+        Thread.sleep(100);
+
+        assertEquals(List.of(1, 2, 3, 4, 5), subscriber.items);
+        assertEquals(1, subscriber.completions.get());
+        awaitConnectionsReleased();
+    }
+
+    @Test
+    void shouldCloseCursorAndReleaseConnectionOnCancel() throws Exception {
+        AtomicReference<ResultSet> cursor = new AtomicReference<>();
+        TestSubscriber subscriber = new TestSubscriber();
+        new ResultSetPublisher<>(SELECT, null, resultSet -> {
+            cursor.set(resultSet);
+            return resultSet.getInt(1);
+        }).subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        subscriber.awaitItems(1);
+        assertEquals(available - 1, connector.getAvailableConnections());
+
+        subscriber.subscription.cancel();
+
+        awaitConnectionsReleased();
+        assertTrue(cursor.get().isClosed());
+        assertEquals(0, subscriber.completions.get());
+    }
+
+    @Test
+    void shouldSignalErrorWhenQueryFails() throws Exception {
+        TestSubscriber subscriber = new TestSubscriber();
+        new ResultSetPublisher<>("SELECT id FROM missing_table", null, resultSet -> resultSet.getInt(1))
+                .subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+
+        assertTrue(subscriber.terminated.await(5, TimeUnit.SECONDS));
+        assertInstanceOf(SQLException.class, subscriber.error.get());
+        assertEquals(0, subscriber.completions.get());
+        awaitConnectionsReleased();
+    }
+
+    private void awaitConnectionsReleased() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (connector.getAvailableConnections() != available && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(available, connector.getAvailableConnections());
+    }
+
+    private static class TestSubscriber implements Flow.Subscriber<Integer> {
+        private final List<Integer> items = new CopyOnWriteArrayList<>();
+        private final AtomicInteger completions = new AtomicInteger();
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+        private final CountDownLatch terminated = new CountDownLatch(1);
+        private Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error.set(throwable);
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completions.incrementAndGet();
+            terminated.countDown();
+        }
+
+        private void awaitItems(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (items.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertEquals(count, items.size());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package pl.kielce.tu.orm.repository.impl;
+
+import pl.kielce.tu.orm.cache.EntitiesWithFK;
+import pl.kielce.tu.orm.cache.ManyToManyTables;
+import pl.kielce.tu.orm.config.ORMConfiguration;
+import pl.kielce.tu.orm.connector.DatabaseConnector;
+import pl.kielce.tu.orm.dialects.H2Dialect;
+import pl.kielce.tu.orm.initializer.DatabaseInitializer;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * In-memory H2 database shared by the repository tests. The schema is created once, from the entities in this
+ * package and below, so the tests only clear the tables they use.
+ */
+public final class TestDatabase {
+    public static final String CONNECTION_STRING = "jdbc:h2:mem:orm;MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+
+    private static boolean initialized;
+
+    private TestDatabase() {}
+
+    /**
+     * Relationship caches filled by other tests are cleared before the schema is created.
+     */
+    public static synchronized DatabaseConnector initialize() {
+        if (!initialized) {
+            EntitiesWithFK.getInstance().clear();
+            ManyToManyTables.getInstance().clear();
+            ORMConfiguration.getInstance().addProperty("entitiesPackage", TestDatabase.class.getPackageName());
+            DatabaseInitializer.initialize(CONNECTION_STRING, "sa", "", "org.h2.Driver", new H2Dialect());
+            initialized = true;
+        }
+        ORMConfiguration.getInstance().setDialect(new H2Dialect());
+
+        return DatabaseConnector.getInstance();
+    }
+
+    public static void execute(String... statements) {
+        try (Statement statement = initialize().getConnection().createStatement()) {
+            for (String sql : statements) {
+                statement.executeUpdate(sql);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot execute test statements", e);
+        }
+    }
+
+    public static Connection getConnection() {
+        return initialize().getConnection();
+    }
+}
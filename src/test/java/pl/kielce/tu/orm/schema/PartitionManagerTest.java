@@ -0,0 +1,47 @@
+package pl.kielce.tu.orm.schema;
+
+import org.junit.jupiter.api.Test;
+import pl.kielce.tu.orm.annotations.Partitioned;
+import pl.kielce.tu.orm.annotations.processors.db.partitioned.Invoice;
+import pl.kielce.tu.orm.dialects.H2Dialect;
+import pl.kielce.tu.orm.dialects.PostgreSQLDialect;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PartitionManagerTest {
+    private final PartitionManager partitionManager = new PartitionManager(new PostgreSQLDialect());
+
+    @Test
+    void shouldPreCreateCurrentAndUpcomingMonthlyPartitionsAndDefaultPartition() {
+        List<String> statements = partitionManager.getCreateStatements(Invoice.class, LocalDate.of(2024, 12, 15));
+
+        assertEquals(List.of(
+                "CREATE TABLE IF NOT EXISTS invoice_p20241201 PARTITION OF INVOICE FOR VALUES FROM ('2024-12-01') TO ('2025-01-01');",
+                "CREATE TABLE IF NOT EXISTS invoice_p20250101 PARTITION OF INVOICE FOR VALUES FROM ('2025-01-01') TO ('2025-02-01');",
+                "CREATE TABLE IF NOT EXISTS invoice_p20250201 PARTITION OF INVOICE FOR VALUES FROM ('2025-02-01') TO ('2025-03-01');",
+                "CREATE TABLE IF NOT EXISTS invoice_default PARTITION OF INVOICE DEFAULT;"
+        ), statements);
+    }
+
+    @Test
+    void shouldRejectDialectsWithoutPartitioning() {
+        UnsupportedOperationException exception = assertThrows(UnsupportedOperationException.class,
+                () -> new PartitionManager(new H2Dialect()));
+
+        assertEquals("H2Dialect does not support table partitioning", exception.getMessage());
+    }
+
+    @Test
+    void shouldAlignPartitionStartToInterval() {
+        LocalDate date = LocalDate.of(2024, 5, 16);
+
+        assertEquals(LocalDate.of(2024, 5, 16), PartitionManager.getPartitionStart(date, Partitioned.Interval.DAY));
+        assertEquals(LocalDate.of(2024, 5, 13), PartitionManager.getPartitionStart(date, Partitioned.Interval.WEEK));
+        assertEquals(LocalDate.of(2024, 5, 1), PartitionManager.getPartitionStart(date, Partitioned.Interval.MONTH));
+        assertEquals(LocalDate.of(2024, 1, 1), PartitionManager.getPartitionStart(date, Partitioned.Interval.YEAR));
+    }
+}
@@ -0,0 +1,95 @@
+package pl.kielce.tu.orm.schema;
+
+import org.junit.jupiter.api.Test;
+import pl.kielce.tu.orm.definitions.ColumnDefinition;
+import pl.kielce.tu.orm.definitions.ConstraintDefinition;
+import pl.kielce.tu.orm.definitions.IndexDefinition;
+import pl.kielce.tu.orm.dialects.H2Dialect;
+import pl.kielce.tu.orm.dialects.PostgreSQLDialect;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SchemaDiffTest {
+    private final DatabaseSchema schema = new DatabaseSchema(
+            Map.of("users", Set.of("id", "name")),
+            Set.of("fk_users_address"));
+    private final SchemaDiff schemaDiff = new SchemaDiff(schema, new PostgreSQLDialect());
+
+    @Test
+    void shouldFindExistingTableIgnoringCase() {
+        assertTrue(schemaDiff.hasTable("USERS"));
+        assertFalse(schemaDiff.hasTable("ORDERS"));
+    }
+
+    @Test
+    void shouldAddOnlyMissingColumns() {
+        List<ColumnDefinition> columns = List.of(
+                new ColumnDefinition("id", "serial PRIMARY KEY"),
+                new ColumnDefinition("name", "varchar(255)"),
+                new ColumnDefinition("age", "integer"));
+
+        List<String> statements = schemaDiff.getMissingColumnStatements("USERS", columns);
+
+        assertEquals(List.of("ALTER TABLE USERS ADD COLUMN age integer;"), statements);
+    }
+
+    @Test
+    void shouldAddNotNullColumnsWithoutDefaultAsNullable() {
+        List<ColumnDefinition> columns = List.of(
+                new ColumnDefinition("age", "integer NOT NULL"),
+                new ColumnDefinition("role_id", "bigint NOT NULL"),
+                new ColumnDefinition("status", "varchar(255) DEFAULT 'active' NOT NULL"));
+
+        List<String> statements = schemaDiff.getMissingColumnStatements("USERS", columns);
+
+        assertEquals(List.of(
+                "ALTER TABLE USERS ADD COLUMN age integer;",
+                "ALTER TABLE USERS ADD COLUMN role_id bigint;",
+                "ALTER TABLE USERS ADD COLUMN status varchar(255) DEFAULT 'active' NOT NULL;"), statements);
+    }
+
+    @Test
+    void shouldSkipExistingConstraints() {
+        ConstraintDefinition existing = new ConstraintDefinition("USERS", "FK_USERS_ADDRESS", "ALTER TABLE USERS ...");
+        ConstraintDefinition missing = new ConstraintDefinition("USERS", "FK_USERS_ROLE", "ALTER TABLE USERS ...");
+
+        assertEquals(List.of(missing), schemaDiff.getMissingConstraints(List.of(existing, missing)));
+    }
+
+    @Test
+    void shouldAddUniqueKeyToJunctionTablesWithoutPrimaryKey() throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:schema_diff;MODE=PostgreSQL");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE keyed_junction (a_id bigint NOT NULL, b_id bigint NOT NULL, PRIMARY KEY (a_id, b_id))");
+            statement.execute("CREATE TABLE legacy_junction (a_id bigint NOT NULL, b_id bigint NOT NULL)");
+            SchemaDiff diff = new SchemaDiff(DatabaseSchema.read(connection, new H2Dialect()), new H2Dialect());
+
+            assertEquals(Optional.empty(), diff.getMissingKeyStatement(junctionKey("keyed_junction")));
+            assertEquals(Optional.empty(), diff.getMissingKeyStatement(junctionKey("new_junction")));
+            Optional<String> missingKey = diff.getMissingKeyStatement(junctionKey("legacy_junction"));
+            assertEquals(Optional.of("CREATE UNIQUE INDEX IF NOT EXISTS uq_legacy_junction ON legacy_junction (a_id, b_id);"),
+                    missingKey);
+
+            statement.execute(missingKey.get());
+            statement.execute("MERGE INTO legacy_junction (a_id, b_id) KEY (a_id, b_id) VALUES (1, 2)");
+            statement.execute("MERGE INTO legacy_junction (a_id, b_id) KEY (a_id, b_id) VALUES (1, 2)");
+            assertThrows(SQLException.class, () -> statement.execute("INSERT INTO legacy_junction VALUES (1, 2)"));
+        }
+    }
+
+    private static IndexDefinition junctionKey(String tableName) {
+        return new IndexDefinition(tableName, "uq_" + tableName, List.of("a_id", "b_id"), true, "", "btree");
+    }
+}
@@ -0,0 +1,111 @@
+package pl.kielce.tu.orm.sql;
+
+import org.junit.jupiter.api.Test;
+import pl.kielce.tu.orm.annotations.processors.db.defaultname.TestDefaultName;
+import pl.kielce.tu.orm.annotations.processors.db.lob.Document;
+import pl.kielce.tu.orm.annotations.processors.db.version.Account;
+import pl.kielce.tu.orm.dialects.PostgreSQLDialect;
+import pl.kielce.tu.orm.repository.LockMode;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SQLGeneratorTest {
+    private final PostgreSQLDialect dialect = new PostgreSQLDialect();
+    private final List<Field> fields = SQLGenerator.getFields(TestDefaultName.class);
+
+    @Test
+    void shouldListColumnsExplicitlyInSelectSQL() {
+        String sql = SQLGenerator.generateSelectSQL("TEST_DEFAULT_NAME", fields);
+
+        assertEquals("SELECT id, name, age FROM TEST_DEFAULT_NAME", sql);
+    }
+
+    @Test
+    void shouldGenerateUpdateSQLKeepingNullColumns() {
+        String sql = SQLGenerator.generateUpdateSQL("TEST_DEFAULT_NAME", fields, SQLGenerator.getIdField(TestDefaultName.class));
+
+        assertEquals("UPDATE TEST_DEFAULT_NAME SET name = COALESCE(?, name), age = COALESCE(?, age) WHERE id = ?", sql);
+    }
+
+    @Test
+    void shouldGenerateVersionedUpdateSQL() {
+        String sql = SQLGenerator.generateUpdateSQL("ACCOUNT", SQLGenerator.getFields(Account.class),
+                List.of(SQLGenerator.getIdField(Account.class)), SQLGenerator.getVersionField(Account.class));
+
+        assertEquals("UPDATE ACCOUNT SET owner = COALESCE(?, owner), version = version + 1 WHERE id = ? AND version = ?", sql);
+    }
+
+    @Test
+    void shouldGenerateSkipLockedWorkQueueSQL() {
+        String lockClause = dialect.forUpdate(LockMode.SKIP_LOCKED);
+
+        String sql = SQLGenerator.generateSelectForUpdateSQL("TEST_DEFAULT_NAME", fields, "id", dialect.limit(), lockClause);
+
+        assertEquals("SELECT id, name, age FROM TEST_DEFAULT_NAME ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED", sql);
+    }
+
+    @Test
+    void shouldGenerateNoWaitLockByIdSQL() {
+        String lockClause = dialect.forUpdate(LockMode.NOWAIT);
+
+        String sql = SQLGenerator.generateSelectByIdForUpdateSQL("TEST_DEFAULT_NAME", fields,
+                List.of(SQLGenerator.getIdField(TestDefaultName.class)), lockClause);
+
+        assertEquals("SELECT id, name, age FROM TEST_DEFAULT_NAME WHERE id = ? FOR UPDATE NOWAIT", sql);
+    }
+
+    @Test
+    void shouldGenerateHalfOpenRangeSQL() {
+        String sql = SQLGenerator.generateSelectRangeSQL("TEST_DEFAULT_NAME", fields, "age");
+
+        assertEquals("SELECT id, name, age FROM TEST_DEFAULT_NAME WHERE age >= ? AND age < ?", sql);
+    }
+
+    @Test
+    void shouldGenerateOffsetPageSQLOrderedById() {
+        String sql = SQLGenerator.generateSelectPageSQL("TEST_DEFAULT_NAME", fields, "id", "id", true, dialect.limitOffset());
+
+        assertEquals("SELECT id, name, age FROM TEST_DEFAULT_NAME ORDER BY id ASC LIMIT ? OFFSET ?", sql);
+    }
+
+    @Test
+    void shouldGenerateOffsetPageSQLWithIdAsTieBreaker() {
+        String sql = SQLGenerator.generateSelectPageSQL("TEST_DEFAULT_NAME", fields, "name", "id", false, dialect.limitOffset());
+
+        assertEquals("SELECT id, name, age FROM TEST_DEFAULT_NAME ORDER BY name DESC, id DESC LIMIT ? OFFSET ?", sql);
+    }
+
+    @Test
+    void shouldGenerateFirstKeysetSliceSQLWithoutNullSortValues() {
+        String sql = SQLGenerator.generateSelectAfterSQL("TEST_DEFAULT_NAME", fields, "name", "id", true, false, dialect.limit());
+
+        assertEquals("SELECT id, name, age FROM TEST_DEFAULT_NAME WHERE name IS NOT NULL ORDER BY name ASC, id ASC LIMIT ?", sql);
+    }
+
+    @Test
+    void shouldGenerateKeysetSQLWithRowValuePredicate() {
+        String sql = SQLGenerator.generateSelectAfterSQL("TEST_DEFAULT_NAME", fields, "name", "id", true, true, dialect.limit());
+
+        assertEquals("SELECT id, name, age FROM TEST_DEFAULT_NAME WHERE (name, id) > (?, ?) ORDER BY name ASC, id ASC LIMIT ?", sql);
+    }
+
+    @Test
+    void shouldGenerateDescendingKeysetSQLById() {
+        String sql = SQLGenerator.generateSelectAfterSQL("TEST_DEFAULT_NAME", fields, "id", "id", false, true, dialect.limit());
+
+        assertEquals("SELECT id, name, age FROM TEST_DEFAULT_NAME WHERE id < ? ORDER BY id DESC LIMIT ?", sql);
+    }
+
+    @Test
+    void shouldSelectLobColumnsSeparately() {
+        List<Field> documentFields = SQLGenerator.getFields(Document.class);
+        Field content = SQLGenerator.getLobFields(Document.class).getFirst();
+
+        assertEquals("SELECT id, title FROM DOCUMENT", SQLGenerator.generateSelectSQL("DOCUMENT", documentFields));
+        assertEquals("SELECT content FROM DOCUMENT WHERE id = ?",
+                SQLGenerator.generateSelectLobSQL("DOCUMENT", content, List.of(SQLGenerator.getIdField(Document.class))));
+    }
+}
@@ -0,0 +1,100 @@
+package pl.kielce.tu.orm.transaction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.kielce.tu.orm.connector.DatabaseConnector;
+import pl.kielce.tu.orm.repository.impl.TestDatabase;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TransactionManagerTest {
+    private DatabaseConnector connector;
+    private int available;
+
+    @BeforeEach
+    void setUp() {
+        connector = TestDatabase.initialize();
+        TestDatabase.execute("CREATE TABLE IF NOT EXISTS transaction_row (id integer PRIMARY KEY)",
+                "DELETE FROM transaction_row");
+        available = connector.getAvailableConnections();
+    }
+
+    @Test
+    void shouldCommitAndReleaseConnection() throws Exception {
+        Connection sharedConnection = TestDatabase.getConnection();
+
+        Integer result = TransactionManager.execute(() -> {
+            Connection connection = connector.getConnection();
+            assertNotSame(sharedConnection, connection);
+            assertTrue(connector.isInTransaction());
+            assertEquals(available - 1, connector.getAvailableConnections());
+            insert(1);
+            return 1;
+        });
+
+        assertEquals(1, result);
+        assertEquals(1, count());
+        assertConnectionReleased();
+    }
+
+    @Test
+    void shouldRollBackOnExceptionAndReleaseConnection() throws Exception {
+        IllegalArgumentException failure = new IllegalArgumentException("failed");
+
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> TransactionManager.run(() -> {
+            insert(1);
+            throw failure;
+        }));
+
+        assertSame(failure, thrown);
+        assertEquals(0, count());
+        assertConnectionReleased();
+    }
+
+    @Test
+    void shouldJoinOuterTransaction() throws Exception {
+        assertThrows(IllegalStateException.class, () -> TransactionManager.run(() -> {
+            Connection outer = connector.getConnection();
+            TransactionManager.run(() -> {
+                assertSame(outer, connector.getConnection());
+                insert(1);
+            });
+            assertEquals(available - 1, connector.getAvailableConnections());
+            throw new IllegalStateException("outer failed");
+        }));
+
+        assertEquals(0, count());
+        assertConnectionReleased();
+    }
+
+    private void assertConnectionReleased() {
+        assertNull(connector.getBoundConnection());
+        assertEquals(available, connector.getAvailableConnections());
+    }
+
+    private void insert(int id) {
+        try (Statement statement = connector.getConnection().createStatement()) {
+            statement.executeUpdate("INSERT INTO transaction_row VALUES (" + id + ")");
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static int count() throws SQLException {
+        try (Statement statement = TestDatabase.getConnection().createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM transaction_row")) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package pl.kielce.tu.orm.types;
+
+import org.junit.jupiter.api.Test;
+import pl.kielce.tu.orm.annotations.processors.db.types.Measurement;
+import pl.kielce.tu.orm.dialects.PostgreSQLDialect;
+import pl.kielce.tu.orm.dialects.SQLDialect;
+import pl.kielce.tu.orm.json.JsonDocument;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class TypeHandlersTest {
+    private final SQLDialect dialect = new PostgreSQLDialect();
+
+    @Test
+    void shouldStoreEnumsByOrdinalOrName() throws Exception {
+        TypeHandler ordinal = TypeHandlers.forField(Measurement.class.getDeclaredField("unit"));
+        TypeHandler name = TypeHandlers.forField(Measurement.class.getDeclaredField("displayUnit"));
+
+        assertEquals(Measurement.Unit.KELVIN, ordinal.read(resultSet((short) 1), 1));
+        assertEquals(Measurement.Unit.KELVIN, name.read(resultSet("KELVIN"), 1));
+        assertNull(name.read(resultSet((Object) null), 1));
+    }
+
+    @Test
+    void shouldReadPrimitivesIntoFields() throws Exception {
+        Measurement measurement = new Measurement();
+
+        TypeHandlers.forField(Measurement.class.getDeclaredField("sequence"))
+                .readField(resultSet(7L), 1, accessible("sequence"), measurement);
+        TypeHandlers.forField(Measurement.class.getDeclaredField("reading"))
+                .readField(resultSet(21.5), 1, accessible("reading"), measurement);
+
+        assertEquals(7L, measurement.getSequence());
+        assertEquals(21.5, measurement.getReading());
+    }
+
+    @Test
+    void shouldReadJsonAsUnparsedDocument() throws Exception {
+        TypeHandler handler = TypeHandlers.forField(Measurement.class.getDeclaredField("attributes"));
+
+        JsonDocument document = (JsonDocument) handler.read(resultSet("{\"site\": \"north\"}"), 1);
+
+        assertEquals("jsonb", handler.columnType(dialect));
+        assertFalse(document.isParsed());
+        assertEquals("north", document.getString("site"));
+    }
+
+    @Test
+    void shouldPreferRegisteredHandlers() throws Exception {
+        TypeHandler handler = TypeHandlers.forType(StringBuilder.class);
+        TypeHandlers.register(StringBuilder.class, handler);
+
+        assertSame(handler, TypeHandlers.forType(StringBuilder.class));
+        assertEquals("double precision", TypeHandlers.forType(double.class).columnType(dialect));
+    }
+
+    private static Field accessible(String name) throws NoSuchFieldException {
+        Field field = Measurement.class.getDeclaredField(name);
+        field.setAccessible(true);
+        return field;
+    }
+
+    private static ResultSet resultSet(Object value) {
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "wasNull" -> value == null;
+                    case "getShort", "getLong", "getDouble", "getString" -> value;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}